@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.benchmarks.springframework.data.rx.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Session;
+
+/**
+ * A copy of the dynamic proxy that has been wrapped around each query runner before it had been replaced by a plain
+ * delegate. It creates a new proxy and a new invocation handler with an empty method handle cache per query and is only
+ * kept as a baseline for {@link QueryRunnerBenchmarks}.
+ */
+final class LegacyProxiedQueryRunner {
+
+	interface AutoCloseableQueryRunner extends QueryRunner, AutoCloseable {
+
+		@Override void close();
+	}
+
+	static AutoCloseableQueryRunner wrap(QueryRunner queryRunner) {
+
+		return (AutoCloseableQueryRunner) Proxy.newProxyInstance(LegacyProxiedQueryRunner.class.getClassLoader(),
+			new Class<?>[] { AutoCloseableQueryRunner.class },
+			new AutoCloseableQueryRunnerHandler(queryRunner));
+	}
+
+	static class AutoCloseableQueryRunnerHandler implements InvocationHandler {
+
+		private final Map<Method, MethodHandle> cachedHandles = new ConcurrentHashMap<>();
+		private final QueryRunner target;
+
+		AutoCloseableQueryRunnerHandler(QueryRunner target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			if ("close".equals(method.getName())) {
+				if (this.target instanceof Session) {
+					((Session) this.target).close();
+				}
+				return null;
+			} else {
+				return cachedHandles.computeIfAbsent(method, this::findHandleFor).invokeWithArguments(args);
+			}
+		}
+
+		MethodHandle findHandleFor(Method method) {
+			try {
+				return MethodHandles.publicLookup().unreflect(method).bindTo(target);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	private LegacyProxiedQueryRunner() {
+	}
+}
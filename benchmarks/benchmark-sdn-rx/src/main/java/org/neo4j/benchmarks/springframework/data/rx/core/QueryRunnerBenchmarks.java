@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.benchmarks.springframework.data.rx.core;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.Neo4jClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-query overhead of wrapping the session in the imperative {@link Neo4jClient}. The driver, the
+ * session and the result are stub-only mocks, so neither benchmark needs a database and all of them pay the same price
+ * for the driver calls.
+ * <ul>
+ * <li>{@link #plainSession()} runs a query directly against the session and is the lower bound.</li>
+ * <li>{@link #legacyProxiedQueryRunner()} does the same through the former dynamic proxy.</li>
+ * <li>{@link #neo4jClient()} runs the query through the client, which now uses a plain delegate.</li>
+ * </ul>
+ * Run with {@code -prof gc} to see the allocation rate per query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryRunnerBenchmarks {
+
+	private static final String QUERY = "MATCH (n) RETURN n";
+
+	private Driver driver;
+
+	private Neo4jClient neo4jClient;
+
+	@Setup
+	public void setup() {
+
+		// Stub-only mocks don't record their invocations and therefore don't grow during a benchmark.
+		ResultSummary resultSummary = mock(ResultSummary.class, withSettings().stubOnly());
+
+		Result result = mock(Result.class, withSettings().stubOnly());
+		when(result.consume()).thenReturn(resultSummary);
+
+		Session session = mock(Session.class, withSettings().stubOnly());
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+
+		this.driver = mock(Driver.class, withSettings().stubOnly());
+		when(driver.session(any(SessionConfig.class))).thenReturn(session);
+
+		this.neo4jClient = Neo4jClient.create(driver);
+	}
+
+	@Benchmark
+	public ResultSummary plainSession() {
+
+		try (Session session = driver.session(SessionConfig.defaultConfig())) {
+			return session.run(QUERY, Collections.emptyMap()).consume();
+		}
+	}
+
+	@Benchmark
+	public ResultSummary legacyProxiedQueryRunner() {
+
+		try (LegacyProxiedQueryRunner.AutoCloseableQueryRunner queryRunner = LegacyProxiedQueryRunner
+			.wrap(driver.session(SessionConfig.defaultConfig()))) {
+			return queryRunner.run(QUERY, Collections.emptyMap()).consume();
+		}
+	}
+
+	@Benchmark
+	public ResultSummary neo4jClient() {
+
+		return neo4jClient.query(QUERY).run();
+	}
+
+	public static void main(String... args) throws RunnerException, CommandLineOptionException {
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions)
+			.include(QueryRunnerBenchmarks.class.getSimpleName());
+
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.benchmarks.springframework.data.rx.cypher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.springframework.data.core.cypher.support.Visitable;
+import org.neo4j.springframework.data.core.cypher.support.Visitor;
+
+/**
+ * A copy of the reflective visitor as it has been before dispatch tables had been introduced. It creates a new key
+ * containing the class hierarchy of the visitable on each visit and is only kept as a baseline for
+ * {@link VisitorDispatchBenchmarks}.
+ */
+abstract class LegacyReflectiveVisitor implements Visitor {
+
+	private enum Phase {
+		ENTER("enter"),
+		LEAVE("leave");
+
+		final String methodName;
+
+		Phase(String methodName) {
+			this.methodName = methodName;
+		}
+	}
+
+	private static final Map<TargetAndPhase, Optional<MethodHandle>> VISITING_METHODS_CACHE = new ConcurrentHashMap<>();
+
+	private Deque<Visitable> currentVisitedElements = new LinkedList<>();
+
+	@Override
+	public final void enter(Visitable visitable) {
+
+		currentVisitedElements.push(visitable);
+		executeConcreteMethodIn(new TargetAndPhase(this, visitable.getClass(), Phase.ENTER), visitable);
+	}
+
+	@Override
+	public final void leave(Visitable visitable) {
+
+		if (currentVisitedElements.peek() == visitable) {
+			executeConcreteMethodIn(new TargetAndPhase(this, visitable.getClass(), Phase.LEAVE), visitable);
+			currentVisitedElements.pop();
+		}
+	}
+
+	private void executeConcreteMethodIn(TargetAndPhase targetAndPhase, Visitable onVisitable) {
+		Optional<MethodHandle> optionalHandle = VISITING_METHODS_CACHE
+			.computeIfAbsent(targetAndPhase, LegacyReflectiveVisitor::findHandleFor);
+		optionalHandle.ifPresent(handle -> {
+			try {
+				handle.invoke(this, onVisitable);
+			} catch (Throwable throwable) {
+				throwable.printStackTrace();
+			}
+		});
+	}
+
+	private static Optional<MethodHandle> findHandleFor(TargetAndPhase targetAndPhase) {
+
+		for (Class<?> clazz : targetAndPhase.classHierarchyOfVisitable) {
+			try {
+				Method method = targetAndPhase.visitorClass
+					.getDeclaredMethod(targetAndPhase.phase.methodName, clazz);
+				method.setAccessible(true);
+				return Optional.of(MethodHandles.lookup().in(targetAndPhase.visitorClass).unreflect(method));
+			} catch (IllegalAccessException | NoSuchMethodException e) {
+				// Try the next parameter type in the hierarchy
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static class TargetAndPhase {
+		private final Class<? extends LegacyReflectiveVisitor> visitorClass;
+
+		private final List<Class<?>> classHierarchyOfVisitable;
+
+		private final Phase phase;
+
+		<T extends LegacyReflectiveVisitor> TargetAndPhase(T visitor, Class<? extends Visitable> concreteVisitableClass,
+			Phase phase) {
+			this.visitorClass = visitor.getClass();
+			this.phase = phase;
+			this.classHierarchyOfVisitable = new ArrayList<>();
+
+			Class<?> classOfVisitable = concreteVisitableClass;
+			do {
+				this.classHierarchyOfVisitable.add(classOfVisitable);
+				classOfVisitable = classOfVisitable.getSuperclass();
+			} while (classOfVisitable != null);
+		}
+
+		@Override public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof TargetAndPhase)) {
+				return false;
+			}
+			TargetAndPhase that = (TargetAndPhase) o;
+			return visitorClass.equals(that.visitorClass) &&
+				classHierarchyOfVisitable.equals(that.classHierarchyOfVisitable) &&
+				phase == that.phase;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(visitorClass, classHierarchyOfVisitable, phase);
+		}
+	}
+}
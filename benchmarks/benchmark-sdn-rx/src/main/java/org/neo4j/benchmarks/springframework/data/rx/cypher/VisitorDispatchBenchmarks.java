@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.benchmarks.springframework.data.rx.cypher;
+
+import static org.neo4j.springframework.data.core.cypher.Functions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Literal;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.Relationship;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.SymbolicName;
+import org.neo4j.springframework.data.core.cypher.support.ReflectiveVisitor;
+import org.neo4j.springframework.data.core.cypher.support.Visitable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares walking a Cypher AST with the precomputed dispatch tables of the {@link ReflectiveVisitor} against the
+ * former dispatch that computed a lookup key per visited element. Run with {@code -prof gc} to see the allocation rate
+ * per walk. Neither benchmark needs a database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VisitorDispatchBenchmarks {
+
+	private Statement statement;
+
+	@Setup
+	public void setup() {
+
+		Node movie = Cypher.node("Movie").named("m");
+		Node person = Cypher.node("Person").named("p");
+		Relationship actedIn = person.relationshipTo(movie, "ACTED_IN").named("r");
+
+		this.statement = Cypher.match(actedIn)
+			.where(movie.property("title").isEqualTo(Cypher.parameter("title")))
+			.and(person.property("born").gt(Cypher.literalOf(1960)))
+			.returning(movie, collect(person).as("actors"), count(actedIn).as("numberOfRoles"))
+			.orderBy(movie.property("released").descending())
+			.skip(10)
+			.limit(20)
+			.build();
+	}
+
+	@Benchmark
+	public int dispatchTables() {
+
+		CountingVisitor visitor = new CountingVisitor();
+		statement.accept(visitor);
+		return visitor.count;
+	}
+
+	@Benchmark
+	public int legacyReflectiveDispatch() {
+
+		LegacyCountingVisitor visitor = new LegacyCountingVisitor();
+		statement.accept(visitor);
+		return visitor.count;
+	}
+
+	static class CountingVisitor extends ReflectiveVisitor {
+
+		int count;
+
+		@Override
+		protected boolean preEnter(Visitable visitable) {
+			return true;
+		}
+
+		@Override
+		protected void postLeave(Visitable visitable) {
+		}
+
+		void enter(Node node) {
+			++count;
+		}
+
+		void leave(Node node) {
+			++count;
+		}
+
+		void enter(SymbolicName symbolicName) {
+			++count;
+		}
+
+		void enter(Literal<?> literal) {
+			++count;
+		}
+	}
+
+	static class LegacyCountingVisitor extends LegacyReflectiveVisitor {
+
+		int count;
+
+		void enter(Node node) {
+			++count;
+		}
+
+		void leave(Node node) {
+			++count;
+		}
+
+		void enter(SymbolicName symbolicName) {
+			++count;
+		}
+
+		void enter(Literal<?> literal) {
+			++count;
+		}
+	}
+
+	public static void main(String... args) throws RunnerException, CommandLineOptionException {
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions)
+			.include(VisitorDispatchBenchmarks.class.getSimpleName());
+
+		new Runner(builder.build()).run();
+	}
+}
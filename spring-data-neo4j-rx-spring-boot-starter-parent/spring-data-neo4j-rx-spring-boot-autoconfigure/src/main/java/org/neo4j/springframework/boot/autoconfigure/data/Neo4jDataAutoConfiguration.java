@@ -55,12 +55,14 @@ public final class Neo4jDataAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public Neo4jMappingContext neo4jMappingContext(
-		ApplicationContext applicationContext, Neo4jConversions neo4jConversions
+		ApplicationContext applicationContext, Neo4jConversions neo4jConversions, Neo4jDataProperties dataProperties
 	) throws ClassNotFoundException {
 
 		Set<Class<?>> initialEntityClasses = new EntityScanner(applicationContext).scan(Node.class);
 		Neo4jMappingContext context = new Neo4jMappingContext(neo4jConversions);
 		context.setInitialEntitySet(initialEntityClasses);
+		context.setRelationshipChangeTracking(dataProperties.isRelationshipChangeTracking());
+		context.setPropertyChangeTracking(dataProperties.isPropertyChangeTracking());
 
 		return context;
 	}
@@ -19,6 +19,7 @@
 package org.neo4j.springframework.boot.autoconfigure.data;
 
 import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.Neo4jTemplate;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -41,6 +42,24 @@ public class Neo4jDataProperties {
 	 */
 	private String database;
 
+	/**
+	 * The maximum number of entities saved with one statement when saving several entities or the related nodes of an
+	 * aggregate. Larger lists are split into several statements.
+	 */
+	private int batchSize = Neo4jTemplate.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Whether to remember the relationships of loaded entities. If enabled, saving an entity again only deletes the
+	 * relationships that have been removed and creates the ones that have been added, instead of recreating all of them.
+	 */
+	private boolean relationshipChangeTracking = false;
+
+	/**
+	 * Whether to remember the properties of loaded entities. If enabled, saving an entity again only writes the
+	 * properties that changed and skips the update entirely if none did.
+	 */
+	private boolean propertyChangeTracking = false;
+
 	public String getDatabase() {
 		return database;
 	}
@@ -48,4 +67,28 @@ public class Neo4jDataProperties {
 	public void setDatabase(String database) {
 		this.database = database;
 	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public boolean isRelationshipChangeTracking() {
+		return relationshipChangeTracking;
+	}
+
+	public void setRelationshipChangeTracking(boolean relationshipChangeTracking) {
+		this.relationshipChangeTracking = relationshipChangeTracking;
+	}
+
+	public boolean isPropertyChangeTracking() {
+		return propertyChangeTracking;
+	}
+
+	public void setPropertyChangeTracking(boolean propertyChangeTracking) {
+		this.propertyChangeTracking = propertyChangeTracking;
+	}
 }
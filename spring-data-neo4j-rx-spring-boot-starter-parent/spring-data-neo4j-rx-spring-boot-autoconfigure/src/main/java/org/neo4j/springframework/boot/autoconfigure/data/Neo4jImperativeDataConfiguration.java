@@ -81,10 +81,13 @@ class Neo4jImperativeDataConfiguration {
 	@Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_TEMPLATE_BEAN_NAME)
 	@ConditionalOnMissingBean(Neo4jOperations.class)
 	public Neo4jTemplate neo4jTemplate(Neo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
-		DatabaseSelectionProvider databaseNameProvider) {
+		DatabaseSelectionProvider databaseNameProvider,
+		Neo4jDataProperties dataProperties) {
 
-		return new Neo4jTemplate(neo4jClient, neo4jMappingContext,
+		Neo4jTemplate neo4jTemplate = new Neo4jTemplate(neo4jClient, neo4jMappingContext,
 			databaseNameProvider);
+		neo4jTemplate.setBatchSize(dataProperties.getBatchSize());
+		return neo4jTemplate;
 	}
 
 	@Bean(Neo4jRepositoryConfigurationExtension.DEFAULT_TRANSACTION_MANAGER_BEAN_NAME)
@@ -81,9 +81,12 @@ class Neo4jReactiveDataConfiguration {
 	@Bean(ReactiveNeo4jRepositoryConfigurationExtension.DEFAULT_NEO4J_TEMPLATE_BEAN_NAME)
 	@ConditionalOnMissingBean(ReactiveNeo4jOperations.class)
 	public ReactiveNeo4jTemplate neo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
-		ReactiveDatabaseSelectionProvider databaseNameProvider) {
+		ReactiveDatabaseSelectionProvider databaseNameProvider,
+		Neo4jDataProperties dataProperties) {
 
-		return new ReactiveNeo4jTemplate(neo4jClient, neo4jMappingContext, databaseNameProvider);
+		ReactiveNeo4jTemplate neo4jTemplate = new ReactiveNeo4jTemplate(neo4jClient, neo4jMappingContext, databaseNameProvider);
+		neo4jTemplate.setBatchSize(dataProperties.getBatchSize());
+		return neo4jTemplate;
 	}
 
 	@Bean(ReactiveNeo4jRepositoryConfigurationExtension.DEFAULT_TRANSACTION_MANAGER_BEAN_NAME)
@@ -159,6 +159,17 @@ class Neo4jDataAutoConfigurationTest {
 					});
 			}
 
+			@Test
+			@DisplayName("…should use the configured batch size")
+			void shouldUseConfiguredBatchSize() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.batch-size=23")
+					.run(ctx -> {
+						Neo4jTemplate template = ctx.getBean(Neo4jTemplate.class);
+						assertThat(ReflectionTestUtils.getField(template, "batchSize")).isEqualTo(23);
+					});
+			}
+
 			@Test
 			@DisplayName("…should not replace existing Neo4j Operations")
 			void shouldNotReplaceExisting() {
@@ -309,6 +320,17 @@ class Neo4jDataAutoConfigurationTest {
 					});
 			}
 
+			@Test
+			@DisplayName("…should use the configured batch size")
+			void shouldUseConfiguredBatchSize() {
+				contextRunner
+					.withPropertyValues("org.neo4j.data.batch-size=23")
+					.run(ctx -> {
+						ReactiveNeo4jTemplate template = ctx.getBean(ReactiveNeo4jTemplate.class);
+						assertThat(ReflectionTestUtils.getField(template, "batchSize")).isEqualTo(23);
+					});
+			}
+
 			@Test
 			@DisplayName("…should not replace existing Neo4j Operations")
 			void shouldNotReplaceExisting() {
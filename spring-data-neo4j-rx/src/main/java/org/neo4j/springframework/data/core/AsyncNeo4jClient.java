@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.Neo4jClient.BindSpec;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Asynchronous Neo4j client. It offers the same fluent API as the {@link Neo4jClient imperative Neo4j client}, but all
+ * operations return a {@link CompletionStage} instead of blocking the calling thread. The queries are run with the
+ * asynchronous API of the driver, the stages are completed on the threads of the driver.
+ * <p>
+ * Without an ongoing Spring transaction, each query runs in an auto-commit transaction of its own. When a Spring
+ * transaction is ongoing on the calling thread, the query participates in it: As the transactions managed by Spring
+ * are thread bound and blocking, the query is run on the calling thread in that case and the returned stage is
+ * already completed.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+public interface AsyncNeo4jClient {
+
+	LogAccessor cypherLog = new LogAccessor(LogFactory.getLog("org.neo4j.springframework.data.cypher"));
+
+	static AsyncNeo4jClient create(Driver driver) {
+
+		return new DefaultAsyncNeo4jClient(driver);
+	}
+
+	/**
+	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
+	 * removal of things.
+	 *
+	 * @param cypher The cypher code that shall be executed
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(String cypher);
+
+	/**
+	 * Entrypoint for creating a new Cypher query based on a supplier. Doesn't matter at this point whether it's a match,
+	 * merge, create or removal of things. The supplier can be an arbitrary Supplier that may provide a DSL for generating
+	 * the Cypher statement.
+	 *
+	 * @param cypherSupplier A supplier of arbitrary Cypher code
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(Supplier<String> cypherSupplier);
+
+	/**
+	 * Entrypoint for running a prepared statement. The statement has already been rendered, only the values of its
+	 * parameters need to be bound. All parameters declared by the statement must be bound and no others, otherwise
+	 * the returned stages complete with an {@link IllegalArgumentException}.
+	 *
+	 * @param preparedStatement A statement that has been prepared upfront
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(PreparedStatement preparedStatement);
+
+	/**
+	 * Contract for a runnable query that can be either run returning it's result, run without results or be parameterized.
+	 * @since 1.0
+	 */
+	interface RunnableSpec extends RunnableSpecTightToDatabase {
+
+		/**
+		 * Pins the previously defined query to a specific database. A value of {@literal null} chooses the default database.
+		 * The empty string {@literal ""} is not permitted.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return A runnable query specification that is now tight to a given database.
+		 */
+		RunnableSpecTightToDatabase in(@Nullable String targetDatabase);
+	}
+
+	/**
+	 * Contract for a runnable query inside a dedicated database.
+	 * @since 1.0
+	 */
+	interface RunnableSpecTightToDatabase extends BindSpec<RunnableSpecTightToDatabase> {
+
+		/**
+		 * Create a mapping for each record return to a specific type.
+		 *
+		 * @param targetClass The class each record should be mapped to
+		 * @param <T>         The type of the class
+		 * @return A mapping spec that allows specifying a mapping function.
+		 */
+		<T> MappingSpec<T> fetchAs(Class<T> targetClass);
+
+		/**
+		 * Fetch all records mapped into generic maps
+		 *
+		 * @return A fetch specification that maps into generic maps.
+		 */
+		RecordFetchSpec<Map<String, Object>> fetch();
+
+		/**
+		 * Execute the query and discard the results. It returns the drivers result summary, including various counters
+		 * and other statistics.
+		 *
+		 * @return A stage completing with the native summary of the query.
+		 */
+		CompletionStage<ResultSummary> run();
+	}
+
+	/**
+	 * @param <T> The resulting type of this mapping
+	 * @since 1.0
+	 */
+	interface MappingSpec<T> extends RecordFetchSpec<T> {
+
+		/**
+		 * The mapping function is responsible to turn one record into one domain object. It will receive the record
+		 * itself and in addition, the type system that the Neo4j Java-Driver used while executing the query.
+		 *
+		 * @param mappingFunction The mapping function used to create new domain objects
+		 * @return A specification how to fetch one or more records.
+		 */
+		RecordFetchSpec<T> mappedBy(BiFunction<TypeSystem, Record, T> mappingFunction);
+	}
+
+	/**
+	 * @param <T> The type to which the fetched records are eventually mapped
+	 * @since 1.0
+	 */
+	interface RecordFetchSpec<T> {
+
+		/**
+		 * Fetches exactly one record and completes exceptionally if there are more entries.
+		 *
+		 * @return A stage completing with the one and only record.
+		 */
+		CompletionStage<Optional<T>> one();
+
+		/**
+		 * Fetches only the first record. Completes with an empty holder if there are no records.
+		 *
+		 * @return A stage completing with the first record if any.
+		 */
+		CompletionStage<Optional<T>> first();
+
+		/**
+		 * Fetches all records.
+		 *
+		 * @return A stage completing with all records.
+		 */
+		CompletionStage<Collection<T>> all();
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.Neo4jClient.*;
+import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager.*;
+import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.Neo4jClient.OngoingBindSpec;
+import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
+import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link AsyncNeo4jClient}. Uses the asynchronous API of the Neo4j Java driver.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+class DefaultAsyncNeo4jClient implements AsyncNeo4jClient {
+
+	private final Driver driver;
+	private final TypeSystem typeSystem;
+	private final ConversionService conversionService;
+	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+
+	DefaultAsyncNeo4jClient(Driver driver) {
+
+		this.driver = driver;
+		this.typeSystem = driver.defaultTypeSystem();
+
+		this.conversionService = new DefaultConversionService();
+		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
+	}
+
+	/**
+	 * Runs the given query either in the ongoing Spring transaction or asynchronously in an auto-commit transaction.
+	 *
+	 * @param targetDatabase     The database to run the query in
+	 * @param cypher             The query
+	 * @param parameters         The parameters of the query
+	 * @param resultHandler      The handler for a result inside an ongoing transaction
+	 * @param asyncResultHandler The handler for the result of an auto-commit transaction
+	 * @param <R>                The type of the handled result
+	 * @return A stage completing with the handled result
+	 */
+	<R> CompletionStage<R> doInQueryRunner(@Nullable String targetDatabase, String cypher,
+		Map<String, Object> parameters, Function<Result, R> resultHandler,
+		Function<ResultCursor, CompletionStage<R>> asyncResultHandler) {
+
+		try {
+			Transaction ongoingTransaction = retrieveTransaction(driver, targetDatabase);
+			if (ongoingTransaction != null) {
+				return CompletableFuture.completedFuture(resultHandler.apply(ongoingTransaction.run(cypher, parameters)));
+			}
+		} catch (RuntimeException e) {
+			return failedStage(e);
+		}
+
+		AsyncSession session = driver.asyncSession(defaultSessionConfig(targetDatabase));
+		CompletableFuture<R> execution = new CompletableFuture<>();
+		session.runAsync(cypher, parameters)
+			.thenCompose(asyncResultHandler)
+			.whenComplete((result, error) -> session.closeAsync().whenComplete((ignored, closeError) -> {
+				if (error != null || closeError != null) {
+					execution.completeExceptionally(potentiallyConvertThrowable(error != null ? error : closeError));
+				} else {
+					execution.complete(result);
+				}
+			}));
+		return execution;
+	}
+
+	@Override
+	public RunnableSpec query(String cypher) {
+		return query(() -> cypher);
+	}
+
+	@Override
+	public RunnableSpec query(Supplier<String> cypherSupplier) {
+		return new DefaultRunnableSpec(cypherSupplier, Function.identity());
+	}
+
+	@Override
+	public RunnableSpec query(PreparedStatement preparedStatement) {
+
+		Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+		String cypher = preparedStatement.getCypher();
+		return new DefaultRunnableSpec(() -> cypher, preparedStatement::bind);
+	}
+
+	class DefaultRunnableSpec implements RunnableSpec {
+
+		private final Supplier<String> cypherSupplier;
+
+		private String targetDatabase;
+
+		private final NamedParameters parameters = new NamedParameters();
+
+		private final Function<Map<String, Object>, Map<String, Object>> parameterBinder;
+
+		DefaultRunnableSpec(Supplier<String> cypherSupplier,
+			Function<Map<String, Object>, Map<String, Object>> parameterBinder) {
+			this.cypherSupplier = cypherSupplier;
+			this.parameterBinder = parameterBinder;
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpecTightToDatabase> {
+
+			@Nullable
+			private final T value;
+
+			DefaultOngoingBindSpec(@Nullable T value) {
+				this.value = value;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase to(String name) {
+
+				DefaultRunnableSpec.this.parameters.add(name, value);
+				return DefaultRunnableSpec.this;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase with(Function<T, Map<String, Object>> binder) {
+
+				Assert.notNull(binder, "Binder is required.");
+
+				return bindAll(binder.apply(value));
+			}
+		}
+
+		@Override
+		public OngoingBindSpec<?, RunnableSpecTightToDatabase> bind(@Nullable Object value) {
+			return new DefaultOngoingBindSpec(value);
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase bindAll(Map<String, Object> newParameters) {
+			this.parameters.addAll(newParameters);
+			return this;
+		}
+
+		@Override
+		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
+
+			return new DefaultRecordFetchSpec<>(this, new SingleValueMappingFunction(conversionService, targetClass));
+		}
+
+		@Override
+		public RecordFetchSpec<Map<String, Object>> fetch() {
+
+			return new DefaultRecordFetchSpec<>(this, (t, r) -> r.asMap());
+		}
+
+		@Override
+		public CompletionStage<ResultSummary> run() {
+
+			return execute(Result::consume, ResultCursor::consumeAsync);
+		}
+
+		<R> CompletionStage<R> execute(Function<Result, R> resultHandler,
+			Function<ResultCursor, CompletionStage<R>> asyncResultHandler) {
+
+			String cypher;
+			Map<String, Object> boundParameters;
+			try {
+				cypher = cypherSupplier.get();
+				boundParameters = parameterBinder.apply(parameters.get());
+			} catch (RuntimeException e) {
+				return failedStage(e);
+			}
+
+			if (cypherLog.isDebugEnabled()) {
+				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), cypher));
+
+				if (cypherLog.isTraceEnabled() && !parameters.isEmpty()) {
+					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
+				}
+			}
+
+			return doInQueryRunner(targetDatabase, cypher, boundParameters, resultHandler, asyncResultHandler);
+		}
+	}
+
+	class DefaultRecordFetchSpec<T> implements RecordFetchSpec<T>, MappingSpec<T> {
+
+		private final DefaultRunnableSpec runnableSpec;
+
+		private BiFunction<TypeSystem, Record, T> mappingFunction;
+
+		DefaultRecordFetchSpec(DefaultRunnableSpec runnableSpec, BiFunction<TypeSystem, Record, T> mappingFunction) {
+			this.runnableSpec = runnableSpec;
+			this.mappingFunction = mappingFunction;
+		}
+
+		@Override
+		public RecordFetchSpec<T> mappedBy(
+			@SuppressWarnings("HiddenField") BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+			this.mappingFunction = new DelegatingMappingFunctionWithNullCheck<>(mappingFunction);
+			return this;
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> one() {
+
+			Function<Record, T> recordMapper = partialMappingFunction(mappingFunction);
+			return runnableSpec.<Optional<T>>execute(
+				result -> result.hasNext() ? Optional.of(recordMapper.apply(result.single())) : Optional.empty(),
+				cursor -> cursor.peekAsync().thenCompose(record -> record == null ?
+					CompletableFuture.completedFuture(Optional.<T>empty()) :
+					cursor.singleAsync().thenApply(singleRecord -> Optional.of(recordMapper.apply(singleRecord)))));
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> first() {
+
+			Function<Record, T> recordMapper = partialMappingFunction(mappingFunction);
+			return runnableSpec.<Optional<T>>execute(
+				result -> result.stream().map(recordMapper).findFirst(),
+				cursor -> cursor.nextAsync().thenApply(record -> Optional.ofNullable(record).map(recordMapper)));
+		}
+
+		@Override
+		public CompletionStage<Collection<T>> all() {
+
+			Function<Record, T> recordMapper = partialMappingFunction(
+				ResultScopedMappingFunction.scopedToResult(mappingFunction));
+			return runnableSpec.<Collection<T>>execute(
+				result -> result.list(recordMapper),
+				cursor -> cursor.listAsync(recordMapper).thenApply(records -> records));
+		}
+
+		/**
+		 * @param mappingFunction The mapping function to evaluate partially
+		 * @return The partially evaluated mapping function
+		 */
+		private Function<Record, T> partialMappingFunction(
+			@SuppressWarnings("HiddenField") BiFunction<TypeSystem, Record, T> mappingFunction) {
+			return r -> mappingFunction.apply(typeSystem, r);
+		}
+	}
+
+	private <R> CompletionStage<R> failedStage(Throwable ex) {
+
+		CompletableFuture<R> failedStage = new CompletableFuture<>();
+		failedStage.completeExceptionally(potentiallyConvertThrowable(ex));
+		return failedStage;
+	}
+
+	/**
+	 * Unwraps the given {@link Throwable} from a {@link CompletionException} and tries to convert it into a
+	 * {@link DataAccessException}, returning the unwrapped exception if the conversion failed.
+	 *
+	 * @param ex The exception to translate
+	 * @return The translated exception
+	 */
+	private Throwable potentiallyConvertThrowable(Throwable ex) {
+
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		if (!(cause instanceof RuntimeException)) {
+			return cause;
+		}
+		RuntimeException resolved = persistenceExceptionTranslator.translateExceptionIfPossible((RuntimeException) cause);
+		return resolved == null ? cause : resolved;
+	}
+}
@@ -23,27 +23,39 @@ import static org.neo4j.springframework.data.core.Neo4jClient.*;
 import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionManager.*;
 import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils.*;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
 import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
@@ -78,52 +90,63 @@ class DefaultNeo4jClient implements Neo4jClient {
 	}
 
 	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase) {
+		return getQueryRunner(targetDatabase, null);
+	}
+
+	AutoCloseableQueryRunner getQueryRunner(@Nullable final String targetDatabase, @Nullable Long fetchSize) {
 
 		QueryRunner queryRunner = retrieveTransaction(driver, targetDatabase);
 		if (queryRunner == null) {
-			queryRunner = driver.session(defaultSessionConfig(targetDatabase));
+			queryRunner = driver.session(fetchSize == null ?
+				defaultSessionConfig(targetDatabase) :
+				defaultSessionConfig(targetDatabase, fetchSize));
 		}
 
-		return (AutoCloseableQueryRunner) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-			new Class<?>[] { AutoCloseableQueryRunner.class },
-			new AutoCloseableQueryRunnerHandler(queryRunner));
+		return new AutoCloseableQueryRunner(queryRunner);
 	}
 
 	/**
-	 * Makes a query runner automatically closeable and aware whether it's session or a transaction
+	 * Makes a query runner automatically closeable and aware whether it's session or a transaction. This is a plain
+	 * delegate: It is created once per query and must not cost more than the allocation of the wrapper itself.
 	 */
-	interface AutoCloseableQueryRunner extends QueryRunner, AutoCloseable {
-
-		@Override void close();
-	}
-
-	static class AutoCloseableQueryRunnerHandler implements InvocationHandler {
+	static final class AutoCloseableQueryRunner implements QueryRunner, AutoCloseable {
 
-		private final Map<Method, MethodHandle> cachedHandles = new ConcurrentHashMap<>();
 		private final QueryRunner target;
 
-		AutoCloseableQueryRunnerHandler(QueryRunner target) {
+		AutoCloseableQueryRunner(QueryRunner target) {
 			this.target = target;
 		}
 
 		@Override
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		public Result run(String query, Value parameters) {
+			return target.run(query, parameters);
+		}
 
-			if ("close".equals(method.getName())) {
-				if (this.target instanceof Session) {
-					((Session) this.target).close();
-				}
-				return null;
-			} else {
-				return cachedHandles.computeIfAbsent(method, this::findHandleFor).invokeWithArguments(args);
-			}
+		@Override
+		public Result run(String query, Map<String, Object> parameters) {
+			return target.run(query, parameters);
 		}
 
-		MethodHandle findHandleFor(Method method) {
-			try {
-				return MethodHandles.publicLookup().unreflect(method).bindTo(target);
-			} catch (IllegalAccessException e) {
-				throw new RuntimeException(e);
+		@Override
+		public Result run(String query, Record parameters) {
+			return target.run(query, parameters);
+		}
+
+		@Override
+		public Result run(String query) {
+			return target.run(query);
+		}
+
+		@Override
+		public Result run(Query query) {
+			return target.run(query);
+		}
+
+		@Override
+		public void close() {
+
+			if (this.target instanceof Session) {
+				((Session) this.target).close();
 			}
 		}
 	}
@@ -140,30 +163,49 @@ class DefaultNeo4jClient implements Neo4jClient {
 		return new DefaultRunnableSpec(cypherSupplier);
 	}
 
+	@Override
+	public RunnableSpec query(PreparedStatement preparedStatement) {
+
+		Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+		String cypher = preparedStatement.getCypher();
+		return new DefaultRunnableSpec(() -> cypher, preparedStatement::bind);
+	}
+
 	@Override
 	public <T> OngoingDelegation<T> delegateTo(Function<QueryRunner, Optional<T>> callback) {
 		return new DefaultRunnableDelegation<>(callback);
 	}
 
+	@Override
+	public BatchSpec batch() {
+		return new DefaultBatchSpec();
+	}
+
 	/**
 	 * Basically a holder of a cypher template supplier and a set of named parameters. It's main purpose is to
-	 * orchestrate the running of things with a bit of logging.
+	 * orchestrate the running of things with a bit of logging. The parameter binder gets the final chance to validate
+	 * and complete the named parameters before they are passed to the driver.
 	 */
 	class RunnableStatement {
 
 		RunnableStatement(Supplier<String> cypherSupplier) {
-			this(cypherSupplier, new NamedParameters());
+			this(cypherSupplier, Function.identity());
 		}
 
-		RunnableStatement(Supplier<String> cypherSupplier, NamedParameters parameters) {
+		RunnableStatement(Supplier<String> cypherSupplier,
+			Function<Map<String, Object>, Map<String, Object>> parameterBinder) {
 			this.cypherSupplier = cypherSupplier;
-			this.parameters = parameters;
+			this.parameters = new NamedParameters();
+			this.parameterBinder = parameterBinder;
 		}
 
 		private final Supplier<String> cypherSupplier;
 
 		private final NamedParameters parameters;
 
+		private final Function<Map<String, Object>, Map<String, Object>> parameterBinder;
+
 		protected final Result runWith(AutoCloseableQueryRunner statementRunner) {
 			String statementTemplate = cypherSupplier.get();
 
@@ -175,7 +217,7 @@ class DefaultNeo4jClient implements Neo4jClient {
 				}
 			}
 
-			return statementRunner.run(statementTemplate, parameters.get());
+			return statementRunner.run(statementTemplate, parameterBinder.apply(parameters.get()));
 		}
 	}
 
@@ -203,6 +245,11 @@ class DefaultNeo4jClient implements Neo4jClient {
 			this.runnableStatement = new RunnableStatement(cypherSupplier);
 		}
 
+		DefaultRunnableSpec(Supplier<String> cypherSupplier,
+			Function<Map<String, Object>, Map<String, Object>> parameterBinder) {
+			this.runnableStatement = new RunnableStatement(cypherSupplier, parameterBinder);
+		}
+
 		@Override
 		public RunnableSpecTightToDatabase in(@SuppressWarnings("HiddenField") String targetDatabase) {
 
@@ -325,12 +372,66 @@ class DefaultNeo4jClient implements Neo4jClient {
 
 			try (AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase)) {
 				Result result = runnableStatement.runWith(statementRunner);
-				return result.stream().map(partialMappingFunction(typeSystem)).collect(toList());
+				BiFunction<TypeSystem, Record, T> resultMappingFunction = ResultScopedMappingFunction
+					.scopedToResult(mappingFunction);
+				return result.stream().map(r -> resultMappingFunction.apply(typeSystem, r)).collect(toList());
 			} catch (RuntimeException e) {
 				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
 			}
 		}
 
+		@Override
+		public Stream<T> stream() {
+			return stream(getQueryRunner(this.targetDatabase));
+		}
+
+		@Override
+		public Stream<T> stream(long fetchSize) {
+
+			Assert.isTrue(fetchSize > 0, "The fetch size must be greater than 0.");
+			return stream(getQueryRunner(this.targetDatabase, fetchSize));
+		}
+
+		/**
+		 * The records are mapped without a function scoped to the result, as such a function keeps state for all
+		 * records of the result.
+		 *
+		 * @param statementRunner The runner to use, will be closed together with the stream
+		 * @return A lazy stream of mapped records
+		 */
+		private Stream<T> stream(AutoCloseableQueryRunner statementRunner) {
+
+			try {
+				Result result = runnableStatement.runWith(statementRunner);
+				Iterator<Record> records = new Iterator<Record>() {
+					@Override
+					public boolean hasNext() {
+						try {
+							return result.hasNext();
+						} catch (RuntimeException e) {
+							throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+						}
+					}
+
+					@Override
+					public Record next() {
+						try {
+							return result.next();
+						} catch (RuntimeException e) {
+							throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+						}
+					}
+				};
+				return StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.map(partialMappingFunction(typeSystem))
+					.onClose(statementRunner::close);
+			} catch (RuntimeException e) {
+				statementRunner.close();
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+		}
+
 		/**
 		 * @param typeSystem The actual type system
 		 * @return The partially evaluated mapping function
@@ -340,6 +441,171 @@ class DefaultNeo4jClient implements Neo4jClient {
 		}
 	}
 
+	class DefaultBatchSpec implements BatchSpec {
+
+		private final List<BatchedStatement> statements = new ArrayList<>();
+
+		@Nullable private String targetDatabase;
+
+		@Override
+		public BatchSpec in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		@Override
+		public BatchSpec add(String cypher) {
+			return add(cypher, Collections.emptyMap());
+		}
+
+		@Override
+		public BatchSpec add(String cypher, Map<String, Object> parameters) {
+
+			Assert.hasText(cypher, "Cypher is required.");
+			Assert.notNull(parameters, "Parameters are required.");
+
+			this.statements.add(new BatchedStatement(cypher, parameters));
+			return this;
+		}
+
+		@Override
+		public BatchSpec add(PreparedStatement preparedStatement, Map<String, Object> values) {
+
+			Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+			return add(preparedStatement.getCypher(), preparedStatement.bind(values));
+		}
+
+		@Override
+		public List<ResultSummary> run() {
+			return execute(Result::consume, ResultCursor::consumeAsync);
+		}
+
+		@Override
+		public <T> List<List<T>> fetchAll(BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+			Assert.notNull(mappingFunction, "Mapping function is required.");
+
+			BiFunction<TypeSystem, Record, T> mappingFunctionWithNullCheck =
+				new DelegatingMappingFunctionWithNullCheck<>(mappingFunction);
+			Function<Record, T> recordMapper = r -> mappingFunctionWithNullCheck.apply(typeSystem, r);
+			return execute(result -> result.list(recordMapper), cursor -> cursor.listAsync(recordMapper));
+		}
+
+		private <R> List<R> execute(Function<Result, R> resultHandler,
+			Function<ResultCursor, CompletionStage<R>> asyncResultHandler) {
+
+			if (this.statements.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			try {
+				QueryRunner ongoingTransaction = retrieveTransaction(driver, targetDatabase);
+				if (ongoingTransaction == null) {
+					return executePipelined(asyncResultHandler);
+				}
+
+				List<R> results = new ArrayList<>(this.statements.size());
+				for (BatchedStatement statement : this.statements) {
+					results.add(resultHandler.apply(statement.runWith(ongoingTransaction)));
+				}
+				return results;
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+		}
+
+		private <R> List<R> executePipelined(Function<ResultCursor, CompletionStage<R>> resultHandler) {
+
+			AsyncSession session = driver.asyncSession(defaultSessionConfig(targetDatabase));
+			try {
+				AsyncTransaction transaction = await(session.beginTransactionAsync());
+				try {
+					// All statements are sent before waiting for the result of the first one.
+					List<CompletableFuture<R>> pendingResults = new ArrayList<>(this.statements.size());
+					for (BatchedStatement statement : this.statements) {
+						pendingResults.add(statement.runWith(transaction).thenCompose(resultHandler).toCompletableFuture());
+					}
+
+					List<R> results = new ArrayList<>(pendingResults.size());
+					for (CompletableFuture<R> pendingResult : pendingResults) {
+						results.add(await(pendingResult));
+					}
+					await(transaction.commitAsync());
+					return results;
+				} catch (RuntimeException e) {
+					awaitQuietly(transaction.rollbackAsync());
+					throw e;
+				}
+			} finally {
+				awaitQuietly(session.closeAsync());
+			}
+		}
+	}
+
+	/**
+	 * A statement and its parameters as part of a batch.
+	 */
+	static class BatchedStatement {
+
+		private final String cypher;
+
+		private final Map<String, Object> parameters;
+
+		BatchedStatement(String cypher, Map<String, Object> parameters) {
+			this.cypher = cypher;
+			this.parameters = parameters;
+		}
+
+		Result runWith(QueryRunner queryRunner) {
+
+			log();
+			return queryRunner.run(cypher, parameters);
+		}
+
+		CompletionStage<ResultCursor> runWith(AsyncTransaction transaction) {
+
+			log();
+			return transaction.runAsync(cypher, parameters);
+		}
+
+		private void log() {
+
+			if (cypherLog.isDebugEnabled()) {
+				cypherLog.debug(() -> String.format("Executing as part of a batch:%s%s", System.lineSeparator(), cypher));
+
+				if (cypherLog.isTraceEnabled() && !parameters.isEmpty()) {
+					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for the completion of an asynchronous interaction with the driver.
+	 *
+	 * @param stage The stage to wait for
+	 * @param <T>   The type of the result
+	 * @return The result of the stage
+	 */
+	private static <T> T await(CompletionStage<T> stage) {
+
+		try {
+			return stage.toCompletableFuture().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the database.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+		}
+	}
+
+	private static void awaitQuietly(CompletionStage<?> stage) {
+		stage.toCompletableFuture().handle((result, e) -> null).join();
+	}
+
 	class DefaultRunnableDelegation<T> implements RunnableDelegation<T>, OngoingDelegation<T> {
 
 		private final Function<QueryRunner, Optional<T>> callback;
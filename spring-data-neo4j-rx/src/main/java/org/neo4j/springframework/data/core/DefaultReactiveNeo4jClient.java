@@ -24,9 +24,11 @@ import static org.neo4j.springframework.data.core.transaction.ReactiveNeo4jTrans
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 import reactor.util.function.Tuple2;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -40,6 +42,8 @@ import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jClient.*;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
 import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
 import org.reactivestreams.Publisher;
 import org.springframework.core.convert.ConversionService;
@@ -64,37 +68,86 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
 
+	/**
+	 * Flag, whether single statements outside of Spring managed transactions are run as auto-commit queries.
+	 */
+	private final boolean autoCommitOutsideOfTransactions;
+
 	DefaultReactiveNeo4jClient(Driver driver) {
+		this(driver, false);
+	}
+
+	DefaultReactiveNeo4jClient(Driver driver, boolean autoCommitOutsideOfTransactions) {
 
 		this.driver = driver;
+		this.autoCommitOutsideOfTransactions = autoCommitOutsideOfTransactions;
 		this.typeSystem = driver.defaultTypeSystem();
 		this.conversionService = new DefaultConversionService();
 		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
 	}
 
 	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase) {
+		return retrieveRxStatementRunnerHolder(targetDatabase, false);
+	}
+
+	/**
+	 * Retrieves the query runner to use. An ongoing Spring managed transaction is always used. Outside of such a
+	 * transaction, a single statement runs as an auto-commit query in the session shared through the subscriber context
+	 * if there is one for the target database, or in a new session when the client has been configured to use
+	 * auto-commit queries. Otherwise a new session with an explicit transaction is used.
+	 *
+	 * @param targetDatabase  The database to use
+	 * @param singleStatement Flag, whether the runner is used for one statement only
+	 * @return A holder of the query runner together with the operations to finish it
+	 */
+	Mono<RxStatementRunnerHolder> retrieveRxStatementRunnerHolder(String targetDatabase, boolean singleStatement) {
+
+		Mono<RxStatementRunnerHolder> newTransaction = Mono
+			.using(() -> driver.rxSession(defaultSessionConfig(targetDatabase)),
+				session -> Mono.from(session.beginTransaction())
+					.map(tx -> new RxStatementRunnerHolder(tx, tx.commit(), tx.rollback())), RxSession::close);
+
+		Mono<RxStatementRunnerHolder> runnerOutsideOfTransaction;
+		if (singleStatement) {
+			Mono<RxStatementRunnerHolder> newSession = autoCommitOutsideOfTransactions ?
+				Mono.fromSupplier(() -> {
+					RxSession session = driver.rxSession(defaultSessionConfig(targetDatabase));
+					Publisher<Void> close = session.close();
+					return new RxStatementRunnerHolder(session, close, close);
+				}) :
+				newTransaction;
+			runnerOutsideOfTransaction = Mono.subscriberContext()
+				.flatMap(context -> Mono.justOrEmpty(context.<SharedSession>getOrEmpty(SharedSession.class)))
+				.filter(sharedSession -> sharedSession.isFor(targetDatabase))
+				.map(sharedSession -> new RxStatementRunnerHolder(sharedSession.session, Mono.empty(), Mono.empty()))
+				.switchIfEmpty(newSession);
+		} else {
+			runnerOutsideOfTransaction = newTransaction;
+		}
 
 		return retrieveReactiveTransaction(driver, targetDatabase)
 			.map(rxTransaction -> new RxStatementRunnerHolder(rxTransaction, Mono.empty(), Mono.empty())) //
-			.switchIfEmpty(
-				Mono.using(() -> driver.rxSession(defaultSessionConfig(targetDatabase)),
-					session -> Mono.from(session.beginTransaction())
-						.map(tx -> new RxStatementRunnerHolder(tx, tx.commit(), tx.rollback())), RxSession::close)
-			);
+			.switchIfEmpty(runnerOutsideOfTransaction);
 	}
 
 	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, Function<RxQueryRunner, Mono<T>> func) {
+		return doInQueryRunnerForMono(targetDatabase, false, func);
+	}
+
+	<T> Mono<T> doInQueryRunnerForMono(final String targetDatabase, boolean singleStatement,
+		Function<RxQueryRunner, Mono<T>> func) {
 
-		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return Mono.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, singleStatement),
 			holder -> func.apply(holder.getRxQueryRunner()),
 			RxStatementRunnerHolder::getCommit,
 			(holder, ex) -> holder.getRollback(),
 			RxStatementRunnerHolder::getCommit);
 	}
 
-	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, Function<RxQueryRunner, Flux<T>> func) {
+	<T> Flux<T> doInStatementRunnerForFlux(final String targetDatabase, boolean singleStatement,
+		Function<RxQueryRunner, Flux<T>> func) {
 
-		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase),
+		return Flux.usingWhen(retrieveRxStatementRunnerHolder(targetDatabase, singleStatement),
 			holder -> func.apply(holder.getRxQueryRunner()),
 			RxStatementRunnerHolder::getCommit,
 			(holder, ex) -> holder.getRollback(),
@@ -111,11 +164,30 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		return new DefaultRunnableSpec(cypherSupplier);
 	}
 
+	@Override
+	public RunnableSpec query(PreparedStatement preparedStatement) {
+
+		Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+		String cypher = preparedStatement.getCypher();
+		return new DefaultRunnableSpec(() -> cypher, preparedStatement::bind);
+	}
+
 	@Override
 	public <T> OngoingDelegation<T> delegateTo(Function<RxQueryRunner, Mono<T>> callback) {
 		return new DefaultRunnableDelegation<>(callback);
 	}
 
+	@Override
+	public <T> Flux<T> withSharedSession(@Nullable String targetDatabase, Publisher<T> publisher) {
+
+		String databaseName = verifyDatabaseName(targetDatabase);
+		return Flux.usingWhen(
+			Mono.fromSupplier(() -> new SharedSession(databaseName, driver.rxSession(defaultSessionConfig(databaseName)))),
+			sharedSession -> Flux.from(publisher).subscriberContext(Context.of(SharedSession.class, sharedSession)),
+			sharedSession -> sharedSession.session.close());
+	}
+
 	class DefaultRunnableSpec implements RunnableSpec {
 
 		private final Supplier<String> cypherSupplier;
@@ -124,8 +196,16 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		private final NamedParameters parameters = new NamedParameters();
 
+		private final Function<Map<String, Object>, Map<String, Object>> parameterBinder;
+
 		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
+			this(cypherSupplier, Function.identity());
+		}
+
+		DefaultRunnableSpec(Supplier<String> cypherSupplier,
+			Function<Map<String, Object>, Map<String, Object>> parameterBinder) {
 			this.cypherSupplier = cypherSupplier;
+			this.parameterBinder = parameterBinder;
 		}
 
 		@Override
@@ -175,13 +255,13 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
 
 			return new DefaultRecordFetchSpec<>(this.targetDatabase, this.cypherSupplier, this.parameters,
-				new SingleValueMappingFunction(conversionService, targetClass));
+				this.parameterBinder, new SingleValueMappingFunction(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(targetDatabase, cypherSupplier, parameters,
+			return new DefaultRecordFetchSpec<>(targetDatabase, cypherSupplier, parameters, parameterBinder,
 				(t, r) -> r.asMap());
 		}
 
@@ -191,7 +271,8 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 			return new DefaultRecordFetchSpec<>(
 				this.targetDatabase,
 				this.cypherSupplier,
-				this.parameters).run();
+				this.parameters,
+				this.parameterBinder).run();
 		}
 	}
 
@@ -203,19 +284,23 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 
 		private final NamedParameters parameters;
 
+		private final Function<Map<String, Object>, Map<String, Object>> parameterBinder;
+
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
 		DefaultRecordFetchSpec(String targetDatabase, Supplier<String> cypherSupplier,
-			NamedParameters parameters) {
-			this(targetDatabase, cypherSupplier, parameters, null);
+			NamedParameters parameters, Function<Map<String, Object>, Map<String, Object>> parameterBinder) {
+			this(targetDatabase, cypherSupplier, parameters, parameterBinder, null);
 		}
 
 		DefaultRecordFetchSpec(
 			String targetDatabase, Supplier<String> cypherSupplier, NamedParameters parameters,
+			Function<Map<String, Object>, Map<String, Object>> parameterBinder,
 			@Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
 			this.targetDatabase = targetDatabase;
 			this.cypherSupplier = cypherSupplier;
 			this.parameters = parameters;
+			this.parameterBinder = parameterBinder;
 			this.mappingFunction = mappingFunction;
 		}
 
@@ -235,19 +320,24 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
 				}
 			}
-			return Mono.fromSupplier(cypherSupplier).zipWith(Mono.just(parameters.get()));
+			return Mono.fromSupplier(cypherSupplier)
+				.zipWith(Mono.fromSupplier(() -> parameterBinder.apply(parameters.get())));
 		}
 
 		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, RxQueryRunner runner) {
 
-			return Flux.from(runner.run(t.getT1(), t.getT2()).records()).map(r -> mappingFunction.apply(typeSystem, r));
+			// Records of one execution are mapped one after another, so the scoped function is not shared
+			BiFunction<TypeSystem, Record, T> resultMappingFunction = ResultScopedMappingFunction
+				.scopedToResult(mappingFunction);
+			return Flux.from(runner.run(t.getT1(), t.getT2()).records())
+				.map(r -> resultMappingFunction.apply(typeSystem, r));
 		}
 
 		@Override
 		public Mono<T> one() {
 
 			return doInQueryRunnerForMono(
-				targetDatabase,
+				targetDatabase, true,
 				(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).singleOrEmpty()
 			).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
@@ -256,7 +346,7 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		public Mono<T> first() {
 
 			return doInQueryRunnerForMono(
-				targetDatabase,
+				targetDatabase, true,
 				runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).next()
 			).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
@@ -265,7 +355,7 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		public Flux<T> all() {
 
 			return doInStatementRunnerForFlux(
-				targetDatabase,
+				targetDatabase, true,
 				runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner))
 			).onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
 		}
@@ -273,7 +363,7 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		Mono<ResultSummary> run() {
 
 			return doInQueryRunnerForMono(
-				targetDatabase,
+				targetDatabase, true,
 				runner -> prepareStatement().flatMap(t -> {
 					RxResult rxResult = runner.run(t.getT1(), t.getT2());
 					return Flux.from(rxResult.records()).then(Mono.from(rxResult.consume()));
@@ -328,6 +418,26 @@ class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient {
 		}
 	}
 
+	/**
+	 * A session shared by all single statements in a reactive chain, stored in the subscriber context.
+	 */
+	static final class SharedSession {
+
+		@Nullable
+		private final String databaseName;
+
+		private final RxSession session;
+
+		SharedSession(@Nullable String databaseName, RxSession session) {
+			this.databaseName = databaseName;
+			this.session = session;
+		}
+
+		boolean isFor(@Nullable String targetDatabase) {
+			return Objects.equals(databaseName, targetDatabase);
+		}
+	}
+
 	final class RxStatementRunnerHolder {
 		private final RxQueryRunner rxQueryRunner;
 
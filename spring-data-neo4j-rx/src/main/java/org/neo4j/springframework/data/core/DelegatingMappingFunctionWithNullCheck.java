@@ -22,6 +22,7 @@ import java.util.function.BiFunction;
 
 import org.neo4j.driver.Record;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
 
 /**
  * A delegating mapping function that first calls the delegate to get a record map and than checks the returned
@@ -35,7 +36,7 @@ import org.neo4j.driver.types.TypeSystem;
  * @soundtrack Manowar - Fighting The World
  * @since 1.0
  */
-class DelegatingMappingFunctionWithNullCheck<T> implements BiFunction<TypeSystem, Record, T> {
+class DelegatingMappingFunctionWithNullCheck<T> implements ResultScopedMappingFunction<T> {
 
 	BiFunction<TypeSystem, Record, T> delegate;
 
@@ -52,4 +53,11 @@ class DelegatingMappingFunctionWithNullCheck<T> implements BiFunction<TypeSystem
 		}
 		return t;
 	}
+
+	@Override
+	public BiFunction<TypeSystem, Record, T> scopedToResult() {
+
+		BiFunction<TypeSystem, Record, T> scopedDelegate = ResultScopedMappingFunction.scopedToResult(delegate);
+		return scopedDelegate == delegate ? this : new DelegatingMappingFunctionWithNullCheck<>(scopedDelegate);
+	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+
+/**
+ * The outcome of ingesting a stream of entities with {@link Neo4jOperations#ingest(java.util.Iterator)} or
+ * {@link ReactiveNeo4jOperations#ingest(org.reactivestreams.Publisher, int)}: How many entities have been written in
+ * how many batches, how long that took and how long the individual batches took.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+public final class IngestSummary {
+
+	static final IngestSummary EMPTY = new IngestSummary(0L, 0L, 0L, 0L, 0L);
+
+	private final long numberOfEntities;
+
+	private final long numberOfBatches;
+
+	private final long totalBatchLatency;
+
+	private final long maxBatchLatency;
+
+	private final long elapsedTime;
+
+	private IngestSummary(long numberOfEntities, long numberOfBatches, long totalBatchLatency, long maxBatchLatency,
+		long elapsedTime) {
+
+		this.numberOfEntities = numberOfEntities;
+		this.numberOfBatches = numberOfBatches;
+		this.totalBatchLatency = totalBatchLatency;
+		this.maxBatchLatency = maxBatchLatency;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * @param numberOfEntities The number of entities in the batch
+	 * @param batchLatency     The time it took to write the batch in nanoseconds
+	 * @return A new summary including the given batch
+	 */
+	IngestSummary withBatch(int numberOfEntities, long batchLatency) {
+
+		return new IngestSummary(this.numberOfEntities + numberOfEntities, this.numberOfBatches + 1,
+			this.totalBatchLatency + batchLatency, Math.max(this.maxBatchLatency, batchLatency), this.elapsedTime);
+	}
+
+	/**
+	 * @param elapsedTime The time the whole ingest took in nanoseconds
+	 * @return A new summary with the given elapsed time
+	 */
+	IngestSummary withElapsedTime(long elapsedTime) {
+
+		return new IngestSummary(this.numberOfEntities, this.numberOfBatches, this.totalBatchLatency,
+			this.maxBatchLatency, elapsedTime);
+	}
+
+	/**
+	 * @return The number of entities written
+	 */
+	public long getNumberOfEntities() {
+		return numberOfEntities;
+	}
+
+	/**
+	 * @return The number of batches the entities have been written in
+	 */
+	public long getNumberOfBatches() {
+		return numberOfBatches;
+	}
+
+	/**
+	 * @return The wall clock time the whole ingest took, including reading the source of the entities
+	 */
+	public Duration getElapsedTime() {
+		return Duration.ofNanos(elapsedTime);
+	}
+
+	/**
+	 * @return The average time it took to write one batch
+	 */
+	public Duration getAverageBatchLatency() {
+		return numberOfBatches == 0L ? Duration.ZERO : Duration.ofNanos(totalBatchLatency / numberOfBatches);
+	}
+
+	/**
+	 * @return The time it took to write the slowest batch
+	 */
+	public Duration getMaxBatchLatency() {
+		return Duration.ofNanos(maxBatchLatency);
+	}
+
+	/**
+	 * @return The number of entities written per second, based on the {@link #getElapsedTime() elapsed time}
+	 */
+	public double getThroughput() {
+		return elapsedTime == 0L ? 0.0 : numberOfEntities * 1_000_000_000.0 / elapsedTime;
+	}
+
+	@Override
+	public String toString() {
+		return "IngestSummary{" +
+			"numberOfEntities=" + numberOfEntities +
+			", numberOfBatches=" + numberOfBatches +
+			", elapsedTime=" + getElapsedTime() +
+			", averageBatchLatency=" + getAverageBatchLatency() +
+			", maxBatchLatency=" + getMaxBatchLatency() +
+			", throughput=" + String.format("%.1f", getThroughput()) +
+			'}';
+	}
+}
@@ -19,11 +19,13 @@
 package org.neo4j.springframework.data.core;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -32,6 +34,7 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.lang.Nullable;
 
@@ -73,6 +76,35 @@ public interface Neo4jClient {
 	 */
 	RunnableSpec query(Supplier<String> cypherSupplier);
 
+	/**
+	 * Entrypoint for running a prepared statement. The statement has already been rendered, only the values of its
+	 * parameters need to be bound. All parameters declared by the statement must be bound and no others, otherwise
+	 * an {@link IllegalArgumentException} is thrown on execution. The default implementation binds the values and runs
+	 * the rendered statement through {@link #query(String)}.
+	 *
+	 * @param preparedStatement A statement that has been prepared upfront
+	 * @return A runnable query specification.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default RunnableSpec query(PreparedStatement preparedStatement) {
+		return new PreparedStatementRunnableSpec(this, preparedStatement);
+	}
+
+	/**
+	 * Entrypoint for a batch of independent statements. The statements of a batch are sent to the database one after
+	 * another without waiting for the results of the previous statements (pipelined) and run in one transaction, so that
+	 * the latency of a whole batch approaches the latency of a single statement.
+	 * <p>
+	 * The default implementation cannot pipeline statements: It runs them one after another through
+	 * {@link #query(String)}. They share a transaction only when they participate in an ongoing one.
+	 *
+	 * @return A batch specification to which statements can be added.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default BatchSpec batch() {
+		return new SequentialBatchSpec(this);
+	}
+
 	/**
 	 * Delegates interaction with the default database to the given callback.
 	 *
@@ -214,6 +246,100 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Fetches all records lazily. Records are pulled from the database and mapped one by one while the stream is
+		 * consumed, so that results of any size can be processed with constant memory. The session or the ongoing
+		 * transaction is used until the stream is closed. The stream must therefore be closed, for example with a
+		 * try-with-resources block.
+		 * <p>
+		 * The default implementation streams {@link #all() all records}, which have been fetched upfront.
+		 *
+		 * @return A stream of all records.
+		 */
+		@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+		default Stream<T> stream() {
+			return all().stream();
+		}
+
+		/**
+		 * Fetches all records lazily, pulling {@code fetchSize} records at once from the database. The fetch size is only
+		 * a hint: It is ignored when the query participates in an ongoing transaction. The default implementation ignores
+		 * it altogether and delegates to {@link #stream()}.
+		 *
+		 * @param fetchSize The number of records to pull at once
+		 * @return A stream of all records.
+		 * @see #stream()
+		 */
+		@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+		default Stream<T> stream(long fetchSize) {
+			return stream();
+		}
+	}
+
+	/**
+	 * Contract for a batch of statements.
+	 * <p>
+	 * Without an ongoing transaction, the client created by {@link Neo4jClient#create(Driver)} runs the batch in a new
+	 * transaction of its own that is committed when all statements succeeded and rolled back otherwise. Inside an ongoing
+	 * transaction, the statements participate in that transaction. The blocking transaction cannot pipeline statements,
+	 * so they are run one after another in that case.
+	 *
+	 * @since 1.0
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	interface BatchSpec {
+
+		/**
+		 * Pins the batch to a specific database. A value of {@literal null} chooses the default database.
+		 * The empty string {@literal ""} is not permitted.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return This batch specification
+		 */
+		BatchSpec in(@Nullable String targetDatabase);
+
+		/**
+		 * Adds a statement without parameters.
+		 *
+		 * @param cypher The cypher code that shall be executed
+		 * @return This batch specification
+		 */
+		BatchSpec add(String cypher);
+
+		/**
+		 * Adds a statement together with its parameters.
+		 *
+		 * @param cypher     The cypher code that shall be executed
+		 * @param parameters The parameters of the statement
+		 * @return This batch specification
+		 */
+		BatchSpec add(String cypher, Map<String, Object> parameters);
+
+		/**
+		 * Adds a prepared statement. The values are validated against the declared parameters of the statement.
+		 *
+		 * @param preparedStatement A statement that has been prepared upfront
+		 * @param values            The values to bind
+		 * @return This batch specification
+		 */
+		BatchSpec add(PreparedStatement preparedStatement, Map<String, Object> values);
+
+		/**
+		 * Executes all statements and discards their results.
+		 *
+		 * @return The native summaries of the statements in the order the statements have been added.
+		 */
+		List<ResultSummary> run();
+
+		/**
+		 * Executes all statements and maps all records of all statements with the given mapping function.
+		 *
+		 * @param mappingFunction The mapping function used to create new domain objects
+		 * @param <T>             The type of the domain objects
+		 * @return The mapped records of each statement in the order the statements have been added.
+		 */
+		<T> List<List<T>> fetchAll(BiFunction<TypeSystem, Record, T> mappingFunction);
 	}
 
 	/**
@@ -18,14 +18,18 @@
  */
 package org.neo4j.springframework.data.core;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.repository.NoResultException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.util.Assert;
 
 /**
  * Specifies operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -72,6 +76,19 @@ public interface Neo4jOperations {
 	 */
 	<T> Optional<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. The templates check this without loading the entity, the
+	 * default implementation loads it through {@link #findById(Object, Class)}.
+	 *
+	 * @param id         the id of the entity. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return {@literal true} if an entity with the given id exists
+	 */
+	default <T> boolean existsById(Object id, Class<T> domainType) {
+		return findById(id, domainType).isPresent();
+	}
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -100,6 +117,56 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a possibly unbounded number of entities. The entities are consumed in batches, each batch is saved like
+	 * {@link #saveAll(Iterable)} would and then discarded, so only one batch is held in memory at a time. Each batch
+	 * runs in a new transaction of its own and is committed independently of the others; a failing batch is rolled back
+	 * and stops the ingest but doesn't roll back the batches committed before. An ongoing transaction is suspended while
+	 * the batches run, the batches are not rolled back with it.
+	 * <p>
+	 * The default implementation saves batches of {@link Neo4jTemplate#DEFAULT_BATCH_SIZE} entities one after another
+	 * through {@link #saveAll(Iterable)}. The batches only run in transactions of their own if {@code saveAll} does so.
+	 *
+	 * @param entities the entities to be saved. Must not be {@code null}.
+	 * @param <T>      the type of the entities.
+	 * @return a summary with the number of saved entities, the batch latencies and the throughput
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> IngestSummary ingest(Iterator<T> entities) {
+
+		Assert.notNull(entities, "The entities to ingest must not be null!");
+
+		long start = System.nanoTime();
+		IngestSummary summary = IngestSummary.EMPTY;
+		List<T> batch = new ArrayList<>(Neo4jTemplate.DEFAULT_BATCH_SIZE);
+		while (entities.hasNext()) {
+			batch.add(entities.next());
+			if (batch.size() < Neo4jTemplate.DEFAULT_BATCH_SIZE && entities.hasNext()) {
+				continue;
+			}
+
+			long batchStart = System.nanoTime();
+			saveAll(batch);
+			summary = summary.withBatch(batch.size(), System.nanoTime() - batchStart);
+			batch = new ArrayList<>(Neo4jTemplate.DEFAULT_BATCH_SIZE);
+		}
+		return summary.withElapsedTime(System.nanoTime() - start);
+	}
+
+	/**
+	 * Saves a possibly unbounded stream of entities, see {@link #ingest(Iterator)}. The stream is not closed.
+	 *
+	 * @param entities the entities to be saved. Must not be {@code null}.
+	 * @param <T>      the type of the entities.
+	 * @return a summary with the number of saved entities, the batch latencies and the throughput
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> IngestSummary ingest(Stream<T> entities) {
+
+		Assert.notNull(entities, "The entities to ingest must not be null!");
+		return ingest(entities.iterator());
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -125,6 +192,39 @@ public interface Neo4jOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in chunks of at most {@code batchSize} nodes. Each chunk is deleted with a
+	 * statement of its own, so that neither the client nor the server has to hold all nodes in one transaction. Chunks
+	 * are only deleted in separate transactions when this method is not called inside an ongoing transaction.
+	 * <p>
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize  the maximum number of nodes deleted per chunk
+	 * @return the total number of deleted nodes
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default long deleteAllInBatches(Class<?> domainType, int batchSize) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support deleting in batches.");
+	}
+
+	/**
+	 * Deletes all entities with one of the given ids in chunks of at most {@code batchSize} ids. Each chunk is deleted
+	 * with a statement of its own, see {@link #deleteAllInBatches(Class, int)}.
+	 * <p>
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param batchSize  the maximum number of ids deleted per chunk
+	 * @param <T>        the type of the entity.
+	 * @return the total number of deleted nodes
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> long deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support deleting in batches.");
+	}
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
@@ -148,6 +248,18 @@ public interface Neo4jOperations {
 		 */
 		List<T> getResults();
 
+		/**
+		 * Other than {@link #getResults()}, the results are fetched and mapped lazily while the stream is consumed.
+		 * The stream holds on to the session or the ongoing transaction and must be closed. The default implementation
+		 * streams the {@link #getResults() list of all results}.
+		 *
+		 * @return A stream of all results. That can be an empty stream but is never null.
+		 */
+		@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+		default Stream<T> getResultStream() {
+			return getResults().stream();
+		}
+
 		/**
 		 * @return An optional, single result.
 		 * @throws IncorrectResultSizeDataAccessException when there is more than one result
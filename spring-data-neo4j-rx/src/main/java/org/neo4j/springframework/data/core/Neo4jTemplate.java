@@ -20,48 +20,58 @@ package org.neo4j.springframework.data.core;
 
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
-import static org.neo4j.springframework.data.core.RelationshipStatementHolder.*;
-import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 import static org.neo4j.springframework.data.core.schema.CypherGenerator.*;
+import static org.neo4j.springframework.data.core.schema.EntityStatements.*;
 import static org.neo4j.springframework.data.core.schema.NodeDescription.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
-import org.neo4j.springframework.data.core.cypher.Condition;
-import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.RenderedStatement;
 import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
-import org.neo4j.springframework.data.core.schema.CypherGenerator;
-import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.mapping.PropertyChangeTracker;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker.TrackedRelationship;
+import org.neo4j.springframework.data.core.schema.EntityStatements;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
-import org.neo4j.springframework.data.core.support.Relationships;
 import org.neo4j.springframework.data.repository.NoResultException;
 import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -78,16 +88,29 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
+	/**
+	 * The default number of entities saved with one statement.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1_000;
+
 	private final Neo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
 
-	private final CypherGenerator cypherGenerator;
-
 	private Neo4jEvents eventSupport;
 
 	private final DatabaseSelectionProvider databaseSelectionProvider;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * The transaction manager used to run each batch of an ingest in a transaction of its own. Resolved from the bean
+	 * factory if not set explicitly.
+	 */
+	@Nullable private PlatformTransactionManager transactionManager;
+
+	@Nullable private ObjectProvider<PlatformTransactionManager> transactionManagers;
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
 	}
@@ -100,7 +123,6 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
-		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = new Neo4jEvents(null);
 		this.databaseSelectionProvider = databaseSelectionProvider;
 	}
@@ -109,11 +131,9 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public long count(Class<?> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
-			.returning(Functions.count(asterisk())).build();
 
 		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class)
-			.withCypherQuery(renderer.render(statement))
+			.withCypherQuery(neo4jMappingContext.getStatementsFor(entityMetaData).getCount())
 			.build();
 		return toExecutableQuery(preparedQuery)
 			.getRequiredSingleResult();
@@ -122,9 +142,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public long count(Statement statement, Map<String, Object> parameters) {
 
+		RenderedStatement renderedStatement = renderer.renderWithLiteralsAsParameters(statement);
 		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class)
-			.withCypherQuery(renderer.render(statement))
-			.withParameters(parameters)
+			.withCypherQuery(renderedStatement.getCypher())
+			.withParameters(renderedStatement.getParametersMergedWith(parameters))
 			.build();
 		return toExecutableQuery(preparedQuery).getRequiredSingleResult();
 	}
@@ -133,9 +154,8 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public <T> List<T> findAll(Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).getResults();
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindAll();
+		return createExecutableQuery(domainType, cypherQuery, Collections.emptyMap()).getResults();
 	}
 
 	@Override
@@ -157,23 +177,29 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator
-			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(literalOf(id)))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
-			.build();
-		return createExecutableQuery(domainType, statement).getSingleResult();
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindById();
+		return createExecutableQuery(domainType, cypherQuery, singletonMap(NAME_OF_ID_PARAMETER, id))
+			.getSingleResult();
 	}
 
 	@Override
-	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+	public <T> boolean existsById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = cypherGenerator
-			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter("ids"))))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+
+		PreparedQuery<Boolean> preparedQuery = PreparedQuery.queryFor(Boolean.class)
+			.withCypherQuery(neo4jMappingContext.getStatementsFor(entityMetaData).getExistsById())
+			.withParameters(singletonMap(NAME_OF_ID_PARAMETER, id))
 			.build();
+		return toExecutableQuery(preparedQuery).getRequiredSingleResult();
+	}
+
+	@Override
+	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
-		return createExecutableQuery(domainType, statement, singletonMap("ids", ids)).getResults();
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindAllById();
+		return createExecutableQuery(domainType, cypherQuery, singletonMap(NAME_OF_IDS_PARAMETER, ids)).getResults();
 	}
 
 	@Override
@@ -185,24 +211,142 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	private <T> T saveImpl(T instance, @Nullable String inDatabase) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		// Must be checked before the callbacks, as those might generate an id
+		boolean isNew = entityMetaData.isNew(instance);
 		T entityToBeSaved = eventSupport.maybeCallBeforeBind(instance);
-		Long internalId = neo4jClient
-			.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData)))
-			.in(inDatabase)
-			.bind((T) entityToBeSaved)
-			.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()))
-			.fetchAs(Long.class).one().get();
+		EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
+		Map<String, Object> parameters = neo4jMappingContext
+			.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()).apply(entityToBeSaved);
+		Map<String, Object> properties = (Map<String, Object>) parameters.get(NAME_OF_PROPERTIES_PARAM);
+
+		PropertyChangeTracker propertyChangeTracker = neo4jMappingContext.getPropertyChangeTracker();
+		Map<String, Object> changedProperties = propertyChangeTracker == null || entityMetaData.isNew(entityToBeSaved) ?
+			null :
+			propertyChangeTracker.getChangedProperties(entityToBeSaved, properties);
+
+		Optional<Long> internalId;
+		if (changedProperties == null) {
+			internalId = Optional.empty();
+		} else if (changedProperties.isEmpty()) {
+			log.debug(() -> String.format("Properties of %s did not change, skipping update.", entityToBeSaved));
+			internalId = entityMetaData.isUsingInternalIds() ?
+				Optional.of((Long) parameters.get(NAME_OF_ID_PARAM)) :
+				Optional.empty();
+		} else {
+			Map<String, Object> partialUpdate = new HashMap<>(parameters);
+			partialUpdate.put(NAME_OF_PROPERTIES_PARAM, changedProperties);
+			internalId = neo4jClient.query(statements.getUpdateChangedProperties())
+				.in(inDatabase)
+				.bindAll(partialUpdate)
+				.fetchAs(Long.class).one();
+		}
+
+		// write all properties if the entity has not been tracked or the tracked node doesn't exist anymore
+		if (!internalId.isPresent() && (changedProperties == null || !changedProperties.isEmpty())) {
+			internalId = saveAllProperties(entityMetaData, statements, parameters, isNew, inDatabase);
+		}
 
 		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 
+		T savedEntity;
 		if (!entityMetaData.isUsingInternalIds()) {
-			processAssociations(entityMetaData, entityToBeSaved, inDatabase);
-			return entityToBeSaved;
+			savedEntity = entityToBeSaved;
 		} else {
-			propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalId);
-			processAssociations(entityMetaData, entityToBeSaved, inDatabase);
+			propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalId.get());
+			savedEntity = propertyAccessor.getBean();
+		}
+
+		if (propertyChangeTracker != null) {
+			snapshotAfterCommit(propertyChangeTracker, savedEntity, properties);
+		}
+		processAssociations(entityMetaData, savedEntity, inDatabase);
+		return savedEntity;
+	}
+
+	private <T> void saveAllInChunks(String statement, Class<T> domainClass, List<T> entities,
+		@Nullable String inDatabase) {
+
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		for (List<T> chunk : chunked(entities)) {
+			ResultSummary resultSummary = neo4jClient
+				.query(statement)
+				.in(inDatabase)
+				.bind(chunk.stream().map(binderFunction).collect(toList())).to(NAME_OF_ENTITY_LIST_PARAM)
+				.run();
+
+			SummaryCounters counters = resultSummary.counters();
+			log.debug(() -> String
+				.format("Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
+					counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
+					counters.relationshipsDeleted(), counters.propertiesSet()));
+		}
+	}
+
+	/**
+	 * Writes all properties of an entity. Entities known to be new are created without looking up an existing node,
+	 * existing entities with internal ids are updated without trying to create them. Only entities with assigned ids,
+	 * entities with given external ids and entities whose nodes have been deleted in the meantime need to be merged.
+	 *
+	 * @param isNew True, if the entity was new before the callbacks have been applied
+	 * @return The internal id of the saved node
+	 */
+	private Optional<Long> saveAllProperties(Neo4jPersistentEntity<?> entityMetaData, EntityStatements statements,
+		Map<String, Object> parameters, boolean isNew, @Nullable String inDatabase) {
+
+		if (isNew && !entityMetaData.getIdDescription().isAssignedId()) {
+			return neo4jClient.query(statements.getCreate()).in(inDatabase).bindAll(parameters)
+				.fetchAs(Long.class).one();
+		}
+
+		if (entityMetaData.isUsingInternalIds()) {
+			Optional<Long> internalId = neo4jClient.query(statements.getUpdate()).in(inDatabase).bindAll(parameters)
+				.fetchAs(Long.class).one();
+			if (internalId.isPresent()) {
+				return internalId;
+			}
+		}
+
+		return neo4jClient.query(statements.getSave()).in(inDatabase).bindAll(parameters)
+			.fetchAs(Long.class).one();
+	}
+
+	/**
+	 * Discards the snapshots of entities whose properties are written completely without taking a new snapshot, so
+	 * that a stale snapshot doesn't hide later changes.
+	 */
+	private void forgetPropertySnapshots(List<?> entities) {
+
+		PropertyChangeTracker propertyChangeTracker = neo4jMappingContext.getPropertyChangeTracker();
+		if (propertyChangeTracker != null) {
+			entities.forEach(propertyChangeTracker::forget);
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the written properties as soon as they are known to be in the database. The previous snapshot
+	 * is kept until then, so that the changes are written again after a rollback.
+	 */
+	private static void snapshotAfterCommit(PropertyChangeTracker propertyChangeTracker, Object entity,
+		Map<String, Object> properties) {
+
+		runAfterCommit(() -> propertyChangeTracker.snapshot(entity, properties));
+	}
 
-			return propertyAccessor.getBean();
+	/**
+	 * Runs the given action after the ongoing transaction has been committed or right away, if the statements are not
+	 * run in a Spring managed transaction.
+	 */
+	private static void runAfterCommit(Runnable action) {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
 		}
 	}
 
@@ -225,12 +369,14 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
-		if (entityMetaData.isUsingInternalIds()) {
-			log.debug("Saving entities using single statements.");
 
-			return entities.stream()
-				.map(e -> saveImpl(e, databaseName))
-				.collect(toList());
+		// Must be checked before the callbacks, as those might generate ids
+		boolean[] generatedIdIsNew = new boolean[entities.size()];
+		if (entityMetaData.getIdDescription().isExternallyGeneratedId()) {
+			int i = 0;
+			for (T entity : entities) {
+				generatedIdIsNew[i++] = entityMetaData.isNew(entity);
+			}
 		}
 
 		List<T> entitiesToBeSaved = entities.stream()
@@ -238,42 +384,82 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			.collect(toList());
 
 		// Save roots
-		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
-		List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
-			.map(binderFunction).collect(toList());
-		ResultSummary resultSummary = neo4jClient
-			.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-			.in(databaseName)
-			.bind(entityList).to(NAME_OF_ENTITY_LIST_PARAM)
-			.run();
+		if (entityMetaData.isUsingInternalIds()) {
+			List<Long> internalIds = saveAllReturningInternalIds(entityMetaData, domainClass, entitiesToBeSaved,
+				databaseName);
+
+			List<T> savedEntities = new ArrayList<>(entitiesToBeSaved.size());
+			for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+				PersistentPropertyAccessor<T> propertyAccessor = entityMetaData
+					.getPropertyAccessor(entitiesToBeSaved.get(i));
+				propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalIds.get(i));
+				savedEntities.add(propertyAccessor.getBean());
+			}
+			entitiesToBeSaved = savedEntities;
+		} else {
+			EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
+			forgetPropertySnapshots(entitiesToBeSaved);
+
+			// Entities with freshly generated ids are created, all others merged
+			List<T> entitiesToBeCreated = new ArrayList<>();
+			List<T> entitiesToBeMerged = new ArrayList<>();
+			for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+				(generatedIdIsNew[i] ? entitiesToBeCreated : entitiesToBeMerged).add(entitiesToBeSaved.get(i));
+			}
+			saveAllInChunks(statements.getCreateAll(), domainClass, entitiesToBeCreated, databaseName);
+			saveAllInChunks(statements.getSaveAll(), domainClass, entitiesToBeMerged, databaseName);
+		}
 
 		// Save related
-		entitiesToBeSaved.forEach(entityToBeSaved -> {
-			processAssociations(entityMetaData, entityToBeSaved, databaseName);
-		});
-
-		SummaryCounters counters = resultSummary.counters();
-		log.debug(() -> String
-			.format("Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-				counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-				counters.relationshipsDeleted(), counters.propertiesSet()));
+		processNestedAssociations(entityMetaData, entitiesToBeSaved, databaseName, new HashSet<>());
 
 		return entitiesToBeSaved;
 	}
 
+	@Override
+	public <T> IngestSummary ingest(Iterator<T> entities) {
+
+		Assert.notNull(entities, "The entities to ingest must not be null!");
+
+		TransactionTemplate transactionTemplate = getTransactionTemplate();
+		long start = System.nanoTime();
+		IngestSummary summary = IngestSummary.EMPTY;
+		List<T> batch = new ArrayList<>(batchSize);
+		while (entities.hasNext()) {
+			batch.add(entities.next());
+			if (batch.size() < batchSize && entities.hasNext()) {
+				continue;
+			}
+
+			long batchStart = System.nanoTime();
+			if (transactionTemplate == null) {
+				saveAll(batch);
+			} else {
+				transactionTemplate.executeWithoutResult(tx -> saveAll(batch));
+			}
+			long batchLatency = System.nanoTime() - batchStart;
+			summary = summary.withBatch(batch.size(), batchLatency).withElapsedTime(System.nanoTime() - start);
+			batch.clear();
+
+			IngestSummary progress = summary;
+			log.debug(() -> String.format("Ingested batch %d in %d ms, %d entities so far (%.1f entities/s).",
+				progress.getNumberOfBatches(), TimeUnit.NANOSECONDS.toMillis(batchLatency),
+				progress.getNumberOfEntities(), progress.getThroughput()));
+		}
+		return summary.withElapsedTime(System.nanoTime() - start);
+	}
+
 	@Override
 	public <T> void deleteById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		String nameOfParameter = "id";
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting entity with id %s ", id));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		ResultSummary summary = this.neo4jClient
+			.query(neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteById())
 			.in(getDatabaseName())
-			.bind(id).to(nameOfParameter)
+			.bind(id).to(NAME_OF_ID_PARAMETER)
 			.run();
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
@@ -284,15 +470,13 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public <T> void deleteAllById(Iterable<?> ids, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
 		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+		ResultSummary summary = this.neo4jClient
+			.query(neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllById())
 			.in(getDatabaseName())
-			.bind(ids).to(nameOfParameter)
+			.bind(ids).to(NAME_OF_IDS_PARAMETER)
 			.run();
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
@@ -305,22 +489,88 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).in(getDatabaseName()).run();
+		ResultSummary summary = this.neo4jClient.query(neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAll())
+			.in(getDatabaseName()).run();
 
 		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 			summary.counters().relationshipsDeleted()));
 	}
 
-	private <T> ExecutableQuery createExecutableQuery(Class<T> domainType, Statement statement) {
+	@Override
+	public long deleteAllInBatches(Class<?> domainType, int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String primaryLabel = entityMetaData.getPrimaryLabel();
+		log.debug(() -> String.format("Deleting all nodes with primary label %s in batches of %d", primaryLabel,
+			batchSize));
+
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllInBatches();
+		String databaseName = getDatabaseName();
+
+		long totalNodesDeleted = 0L;
+		int nodesDeleted;
+		do {
+			ResultSummary summary = this.neo4jClient.query(cypherQuery).in(databaseName)
+				.bind(batchSize).to(NAME_OF_BATCH_SIZE_PARAMETER).run();
+			nodesDeleted = summary.counters().nodesDeleted();
+			totalNodesDeleted += nodesDeleted;
+
+			long progress = totalNodesDeleted;
+			log.debug(() -> String.format("Deleted %d nodes with primary label %s so far.", progress, primaryLabel));
+		} while (nodesDeleted == batchSize);
+
+		return totalNodesDeleted;
+	}
+
+	@Override
+	public <T> long deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllById();
+		String databaseName = getDatabaseName();
+
+		long totalNodesDeleted = 0L;
+		Iterator<?> idsToDelete = ids.iterator();
+		while (idsToDelete.hasNext()) {
+			List<Object> chunk = new ArrayList<>(batchSize);
+			while (idsToDelete.hasNext() && chunk.size() < batchSize) {
+				chunk.add(idsToDelete.next());
+			}
+
+			ResultSummary summary = this.neo4jClient.query(cypherQuery)
+				.in(databaseName)
+				.bind(chunk).to(NAME_OF_IDS_PARAMETER)
+				.run();
+			totalNodesDeleted += summary.counters().nodesDeleted();
+
+			long progress = totalNodesDeleted;
+			log.debug(() -> String.format("Deleted %d nodes so far.", progress));
+		}
+		return totalNodesDeleted;
+	}
+
+	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, statement, Collections.emptyMap());
 	}
 
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Statement statement,
 		Map<String, Object> parameters) {
 
+		RenderedStatement renderedStatement = renderer.renderWithLiteralsAsParameters(statement);
+		return createExecutableQuery(domainType, renderedStatement.getCypher(),
+			renderedStatement.getParametersMergedWith(parameters));
+	}
+
+	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, String cypherQuery,
+		Map<String, Object> parameters) {
+
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
-			.withCypherQuery(renderer.render(statement))
+			.withCypherQuery(cypherQuery)
 			.withParameters(parameters)
 			.usingMappingFunction(neo4jMappingContext.getRequiredMappingFunctionFor(domainType))
 			.build();
@@ -329,85 +579,93 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private void processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
 		@Nullable String inDatabase) {
-		processNestedAssociations(neo4jPersistentEntity, parentObject, inDatabase, new HashSet<>());
+		processNestedAssociations(neo4jPersistentEntity, singletonList(parentObject), inDatabase, new HashSet<>());
 	}
 
-	private void processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
+	/**
+	 * Processes the associations of all parent objects, which must be of the same entity, association by association.
+	 * The related nodes of each association are saved together and then processed as parent objects themselves.
+	 */
+	private void processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, List<?> parentObjects,
 		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions) {
 
-		PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
-
 		neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler -> {
 
-			// create context to bundle parameters
-			NestedRelationshipContext relationshipContext = NestedRelationshipContext
-				.of(handler, propertyAccessor, neo4jPersistentEntity);
+			NestedRelationshipBatch batch = NestedRelationshipBatch
+				.of(neo4jMappingContext, neo4jPersistentEntity, handler, parentObjects);
 
 			// break recursive procession and deletion of previously created relationships
-			RelationshipDescription relationshipObverse = relationshipContext.getRelationship().getRelationshipObverse();
+			RelationshipDescription relationshipObverse = batch.getRelationship().getRelationshipObverse();
 			if (hasProcessed(processedRelationshipDescriptions, relationshipObverse)) {
 				return;
 			}
 
-			Neo4jPersistentEntity<?> targetNodeDescription = neo4jMappingContext
-				.getPersistentEntity(relationshipContext.getAssociationTargetType());
-
-			Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
-			// remove all relationships before creating all new if the entity is not new
-			// this avoids the usage of cache but might have significant impact on overall performance
-			if (!neo4jPersistentEntity.isNew(parentObject)) {
-				Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(neo4jPersistentEntity,
-					relationshipContext.getRelationship(), targetNodeDescription.getPrimaryLabel());
+			// remove all relationships of existing parents before creating all new
+			if (!batch.getIdsOfExistingParents().isEmpty()) {
+				neo4jClient.query(renderer.render(batch.getRelationshipsRemoveQuery()))
+					.in(inDatabase)
+					.bind(batch.getIdsOfExistingParents()).to(FROM_IDS_PARAMETER_NAME).run();
+			}
 
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
+			// delete only the removed relationships of tracked parents
+			for (RelationshipStatementHolder statementHolder : batch.createRelationshipDeleteStatements()) {
+				neo4jClient.query(renderer.render(statementHolder.getStatement()))
 					.in(inDatabase)
-					.bind(fromId).to(FROM_ID_PARAMETER_NAME).run();
+					.bindAll(statementHolder.getParameters())
+					.run();
 			}
 
 			// nothing to do because there is nothing to map
-			if (relationshipContext.inverseValueIsEmpty()) {
+			if (batch.inverseValuesAreEmpty()) {
 				return;
 			}
 
-			processedRelationshipDescriptions.add(relationshipContext.getRelationship());
+			processedRelationshipDescriptions.add(batch.getRelationship());
 
-			for (Object relatedValue : Relationships
-				.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+			if (batch.getRelatedNodes().isEmpty()) {
+				return;
+			}
 
-				// here map entry is not always anymore a dynamic association
-				Object valueToBeSaved = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
+			batch.setRelatedNodes(batch.getRelatedNodes().stream()
+				.map(eventSupport::maybeCallBeforeBind)
+				.collect(toList()));
+			batch.setInternalIdsOfRelatedNodes(saveRelatedNodes(batch, inDatabase));
 
-				valueToBeSaved = eventSupport.maybeCallBeforeBind(valueToBeSaved);
+			for (RelationshipStatementHolder statementHolder : batch.createRelationshipStatements()) {
+				neo4jClient.query(renderer.render(statementHolder.getStatement()))
+					.in(inDatabase)
+					.bindAll(statementHolder.getParameters())
+					.run();
+			}
 
-				Long relatedInternalId = saveRelatedNode(valueToBeSaved, relationshipContext.getAssociationTargetType(),
-					targetNodeDescription, inDatabase);
+			processNestedAssociations(batch.getTargetEntity(), batch.getRelatedNodes(), inDatabase,
+				processedRelationshipDescriptions);
+		});
 
-				// handle creation of relationship depending on properties on relationship or not
-				RelationshipStatementHolder statementHolder = relationshipContext.hasRelationshipWithProperties()
-					? createStatementForRelationShipWithProperties(neo4jMappingContext,
-						neo4jPersistentEntity,
-						relationshipContext,
-						relatedInternalId,
-						(Map.Entry) relatedValue)
-					: createStatementForRelationshipWithoutProperties(neo4jPersistentEntity,
-						relationshipContext,
-						relatedInternalId,
-						relatedValue);
+		RelationshipChangeTracker relationshipChangeTracker = neo4jMappingContext.getRelationshipChangeTracker();
+		if (relationshipChangeTracker != null) {
+			snapshotAfterCommit(relationshipChangeTracker, neo4jPersistentEntity, parentObjects);
+		}
+	}
 
-				neo4jClient.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
-					.in(inDatabase)
-					.bind(fromId).to(FROM_ID_PARAMETER_NAME)
-					.bindAll(statementHolder.getProperties())
-					.run();
+	/**
+	 * Takes a snapshot of the written relationships as soon as they are known to be in the database. Until then, the
+	 * parent objects are not tracked at all, so that all of their relationships are written again after a rollback or
+	 * when they are saved again in the same transaction.
+	 */
+	private static void snapshotAfterCommit(RelationshipChangeTracker relationshipChangeTracker,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity, List<?> parentObjects) {
+
+		List<Map<String, Set<TrackedRelationship>>> writtenRelationships = new ArrayList<>(parentObjects.size());
+		for (Object parentObject : parentObjects) {
+			writtenRelationships
+				.add(relationshipChangeTracker.describeRelationships(neo4jPersistentEntity, parentObject));
+			relationshipChangeTracker.forget(parentObject);
+		}
 
-				// if an internal id is used this must get set to link this entity in the next iteration
-				if (targetNodeDescription.isUsingInternalIds()) {
-					PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-						.getPropertyAccessor(valueToBeSaved);
-					targetPropertyAccessor
-						.setProperty(targetNodeDescription.getRequiredIdProperty(), relatedInternalId);
-				}
-				processNestedAssociations(targetNodeDescription, valueToBeSaved, inDatabase, processedRelationshipDescriptions);
+		runAfterCommit(() -> {
+			for (int i = 0; i < parentObjects.size(); ++i) {
+				relationshipChangeTracker.snapshot(parentObjects.get(i), writtenRelationships.get(i));
 			}
 		});
 	}
@@ -421,11 +679,122 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		return false;
 	}
 
-	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription, @Nullable String inDatabase) {
-		return neo4jClient.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription)))
-			.in(inDatabase)
-			.bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
-			.fetchAs(Long.class).one().get();
+	/**
+	 * Saves all related nodes of a batch.
+	 *
+	 * @return The internal ids of the related nodes, in the order of {@link NestedRelationshipBatch#getRelatedNodes()}
+	 */
+	private List<Long> saveRelatedNodes(NestedRelationshipBatch batch, @Nullable String inDatabase) {
+
+		return saveAllReturningInternalIds(batch.getTargetEntity(), (Class<Object>) batch.getAssociationTargetType(),
+			batch.getRelatedNodes(), inDatabase);
+	}
+
+	/**
+	 * Saves a list of entities of the same type in chunks of {@link #setBatchSize(int) batch size} entities per
+	 * statement. Entities with external ids are merged. Entities using internal ids are either created or updated,
+	 * depending on whether they are new.
+	 * Existing entities whose nodes have been deleted in the meantime are created again.
+	 *
+	 * @return The internal ids of the saved entities, in the order of the given list
+	 */
+	private <T> List<Long> saveAllReturningInternalIds(Neo4jPersistentEntity<?> entityMetaData, Class<T> domainClass,
+		List<T> entities, @Nullable String inDatabase) {
+
+		EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		forgetPropertySnapshots(entities);
+
+		List<Long> internalIds = new ArrayList<>(entities.size());
+		for (List<T> chunk : chunked(entities)) {
+
+			List<Map<String, Object>> boundEntities = chunk.stream()
+				.map(binderFunction)
+				.collect(toList());
+
+			if (!entityMetaData.isUsingInternalIds()) {
+				internalIds.addAll(neo4jClient.query(statements.getSaveAllReturningInternalIds())
+					.in(inDatabase)
+					.bind(boundEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+					.fetchAs(Long.class).all());
+				continue;
+			}
+
+			Long[] internalIdsOfChunk = new Long[boundEntities.size()];
+			List<Map<String, Object>> existingEntities = new ArrayList<>();
+			for (int i = 0; i < internalIdsOfChunk.length; ++i) {
+				if (!entityMetaData.isNew(chunk.get(i))) {
+					Map<String, Object> boundEntity = boundEntities.get(i);
+					existingEntities.add(boundEntity);
+					internalIdsOfChunk[i] = ((Number) boundEntity.get(NAME_OF_ID_PARAM)).longValue();
+				}
+			}
+
+			if (!existingEntities.isEmpty()) {
+				Collection<Long> updatedIds = neo4jClient.query(statements.getUpdateAll())
+					.in(inDatabase)
+					.bind(existingEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+					.fetchAs(Long.class).all();
+				forgetIdsOfMissingNodes(internalIdsOfChunk, new HashSet<>(updatedIds));
+			}
+
+			List<Map<String, Object>> newEntities = selectEntitiesWithoutIds(boundEntities, internalIdsOfChunk);
+			if (!newEntities.isEmpty()) {
+				Iterator<Long> createdIds = neo4jClient.query(statements.getSaveAllReturningInternalIds())
+					.in(inDatabase)
+					.bind(newEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+					.fetchAs(Long.class).all().iterator();
+				for (int i = 0; i < internalIdsOfChunk.length; ++i) {
+					if (internalIdsOfChunk[i] == null) {
+						internalIdsOfChunk[i] = createdIds.next();
+					}
+				}
+			}
+
+			internalIds.addAll(Arrays.asList(internalIdsOfChunk));
+		}
+		return internalIds;
+	}
+
+	/**
+	 * Removes the ids of all entities whose nodes have not been updated because they don't exist anymore. Those
+	 * entities are created again, like {@link #save(Object)} does.
+	 */
+	static void forgetIdsOfMissingNodes(Long[] internalIds, Set<Long> updatedIds) {
+
+		for (int i = 0; i < internalIds.length; ++i) {
+			if (internalIds[i] != null && !updatedIds.contains(internalIds[i])) {
+				internalIds[i] = null;
+			}
+		}
+	}
+
+	/**
+	 * @return The bound entities that don't have an internal id yet, in the order of the given list
+	 */
+	static List<Map<String, Object>> selectEntitiesWithoutIds(List<Map<String, Object>> boundEntities,
+		Long[] internalIds) {
+
+		List<Map<String, Object>> entitiesWithoutIds = new ArrayList<>();
+		for (int i = 0; i < internalIds.length; ++i) {
+			if (internalIds[i] == null) {
+				entitiesWithoutIds.add(boundEntities.get(i));
+			}
+		}
+		return entitiesWithoutIds;
+	}
+
+	private <T> List<List<T>> chunked(List<T> entities) {
+		return chunked(entities, batchSize);
+	}
+
+	private static <T> List<List<T>> chunked(List<T> entities, int chunkSize) {
+
+		List<List<T>> chunks = new ArrayList<>(entities.size() / chunkSize + 1);
+		for (int fromIndex = 0; fromIndex < entities.size(); fromIndex += chunkSize) {
+			chunks.add(entities.subList(fromIndex, Math.min(entities.size(), fromIndex + chunkSize)));
+		}
+		return chunks;
 	}
 
 	private String getDatabaseName() {
@@ -437,6 +806,51 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = new Neo4jEvents(EntityCallbacks.create(beanFactory));
+		this.transactionManagers = beanFactory.getBeanProvider(PlatformTransactionManager.class);
+	}
+
+	/**
+	 * Configures the transaction manager used to run each batch of {@link #ingest(Iterator)} in a transaction of its
+	 * own. If none is configured, the unique transaction manager of the bean factory is used, if there is one.
+	 *
+	 * @param transactionManager The transaction manager for ingesting entities
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+
+		Assert.notNull(transactionManager, "The transaction manager is required.");
+		this.transactionManager = transactionManager;
+	}
+
+	/**
+	 * @return A template for running one batch of an ingest in a new transaction, suspending an ongoing one, or
+	 * {@literal null} if there is no transaction manager
+	 */
+	@Nullable
+	private TransactionTemplate getTransactionTemplate() {
+
+		PlatformTransactionManager currentTransactionManager = this.transactionManager;
+		if (currentTransactionManager == null && this.transactionManagers != null) {
+			currentTransactionManager = this.transactionManagers.getIfUnique();
+		}
+		if (currentTransactionManager == null) {
+			return null;
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(currentTransactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate;
+	}
+
+	/**
+	 * Configures the maximum number of entities saved with one statement by {@link #saveAll(Iterable)} and while saving
+	 * the related nodes of an aggregate. Larger lists are split into several statements.
+	 *
+	 * @param batchSize The maximum number of entities per statement, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		this.batchSize = batchSize;
 	}
 
 	@Override
@@ -469,6 +883,10 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			return fetchSpec.all().stream().collect(toList());
 		}
 
+		public Stream<T> getResultStream() {
+			return fetchSpec.stream();
+		}
+
 		public Optional<T> getSingleResult() {
 			try {
 				return fetchSpec.one();
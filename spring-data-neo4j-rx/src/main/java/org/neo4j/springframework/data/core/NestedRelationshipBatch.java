@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.schema.CypherGenerator.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker.TrackedRelationship;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.core.support.Relationships;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A batch of all relationships of one association, collected from many parent objects of the same entity. Saving an
+ * aggregate processes its associations level by level: The existing relationships of all parents are removed with one
+ * statement, all related nodes are saved with one statement and all new relationships are created with one statement
+ * per relationship type. The number of statements needed to save an aggregate thus depends on the number of
+ * relationship types and not on the number of related objects.
+ * <p>
+ * Related nodes are identified by object identity, so a node related to several parents is saved only once.
+ * <p>
+ * If relationships are tracked (see {@link RelationshipChangeTracker}), the relationships of tracked parents are not
+ * removed upfront. Instead, only the relationships that have been removed since the last snapshot are deleted and only
+ * the ones that have been added are created.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class NestedRelationshipBatch {
+
+	static NestedRelationshipBatch of(Neo4jMappingContext neo4jMappingContext,
+		Neo4jPersistentEntity<?> parentEntity, Association<Neo4jPersistentProperty> association,
+		List<?> parentObjects) {
+
+		Assert.notEmpty(parentObjects, "At least one parent object is required.");
+
+		NestedRelationshipBatch batch = null;
+		for (Object parentObject : parentObjects) {
+
+			// create context to bundle parameters
+			PersistentPropertyAccessor<?> propertyAccessor = parentEntity.getPropertyAccessor(parentObject);
+			NestedRelationshipContext relationshipContext = NestedRelationshipContext
+				.of(association, propertyAccessor, parentEntity);
+
+			if (batch == null) {
+				batch = new NestedRelationshipBatch(neo4jMappingContext, parentEntity, relationshipContext);
+			}
+			batch.add(parentObject, propertyAccessor, relationshipContext);
+		}
+		return batch;
+	}
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	private final Neo4jPersistentEntity<?> parentEntity;
+
+	private final RelationshipDescription relationship;
+
+	private final Class<?> associationTargetType;
+
+	private final Neo4jPersistentEntity<?> targetEntity;
+
+	@Nullable
+	private final RelationshipChangeTracker relationshipChangeTracker;
+
+	private final List<Object> idsOfExistingParents = new ArrayList<>();
+
+	private final Map<String, List<Map<String, Object>>> removedRelationshipsByType = new LinkedHashMap<>();
+
+	private boolean inverseValuesAreEmpty = true;
+
+	private List<Object> relatedNodes = new ArrayList<>();
+
+	private final Map<Object, Integer> indexOfRelatedNodes = new IdentityHashMap<>();
+
+	private final List<PendingRelationship> pendingRelationships = new ArrayList<>();
+
+	@Nullable
+	private List<Long> internalIdsOfRelatedNodes;
+
+	private NestedRelationshipBatch(Neo4jMappingContext neo4jMappingContext, Neo4jPersistentEntity<?> parentEntity,
+		NestedRelationshipContext relationshipContext) {
+
+		this.neo4jMappingContext = neo4jMappingContext;
+		this.parentEntity = parentEntity;
+		this.relationship = relationshipContext.getRelationship();
+		this.associationTargetType = relationshipContext.getAssociationTargetType();
+		this.targetEntity = neo4jMappingContext.getPersistentEntity(associationTargetType);
+		this.relationshipChangeTracker = neo4jMappingContext.getRelationshipChangeTracker();
+	}
+
+	private void add(Object parentObject, PersistentPropertyAccessor<?> propertyAccessor,
+		NestedRelationshipContext relationshipContext) {
+
+		Neo4jPersistentProperty parentIdProperty = parentEntity.getRequiredIdProperty();
+		Object fromId = writeIdValue(parentIdProperty, propertyAccessor.getProperty(parentIdProperty));
+
+		Set<TrackedRelationship> loadedRelationships = relationshipChangeTracker == null ?
+			null :
+			relationshipChangeTracker.getLoadedRelationships(parentObject, relationship);
+
+		// remove all relationships before creating all new if the entity is not new and has not been tracked
+		// this avoids the usage of cache but might have significant impact on overall performance
+		if (loadedRelationships == null && !parentEntity.isNew(parentObject)) {
+			idsOfExistingParents.add(fromId);
+		}
+
+		Set<TrackedRelationship> removedRelationships = loadedRelationships == null ?
+			Collections.emptySet() :
+			new HashSet<>(loadedRelationships);
+		// nothing to map if there is no value, but tracked relationships might have been removed
+		if (!relationshipContext.inverseValueIsEmpty()) {
+			inverseValuesAreEmpty = false;
+			addRelatedValues(fromId, relationshipContext, loadedRelationships, removedRelationships);
+		}
+
+		for (TrackedRelationship removedRelationship : removedRelationships) {
+			addRemovedRelationship(fromId, removedRelationship);
+		}
+	}
+
+	private void addRelatedValues(Object fromId, NestedRelationshipContext relationshipContext,
+		@Nullable Set<TrackedRelationship> loadedRelationships, Set<TrackedRelationship> removedRelationships) {
+
+		for (Object relatedValue : Relationships
+			.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+
+			// here map entry is not always anymore a dynamic association
+			Object relatedNode = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
+			Integer indexOfRelatedNode = indexOfRelatedNodes.get(relatedNode);
+			if (indexOfRelatedNode == null) {
+				indexOfRelatedNode = relatedNodes.size();
+				relatedNodes.add(relatedNode);
+				indexOfRelatedNodes.put(relatedNode, indexOfRelatedNode);
+			}
+
+			String dynamicRelationshipType = relationship.isDynamic() ?
+				((Map.Entry<String, ?>) relatedValue).getKey() :
+				null;
+			Object relationshipProperties = relationship.hasRelationshipProperties() ?
+				((Map.Entry<?, ?>) relatedValue).getValue() :
+				null;
+
+			// an unchanged relationship without properties doesn't need to be written again
+			if (loadedRelationships != null) {
+				TrackedRelationship trackedRelationship = relationshipChangeTracker
+					.describe(relationship, dynamicRelationshipType, relatedNode);
+				if (trackedRelationship != null && removedRelationships.remove(trackedRelationship)
+					&& !relationship.hasRelationshipProperties()) {
+					continue;
+				}
+			}
+			pendingRelationships.add(
+				new PendingRelationship(fromId, indexOfRelatedNode, dynamicRelationshipType, relationshipProperties));
+		}
+	}
+
+	private void addRemovedRelationship(Object fromId, TrackedRelationship removedRelationship) {
+
+		Object toId = writeIdValue(targetEntity.getRequiredIdProperty(), removedRelationship.getTargetId());
+
+		Map<String, Object> row = new HashMap<>();
+		row.put(FROM_ID_PARAMETER_NAME, fromId);
+		row.put(TO_ID_PARAMETER_NAME, toId);
+		removedRelationshipsByType.computeIfAbsent(removedRelationship.getType(), type -> new ArrayList<>()).add(row);
+	}
+
+	/**
+	 * Converts an id the same way as it is written when saving the node, so that parents and targets are matched
+	 * regardless of the type of their id.
+	 *
+	 * @param idProperty The id property of the node
+	 * @param id         The value of the id property
+	 * @return The id as stored in the graph
+	 */
+	@Nullable
+	private Object writeIdValue(Neo4jPersistentProperty idProperty, @Nullable Object id) {
+
+		return idProperty.isInternalIdProperty() ?
+			id :
+			neo4jMappingContext.getConverter().writeValueFromProperty(id, idProperty.getTypeInformation());
+	}
+
+	RelationshipDescription getRelationship() {
+		return relationship;
+	}
+
+	Class<?> getAssociationTargetType() {
+		return associationTargetType;
+	}
+
+	Neo4jPersistentEntity<?> getTargetEntity() {
+		return targetEntity;
+	}
+
+	/**
+	 * @return True, if none of the parents has a value for the association at all
+	 */
+	boolean inverseValuesAreEmpty() {
+		return inverseValuesAreEmpty;
+	}
+
+	/**
+	 * @return The ids of all parents that are not new and whose relationships need to be removed first
+	 */
+	List<Object> getIdsOfExistingParents() {
+		return idsOfExistingParents;
+	}
+
+	/**
+	 * @return A statement removing the relationships of all parents given as {@link CypherGenerator#FROM_IDS_PARAMETER_NAME}
+	 */
+	Statement getRelationshipsRemoveQuery() {
+		return CypherGenerator.INSTANCE
+			.createRelationshipsRemoveQuery(parentEntity, relationship, targetEntity.getPrimaryLabel());
+	}
+
+	/**
+	 * @return One statement per relationship type deleting the relationships removed from tracked parents
+	 */
+	List<RelationshipStatementHolder> createRelationshipDeleteStatements() {
+
+		List<RelationshipStatementHolder> statements = new ArrayList<>(removedRelationshipsByType.size());
+		removedRelationshipsByType.forEach((type, relationships) -> statements.add(RelationshipStatementHolder
+			.createStatementForRemovedRelationships(parentEntity, relationship, type, targetEntity, relationships)));
+		return statements;
+	}
+
+	/**
+	 * @return All distinct related nodes of all parents
+	 */
+	List<Object> getRelatedNodes() {
+		return relatedNodes;
+	}
+
+	/**
+	 * Replaces the related nodes, i.e. with the results of callbacks invoked before binding them.
+	 *
+	 * @param relatedNodes The new related nodes, in the order of {@link #getRelatedNodes()}
+	 */
+	void setRelatedNodes(List<Object> relatedNodes) {
+
+		Assert.isTrue(relatedNodes.size() == this.relatedNodes.size(), "The number of related nodes must not change.");
+		this.relatedNodes = relatedNodes;
+	}
+
+	/**
+	 * Stores the internal ids of the saved related nodes. If the target entity uses internal ids, those are set on the
+	 * related nodes as well, so that they can be linked in the next level.
+	 *
+	 * @param internalIds The internal ids of the related nodes, in the order of {@link #getRelatedNodes()}
+	 */
+	void setInternalIdsOfRelatedNodes(List<Long> internalIds) {
+
+		Assert.state(internalIds.size() == relatedNodes.size(),
+			() -> String.format("Expected %d internal ids of saved related nodes, got %d.",
+				relatedNodes.size(), internalIds.size()));
+
+		this.internalIdsOfRelatedNodes = internalIds;
+		if (targetEntity.isUsingInternalIds()) {
+			for (int i = 0; i < relatedNodes.size(); ++i) {
+				PersistentPropertyAccessor<?> targetPropertyAccessor = targetEntity
+					.getPropertyAccessor(relatedNodes.get(i));
+				targetPropertyAccessor.setProperty(targetEntity.getRequiredIdProperty(), internalIds.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Creates the statements for all relationships of this batch. Must be called after the related nodes have been
+	 * saved.
+	 *
+	 * @return One statement per relationship type, together with the rows describing the relationships
+	 */
+	List<RelationshipStatementHolder> createRelationshipStatements() {
+
+		Assert.state(internalIdsOfRelatedNodes != null, "Related nodes have not been saved yet.");
+
+		Map<String, List<Map<String, Object>>> relationshipsByType = new LinkedHashMap<>();
+		for (PendingRelationship pendingRelationship : pendingRelationships) {
+
+			Map<String, Object> row = new HashMap<>();
+			if (pendingRelationship.relationshipProperties != null) {
+				neo4jMappingContext.getConverter().write(pendingRelationship.relationshipProperties, row);
+			}
+			row.put(FROM_ID_PARAMETER_NAME, pendingRelationship.fromId);
+			row.put(TO_ID_PARAMETER_NAME, internalIdsOfRelatedNodes.get(pendingRelationship.indexOfRelatedNode));
+
+			relationshipsByType
+				.computeIfAbsent(pendingRelationship.dynamicRelationshipType, type -> new ArrayList<>())
+				.add(row);
+		}
+
+		List<RelationshipStatementHolder> statements = new ArrayList<>(relationshipsByType.size());
+		relationshipsByType.forEach((dynamicRelationshipType, relationships) -> statements.add(RelationshipStatementHolder
+			.createStatementForRelationships(parentEntity, relationship, dynamicRelationshipType, relationships)));
+		return statements;
+	}
+
+	/**
+	 * A relationship that will be created once the related node has been saved.
+	 */
+	private static final class PendingRelationship {
+
+		private final Object fromId;
+
+		private final int indexOfRelatedNode;
+
+		@Nullable
+		private final String dynamicRelationshipType;
+
+		@Nullable
+		private final Object relationshipProperties;
+
+		PendingRelationship(Object fromId, int indexOfRelatedNode, @Nullable String dynamicRelationshipType,
+			@Nullable Object relationshipProperties) {
+			this.fromId = fromId;
+			this.indexOfRelatedNode = indexOfRelatedNode;
+			this.dynamicRelationshipType = dynamicRelationshipType;
+			this.relationshipProperties = relationshipProperties;
+		}
+	}
+}
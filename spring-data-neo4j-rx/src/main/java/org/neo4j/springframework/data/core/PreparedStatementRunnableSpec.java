@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.Neo4jClient.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Runs a {@link PreparedStatement} through the plain query API of any {@link Neo4jClient}. The values are collected
+ * and only validated and bound when the query is executed. This is the default for clients that don't support prepared
+ * statements themselves.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class PreparedStatementRunnableSpec implements RunnableSpec {
+
+	private final Neo4jClient client;
+
+	private final PreparedStatement preparedStatement;
+
+	private final NamedParameters values = new NamedParameters();
+
+	@Nullable private String targetDatabase;
+
+	PreparedStatementRunnableSpec(Neo4jClient client, PreparedStatement preparedStatement) {
+
+		Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+		this.client = client;
+		this.preparedStatement = preparedStatement;
+	}
+
+	@Override
+	public RunnableSpecTightToDatabase in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+		this.targetDatabase = verifyDatabaseName(targetDatabase);
+		return this;
+	}
+
+	@Override
+	public <T> OngoingBindSpec<T, RunnableSpecTightToDatabase> bind(@Nullable T value) {
+
+		return new OngoingBindSpec<T, RunnableSpecTightToDatabase>() {
+			@Override
+			public RunnableSpecTightToDatabase to(String name) {
+
+				PreparedStatementRunnableSpec.this.values.add(name, value);
+				return PreparedStatementRunnableSpec.this;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase with(Function<T, Map<String, Object>> binder) {
+
+				Assert.notNull(binder, "Binder is required.");
+
+				return bindAll(binder.apply(value));
+			}
+		};
+	}
+
+	@Override
+	public RunnableSpecTightToDatabase bindAll(Map<String, Object> parameters) {
+
+		this.values.addAll(parameters);
+		return this;
+	}
+
+	@Override
+	public <T> MappingSpec<T> fetchAs(Class<T> targetClass) {
+		return new DeferredMappingSpec<>(() -> prepare().fetchAs(targetClass));
+	}
+
+	@Override
+	public RecordFetchSpec<Map<String, Object>> fetch() {
+		return new DeferredRecordFetchSpec<>(() -> prepare().fetch());
+	}
+
+	@Override
+	public ResultSummary run() {
+		return prepare().run();
+	}
+
+	/**
+	 * @return A query of the underlying client with all values validated and bound
+	 */
+	private RunnableSpecTightToDatabase prepare() {
+
+		return client.query(preparedStatement.getCypher())
+			.in(targetDatabase)
+			.bindAll(preparedStatement.bind(values.get()));
+	}
+
+	/**
+	 * Prepares the query not before one of the fetch methods is called.
+	 *
+	 * @param <T> The type to which the fetched records are eventually mapped
+	 */
+	private static class DeferredRecordFetchSpec<T> implements RecordFetchSpec<T> {
+
+		private final Supplier<? extends RecordFetchSpec<T>> delegate;
+
+		DeferredRecordFetchSpec(Supplier<? extends RecordFetchSpec<T>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Optional<T> one() {
+			return delegate.get().one();
+		}
+
+		@Override
+		public Optional<T> first() {
+			return delegate.get().first();
+		}
+
+		@Override
+		public Collection<T> all() {
+			return delegate.get().all();
+		}
+
+		@Override
+		public Stream<T> stream() {
+			return delegate.get().stream();
+		}
+
+		@Override
+		public Stream<T> stream(long fetchSize) {
+			return delegate.get().stream(fetchSize);
+		}
+	}
+
+	private static final class DeferredMappingSpec<T> extends DeferredRecordFetchSpec<T> implements MappingSpec<T> {
+
+		private final Supplier<MappingSpec<T>> delegate;
+
+		DeferredMappingSpec(Supplier<MappingSpec<T>> delegate) {
+			super(delegate);
+			this.delegate = delegate;
+		}
+
+		@Override
+		public RecordFetchSpec<T> mappedBy(BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+			Assert.notNull(mappingFunction, "Mapping function is required.");
+
+			return new DeferredRecordFetchSpec<>(() -> delegate.get().mappedBy(mappingFunction));
+		}
+	}
+}
@@ -34,7 +34,10 @@ import org.neo4j.driver.reactive.RxQueryRunner;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.Neo4jClient.BindSpec;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
+import org.reactivestreams.Publisher;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
 
 /**
  * Reactive Neo4j client. The main difference to the {@link Neo4jClient imperative Neo4j client} is the fact that all
@@ -54,6 +57,22 @@ public interface ReactiveNeo4jClient {
 		return new DefaultReactiveNeo4jClient(driver);
 	}
 
+	/**
+	 * Creates a client that runs single statements outside of Spring managed transactions as auto-commit queries instead
+	 * of opening an explicit transaction for each of them. This saves the messages for beginning and committing a
+	 * transaction and is best suited for simple reads. Callbacks passed to {@link #delegateTo(Function)} still run in an
+	 * explicit transaction, as they may run several statements.
+	 *
+	 * @param driver                          The driver to use
+	 * @param autoCommitOutsideOfTransactions Flag, whether single statements should be run as auto-commit queries
+	 * @return A new client
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	static ReactiveNeo4jClient create(Driver driver, boolean autoCommitOutsideOfTransactions) {
+
+		return new DefaultReactiveNeo4jClient(driver, autoCommitOutsideOfTransactions);
+	}
+
 	/**
 	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
 	 * removal of things.
@@ -73,6 +92,20 @@ public interface ReactiveNeo4jClient {
 	 */
 	RunnableSpec query(Supplier<String> cypherSupplier);
 
+	/**
+	 * Entrypoint for running a prepared statement. The statement has already been rendered, only the values of its
+	 * parameters need to be bound. All parameters declared by the statement must be bound and no others, otherwise
+	 * the returned publishers signal an {@link IllegalArgumentException}. The default implementation binds the values
+	 * and runs the rendered statement through {@link #query(String)}.
+	 *
+	 * @param preparedStatement A statement that has been prepared upfront
+	 * @return A runnable query specification.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default RunnableSpec query(PreparedStatement preparedStatement) {
+		return new ReactivePreparedStatementRunnableSpec(this, preparedStatement);
+	}
+
 	/**
 	 * Delegates interaction with the default database to the given callback.
 	 *
@@ -82,6 +115,25 @@ public interface ReactiveNeo4jClient {
 	 */
 	<T> OngoingDelegation<T> delegateTo(Function<RxQueryRunner, Mono<T>> callback);
 
+	/**
+	 * Shares one session between all queries of this client inside the given publisher. The session is opened when the
+	 * returned publisher is subscribed to and closed when it terminates. It is passed along through the subscriber
+	 * context. Queries against the same database that don't participate in a Spring managed transaction run as
+	 * auto-commit queries in the shared session, so that they don't have to open a session and a transaction of their
+	 * own. The queries inside the publisher must run one after another, not concurrently.
+	 * <p>
+	 * The default implementation doesn't share a session: The queries inside the publisher open sessions as usual.
+	 *
+	 * @param targetDatabase The database of the shared session, {@literal null} for the default database
+	 * @param publisher      The publisher whose queries should share a session
+	 * @param <T>            The type of the elements emitted by the publisher
+	 * @return A publisher emitting the elements of the given publisher
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> Flux<T> withSharedSession(@Nullable String targetDatabase, Publisher<T> publisher) {
+		return Flux.from(publisher);
+	}
+
 	/**
 	 * @param <T> The resulting type of this mapping
 	 * @since 1.0
@@ -20,12 +20,15 @@ package org.neo4j.springframework.data.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
 
 import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.cypher.Statement;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.util.Assert;
 
 /**
  * Specifies reactive operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -71,6 +74,19 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Mono<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Checks whether an entity with the given id exists. The templates check this without loading the entity, the
+	 * default implementation loads it through {@link #findById(Object, Class)}.
+	 *
+	 * @param id         the id of the entity. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return {@literal true} if an entity with the given id exists
+	 */
+	default <T> Mono<Boolean> existsById(Object id, Class<T> domainType) {
+		return findById(id, domainType).hasElement();
+	}
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -99,6 +115,55 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a possibly unbounded number of entities, one batch at a time. See {@link #ingest(Publisher, int)}.
+	 *
+	 * @param entities the entities to be saved. Must not be {@code null}.
+	 * @param <T>      the type of the entities.
+	 * @return a summary with the number of saved entities, the batch latencies and the throughput
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> Mono<IngestSummary> ingest(Publisher<T> entities) {
+		return ingest(entities, 1);
+	}
+
+	/**
+	 * Saves a possibly unbounded number of entities. The entities are requested in batches, each batch is saved like
+	 * {@link #saveAll(Iterable)} would and then discarded. No more than {@code maxBatchesInFlight} batches are saved
+	 * concurrently and new entities are only requested when a batch has been saved, so the memory needed is bounded by
+	 * the batch size and the number of batches in flight. Each batch runs in a transaction of its own and is committed
+	 * independently of the others. Inside an ongoing transaction, all batches participate in that transaction and are
+	 * saved one after another, regardless of {@code maxBatchesInFlight}.
+	 * <p>
+	 * The default implementation saves batches of {@link ReactiveNeo4jTemplate#DEFAULT_BATCH_SIZE} entities one after
+	 * another through {@link #saveAll(Iterable)}, regardless of {@code maxBatchesInFlight}. The batches only run in
+	 * transactions of their own if {@code saveAll} does so.
+	 *
+	 * @param entities           the entities to be saved. Must not be {@code null}.
+	 * @param maxBatchesInFlight the maximum number of batches being saved at the same time
+	 * @param <T>                the type of the entities.
+	 * @return a summary with the number of saved entities, the batch latencies and the throughput
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> Mono<IngestSummary> ingest(Publisher<T> entities, int maxBatchesInFlight) {
+
+		Assert.notNull(entities, "The entities to ingest must not be null!");
+		Assert.isTrue(maxBatchesInFlight > 0, "The number of batches in flight must be greater than 0.");
+
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			return Flux.from(entities)
+				.buffer(ReactiveNeo4jTemplate.DEFAULT_BATCH_SIZE)
+				.concatMap(batch -> Mono.defer(() -> {
+					long batchStart = System.nanoTime();
+					return saveAll(batch)
+						.then(Mono.fromSupplier(() -> Tuples.of(batch.size(), System.nanoTime() - batchStart)));
+				}))
+				.reduce(IngestSummary.EMPTY, (summary, batch) -> summary.withBatch(batch.getT1(), batch.getT2()))
+				.map(summary -> summary.withElapsedTime(System.nanoTime() - start));
+		});
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -124,6 +189,42 @@ public interface ReactiveNeo4jOperations {
 	 */
 	Mono<Void> deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in chunks of at most {@code batchSize} nodes. Each chunk is deleted with a
+	 * statement of its own, so that neither the client nor the server has to hold all nodes in one transaction. The
+	 * next chunk is only deleted after the number of nodes deleted by the previous one has been emitted, so a slow
+	 * subscriber throttles the deletion.
+	 * <p>
+	 * The default implementation signals an {@link UnsupportedOperationException}.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize  the maximum number of nodes deleted per chunk
+	 * @return a publisher emitting the number of nodes deleted by each chunk
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default Flux<Long> deleteAllInBatches(Class<?> domainType, int batchSize) {
+		return Flux.error(new UnsupportedOperationException(
+			getClass().getName() + " does not support deleting in batches."));
+	}
+
+	/**
+	 * Deletes all entities with one of the given ids in chunks of at most {@code batchSize} ids, see
+	 * {@link #deleteAllInBatches(Class, int)}.
+	 * <p>
+	 * The default implementation signals an {@link UnsupportedOperationException}.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param batchSize  the maximum number of ids deleted per chunk
+	 * @param <T>        the type of the entity.
+	 * @return a publisher emitting the number of nodes deleted by each chunk
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+	default <T> Flux<Long> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize) {
+		return Flux.error(new UnsupportedOperationException(
+			getClass().getName() + " does not support deleting in batches."));
+	}
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
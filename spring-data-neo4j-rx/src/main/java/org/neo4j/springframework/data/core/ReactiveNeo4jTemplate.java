@@ -21,49 +21,59 @@ package org.neo4j.springframework.data.core;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 import static org.neo4j.springframework.data.core.DatabaseSelection.*;
-import static org.neo4j.springframework.data.core.RelationshipStatementHolder.*;
-import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 import static org.neo4j.springframework.data.core.schema.CypherGenerator.*;
+import static org.neo4j.springframework.data.core.schema.EntityStatements.*;
 import static org.neo4j.springframework.data.core.schema.NodeDescription.*;
-import static org.neo4j.springframework.data.core.support.Relationships.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
-import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
-import org.neo4j.springframework.data.core.cypher.Condition;
-import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.RenderedStatement;
 import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
-import org.neo4j.springframework.data.core.schema.CypherGenerator;
-import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.mapping.PropertyChangeTracker;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker;
+import org.neo4j.springframework.data.core.mapping.RelationshipChangeTracker.TrackedRelationship;
+import org.neo4j.springframework.data.core.schema.EntityStatements;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.neo4j.springframework.data.repository.event.ReactiveBeforeBindCallback;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -80,16 +90,29 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
+	/**
+	 * The default number of entities saved with one statement.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1_000;
+
 	private final ReactiveNeo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
 
-	private final CypherGenerator statementBuilder;
-
 	private ReactiveNeo4jEvents eventSupport;
 
 	private final ReactiveDatabaseSelectionProvider databaseSelectionProvider;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * The transaction manager used to run each batch of an ingest in a transaction of its own. Resolved from the bean
+	 * factory if not set explicitly.
+	 */
+	@Nullable private ReactiveTransactionManager transactionManager;
+
+	@Nullable private ObjectProvider<ReactiveTransactionManager> transactionManagers;
+
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
 		ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
 
@@ -99,7 +122,6 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
-		this.statementBuilder = CypherGenerator.INSTANCE;
 		this.eventSupport = new ReactiveNeo4jEvents(null);
 		this.databaseSelectionProvider = databaseSelectionProvider;
 	}
@@ -108,11 +130,9 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public Mono<Long> count(Class<?> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = statementBuilder.prepareMatchOf(entityMetaData)
-			.returning(Functions.count(asterisk())).build();
 
 		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class)
-			.withCypherQuery(renderer.render(statement))
+			.withCypherQuery(neo4jMappingContext.getStatementsFor(entityMetaData).getCount())
 			.build();
 		return this.toExecutableQuery(preparedQuery).flatMap(ExecutableQuery::getSingleResult);
 	}
@@ -120,9 +140,10 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	@Override
 	public Mono<Long> count(Statement statement, Map<String, Object> parameters) {
 
+		RenderedStatement renderedStatement = renderer.renderWithLiteralsAsParameters(statement);
 		PreparedQuery<Long> preparedQuery = PreparedQuery.queryFor(Long.class)
-			.withCypherQuery(renderer.render(statement))
-			.withParameters(parameters)
+			.withCypherQuery(renderedStatement.getCypher())
+			.withParameters(renderedStatement.getParametersMergedWith(parameters))
 			.build();
 		return this.toExecutableQuery(preparedQuery).flatMap(ExecutableQuery::getSingleResult);
 	}
@@ -131,9 +152,9 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public <T> Flux<T> findAll(Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = statementBuilder.prepareMatchOf(entityMetaData)
-			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindAll();
+		return createExecutableQuery(domainType, cypherQuery, Collections.emptyMap())
+			.flatMapMany(ExecutableQuery::getResults);
 	}
 
 	@Override
@@ -157,22 +178,29 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public <T> Mono<T> findById(Object id, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = statementBuilder
-			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(literalOf(id)))
-			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData))
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindById();
+		return createExecutableQuery(domainType, cypherQuery, singletonMap(NAME_OF_ID_PARAMETER, id))
+			.flatMap(ExecutableQuery::getSingleResult);
+	}
+
+	@Override
+	public <T> Mono<Boolean> existsById(Object id, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+
+		PreparedQuery<Boolean> preparedQuery = PreparedQuery.queryFor(Boolean.class)
+			.withCypherQuery(neo4jMappingContext.getStatementsFor(entityMetaData).getExistsById())
+			.withParameters(singletonMap(NAME_OF_ID_PARAMETER, id))
 			.build();
-		return createExecutableQuery(domainType, statement).flatMap(ExecutableQuery::getSingleResult);
+		return this.toExecutableQuery(preparedQuery).flatMap(ExecutableQuery::getSingleResult);
 	}
 
 	@Override
 	public <T> Flux<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = statementBuilder
-			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter("ids"))))
-			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData))
-			.build();
-		return createExecutableQuery(domainType, statement, singletonMap("ids", ids))
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getFindAllById();
+		return createExecutableQuery(domainType, cypherQuery, singletonMap(NAME_OF_IDS_PARAMETER, ids))
 			.flatMapMany(ExecutableQuery::getResults);
 	}
 
@@ -185,17 +213,48 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	private <T> Mono<T> saveImpl(T instance, @Nullable String inDatabase) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		// Must be checked before the callbacks, as those might generate an id
+		boolean isNew = entityMetaData.isNew(instance);
 		return Mono.just(instance)
 			.flatMap(eventSupport::maybeCallBeforeBind)
 			.flatMap(entity -> {
-				Statement saveStatement = statementBuilder.prepareSaveOf(entityMetaData);
-
-				Mono<Long> idMono =
-					this.neo4jClient.query(() -> renderer.render(saveStatement))
+				EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
+				Map<String, Object> parameters = neo4jMappingContext
+					.getRequiredBinderFunctionFor((Class<T>) entity.getClass()).apply(entity);
+				Map<String, Object> properties = (Map<String, Object>) parameters.get(NAME_OF_PROPERTIES_PARAM);
+
+				PropertyChangeTracker propertyChangeTracker = neo4jMappingContext.getPropertyChangeTracker();
+				Map<String, Object> changedProperties = propertyChangeTracker == null || entityMetaData.isNew(entity) ?
+					null :
+					propertyChangeTracker.getChangedProperties(entity, properties);
+
+				Mono<Long> saveMono = saveAllProperties(entityMetaData, statements, parameters, isNew, inDatabase);
+
+				Mono<Long> idMono;
+				if (changedProperties == null) {
+					idMono = saveMono;
+				} else if (changedProperties.isEmpty()) {
+					log.debug(() -> String.format("Properties of %s did not change, skipping update.", entity));
+					idMono = entityMetaData.isUsingInternalIds() ?
+						Mono.just((Long) parameters.get(NAME_OF_ID_PARAM)) :
+						Mono.empty();
+				} else {
+					Map<String, Object> partialUpdate = new HashMap<>(parameters);
+					partialUpdate.put(NAME_OF_PROPERTIES_PARAM, changedProperties);
+					// write all properties if the tracked node doesn't exist anymore
+					idMono = this.neo4jClient.query(statements.getUpdateChangedProperties())
 						.in(inDatabase)
-						.bind((T) entity)
-						.with(neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entity.getClass()))
-						.fetchAs(Long.class).one();
+						.bindAll(partialUpdate)
+						.fetchAs(Long.class).one()
+						.switchIfEmpty(saveMono);
+				}
+
+				// The surrounding transaction might still be rolled back, so the snapshot of a written entity is
+				// replaced only after the commit
+				if (propertyChangeTracker != null && (changedProperties == null || !changedProperties.isEmpty())) {
+					idMono = idMono.flatMap(internalId -> runAfterCommit(
+						() -> propertyChangeTracker.snapshot(entity, properties)).thenReturn(internalId));
+				}
 
 				if (!entityMetaData.isUsingInternalIds()) {
 					return idMono.then(processAssociations(entityMetaData, entity, inDatabase))
@@ -231,53 +290,140 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
 
 		if (entityMetaData.isUsingInternalIds()) {
-			log.debug("Saving entities using single statements.");
-
 			return getDatabaseName().flatMapMany(databaseName ->
-				Flux.fromIterable(entities).flatMap(e -> this.saveImpl(e, databaseName.getValue())));
+				Flux.fromIterable(entities)
+					.concatMap(eventSupport::maybeCallBeforeBind)
+					.collectList()
+					.flatMapMany(entitiesToBeSaved -> saveAllReturningInternalIds(entityMetaData, domainClass,
+						entitiesToBeSaved, databaseName.getValue())
+						.flatMapMany(internalIds -> {
+							List<T> savedEntities = new ArrayList<>(entitiesToBeSaved.size());
+							for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+								PersistentPropertyAccessor<T> propertyAccessor = entityMetaData
+									.getPropertyAccessor(entitiesToBeSaved.get(i));
+								propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalIds.get(i));
+								savedEntities.add(propertyAccessor.getBean());
+							}
+							return processNestedAssociations(entityMetaData, savedEntities, databaseName.getValue(),
+								new HashSet<>()).thenMany(Flux.fromIterable(savedEntities));
+						})));
 		}
 
-		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		// Must be checked before the callbacks, as those might generate ids
+		boolean[] generatedIdIsNew = new boolean[entities.size()];
+		if (entityMetaData.getIdDescription().isExternallyGeneratedId()) {
+			int i = 0;
+			for (T entity : entities) {
+				generatedIdIsNew[i++] = entityMetaData.isNew(entity);
+			}
+		}
+
+		EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
 		return getDatabaseName().flatMapMany(databaseName ->
 			Flux.fromIterable(entities)
-				.flatMap(eventSupport::maybeCallBeforeBind)
+				.concatMap(eventSupport::maybeCallBeforeBind)
 				.collectList()
-				.flatMapMany(
-					entitiesToBeSaved -> Mono
-						.defer(() -> { // Defer the actual save statement until the previous flux completes
-							List<Map<String, Object>> boundedEntityList = entitiesToBeSaved.stream()
-								.map(binderFunction)
-								.collect(toList());
-
-							return neo4jClient
-								.query(() -> renderer
-									.render(statementBuilder.prepareSaveOfMultipleInstancesOf(entityMetaData)))
-								.in(databaseName.getValue())
-								.bind(boundedEntityList).to(NAME_OF_ENTITY_LIST_PARAM).run();
-						})
-						.doOnNext(resultSummary -> {
-							SummaryCounters counters = resultSummary.counters();
-							log.debug(() -> String.format(
-								"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-								counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-								counters.relationshipsDeleted(), counters.propertiesSet()));
-						})
-						.thenMany(Flux.fromIterable(entitiesToBeSaved))
-				));
+				.doOnNext(this::forgetPropertySnapshots)
+				.flatMapMany(entitiesToBeSaved -> {
+
+					// Entities with freshly generated ids are created, all others merged
+					List<T> entitiesToBeCreated = new ArrayList<>();
+					List<T> entitiesToBeMerged = new ArrayList<>();
+					for (int i = 0; i < entitiesToBeSaved.size(); ++i) {
+						(generatedIdIsNew[i] ? entitiesToBeCreated : entitiesToBeMerged).add(entitiesToBeSaved.get(i));
+					}
+
+					return saveAllInChunks(statements.getCreateAll(), domainClass, entitiesToBeCreated,
+						databaseName.getValue())
+						.then(saveAllInChunks(statements.getSaveAll(), domainClass, entitiesToBeMerged,
+							databaseName.getValue()))
+						.thenMany(Flux.fromIterable(entitiesToBeSaved));
+				}));
+	}
+
+	@Override
+	public <T> Mono<IngestSummary> ingest(Publisher<T> entities, int maxBatchesInFlight) {
+
+		Assert.notNull(entities, "The entities to ingest must not be null!");
+		Assert.isTrue(maxBatchesInFlight > 0, "The number of batches in flight must be greater than 0.");
+
+		return isInOngoingTransaction().flatMap(inOngoingTransaction -> {
+
+			// All batches share the ongoing transaction, which can only run one query at a time.
+			int concurrency = inOngoingTransaction ? 1 : maxBatchesInFlight;
+			if (concurrency < maxBatchesInFlight) {
+				log.debug(() -> "Ingesting inside an ongoing transaction, saving one batch at a time.");
+			}
+
+			TransactionalOperator transactionalOperator = getTransactionalOperator();
+			long start = System.nanoTime();
+			return Flux.from(entities)
+				.buffer(batchSize)
+				.flatMap(batch -> Mono.defer(() -> {
+					long batchStart = System.nanoTime();
+					Mono<Void> savedBatch = saveAll(batch).then();
+					return (transactionalOperator == null ? savedBatch : transactionalOperator.transactional(savedBatch))
+						.then(Mono.fromSupplier(() -> Tuples.of(batch.size(), System.nanoTime() - batchStart)));
+				}), concurrency)
+				.doOnNext(batch -> log.debug(() -> String.format("Ingested batch of %d entities in %d ms.",
+					batch.getT1(), TimeUnit.NANOSECONDS.toMillis(batch.getT2()))))
+				.reduce(IngestSummary.EMPTY, (summary, batch) -> summary.withBatch(batch.getT1(), batch.getT2()))
+				.map(summary -> summary.withElapsedTime(System.nanoTime() - start));
+		});
+	}
+
+	/**
+	 * @return True, if the queries of the current subscriber participate in a Spring managed transaction
+	 */
+	private static Mono<Boolean> isInOngoingTransaction() {
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+			.map(TransactionSynchronizationManager::isSynchronizationActive)
+			.onErrorReturn(NoTransactionException.class, false);
+	}
+
+	/**
+	 * @return An operator for running one batch of an ingest or {@literal null} if there is no transaction manager
+	 */
+	@Nullable
+	private TransactionalOperator getTransactionalOperator() {
+
+		ReactiveTransactionManager currentTransactionManager = this.transactionManager;
+		if (currentTransactionManager == null && this.transactionManagers != null) {
+			currentTransactionManager = this.transactionManagers.getIfUnique();
+		}
+		return currentTransactionManager == null ? null : TransactionalOperator.create(currentTransactionManager);
+	}
+
+	private <T> Mono<Void> saveAllInChunks(String statement, Class<T> domainClass, List<T> entities,
+		@Nullable String inDatabase) {
+
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		return Flux.fromIterable(chunked(entities))
+			.concatMap(chunk -> neo4jClient // Each chunk is saved after the previous one completes
+				.query(statement)
+				.in(inDatabase)
+				.bind(chunk.stream().map(binderFunction).collect(toList())).to(NAME_OF_ENTITY_LIST_PARAM)
+				.run())
+			.doOnNext(resultSummary -> {
+				SummaryCounters counters = resultSummary.counters();
+				log.debug(() -> String.format(
+					"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
+					counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
+					counters.relationshipsDeleted(), counters.propertiesSet()));
+			})
+			.then();
 	}
 
 	@Override
 	public <T> Mono<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
-
-		Statement statement = statementBuilder.prepareDeleteOf(entityMetaData, condition);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllById();
 		return getDatabaseName().flatMap(databaseName ->
-			this.neo4jClient.query(() -> renderer.render(statement))
+			this.neo4jClient.query(cypherQuery)
 				.in(databaseName.getValue())
-				.bind(ids).to(nameOfParameter).run().then());
+				.bind(ids).to(NAME_OF_IDS_PARAMETER).run().then());
 	}
 
 	@Override
@@ -285,27 +431,56 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		String nameOfParameter = "id";
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
-
-		Statement statement = statementBuilder.prepareDeleteOf(entityMetaData, condition);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteById();
 		return getDatabaseName().flatMap(databaseName ->
-			this.neo4jClient.query(() -> renderer.render(statement))
+			this.neo4jClient.query(cypherQuery)
 				.in(databaseName.getValue())
-				.bind(id).to(nameOfParameter).run().then());
+				.bind(id).to(NAME_OF_ID_PARAMETER).run().then());
 	}
 
 	@Override
 	public Mono<Void> deleteAll(Class<?> domainType) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
-		Statement statement = statementBuilder.prepareDeleteOf(entityMetaData);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAll();
 		return getDatabaseName().flatMap(databaseName ->
-			this.neo4jClient.query(() -> renderer.render(statement))
+			this.neo4jClient.query(cypherQuery)
 				.in(databaseName.getValue()).run().then());
 	}
 
+	@Override
+	public Flux<Long> deleteAllInBatches(Class<?> domainType, int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllInBatches();
+		return getDatabaseName().flatMapMany(databaseName ->
+			this.neo4jClient.query(cypherQuery)
+				.in(databaseName.getValue())
+				.bind(batchSize).to(NAME_OF_BATCH_SIZE_PARAMETER).run()
+				.map(summary -> (long) summary.counters().nodesDeleted())
+				.repeat()
+				.takeUntil(nodesDeleted -> nodesDeleted < batchSize));
+	}
+
+	@Override
+	public <T> Flux<Long> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String cypherQuery = neo4jMappingContext.getStatementsFor(entityMetaData).getDeleteAllById();
+
+		return getDatabaseName().flatMapMany(databaseName -> Flux.fromIterable(ids).buffer(batchSize)
+			.concatMap(chunk -> this.neo4jClient.query(cypherQuery)
+				.in(databaseName.getValue())
+				.bind(chunk).to(NAME_OF_IDS_PARAMETER).run()
+				.map(summary -> (long) summary.counters().nodesDeleted())));
+	}
+
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, statement, Collections.emptyMap());
 	}
@@ -313,8 +488,16 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement,
 		Map<String, Object> parameters) {
 
+		RenderedStatement renderedStatement = renderer.renderWithLiteralsAsParameters(statement);
+		return createExecutableQuery(domainType, renderedStatement.getCypher(),
+			renderedStatement.getParametersMergedWith(parameters));
+	}
+
+	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, String cypherQuery,
+		Map<String, Object> parameters) {
+
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
-			.withCypherQuery(renderer.render(statement))
+			.withCypherQuery(cypherQuery)
 			.withParameters(parameters)
 			.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionFor(domainType))
 			.build();
@@ -324,105 +507,143 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	private Mono<Void> processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
 		@Nullable String inDatabase) {
 
-		return processNestedAssociations(neo4jPersistentEntity, parentObject, inDatabase, new HashSet<>());
+		return processNestedAssociations(neo4jPersistentEntity, singletonList(parentObject), inDatabase,
+			new HashSet<>());
 	}
 
-	private Mono<Void> processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions) {
+	/**
+	 * Processes the associations of all parent objects, which must be of the same entity, association by association.
+	 * The related nodes of each association are saved together and then processed as parent objects themselves.
+	 */
+	private Mono<Void> processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		List<?> parentObjects, @Nullable String inDatabase,
+		Set<RelationshipDescription> processedRelationshipDescriptions) {
 
 		return Mono.defer(() -> {
-			PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
-			Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
 			List<Mono<Void>> relationshipCreationMonos = new ArrayList<>();
 
 			neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler -> {
 
-				// create context to bundle parameters
-				NestedRelationshipContext relationshipContext = NestedRelationshipContext
-					.of(handler, propertyAccessor, neo4jPersistentEntity);
+				NestedRelationshipBatch batch = NestedRelationshipBatch
+					.of(neo4jMappingContext, neo4jPersistentEntity, handler, parentObjects);
 
 				// break recursive procession and deletion of previously created relationships
-				RelationshipDescription relationshipObverse = relationshipContext.getRelationship().getRelationshipObverse();
+				RelationshipDescription relationshipObverse = batch.getRelationship().getRelationshipObverse();
 				if (hasProcessed(processedRelationshipDescriptions, relationshipObverse)) {
 					return;
 				}
 
-				Neo4jPersistentEntity<?> targetNodeDescription = (Neo4jPersistentEntity<?>) neo4jMappingContext
-					.getRequiredNodeDescription(relationshipContext.getAssociationTargetType());
-
-				// remove all relationships before creating all new if the entity is not new
-				// this avoids the usage of cache but might have significant impact on overall performance
-				if (!neo4jPersistentEntity.isNew(parentObject)) {
-					Statement relationshipRemoveQuery = statementBuilder
-						.createRelationshipRemoveQuery(neo4jPersistentEntity, relationshipContext.getRelationship(),
-							targetNodeDescription.getPrimaryLabel());
+				// remove all relationships of existing parents before creating all new
+				if (!batch.getIdsOfExistingParents().isEmpty()) {
 					relationshipCreationMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
+						neo4jClient.query(renderer.render(batch.getRelationshipsRemoveQuery()))
 							.in(inDatabase)
-							.bind(fromId).to(FROM_ID_PARAMETER_NAME)
+							.bind(batch.getIdsOfExistingParents()).to(FROM_IDS_PARAMETER_NAME)
 							.run().checkpoint("delete relationships").then());
 				}
 
+				// delete only the removed relationships of tracked parents
+				for (RelationshipStatementHolder statementHolder : batch.createRelationshipDeleteStatements()) {
+					relationshipCreationMonos.add(
+						neo4jClient.query(renderer.render(statementHolder.getStatement()))
+							.in(inDatabase)
+							.bindAll(statementHolder.getParameters())
+							.run().checkpoint("delete removed relationships").then());
+				}
+
 				// nothing to do because there is nothing to map
-				if (relationshipContext.inverseValueIsEmpty()) {
+				if (batch.inverseValuesAreEmpty()) {
+					return;
+				}
+
+				processedRelationshipDescriptions.add(batch.getRelationship());
+
+				if (batch.getRelatedNodes().isEmpty()) {
 					return;
 				}
 
-				processedRelationshipDescriptions.add(relationshipContext.getRelationship());
+				relationshipCreationMonos.add(
+					Flux.fromIterable(batch.getRelatedNodes())
+						.concatMap(eventSupport::maybeCallBeforeBind)
+						.collectList()
+						.flatMap(relatedNodes -> {
+							batch.setRelatedNodes(relatedNodes);
+							return saveRelatedNodes(batch, inDatabase);
+						})
+						.flatMap(internalIds -> {
+							batch.setInternalIdsOfRelatedNodes(internalIds);
+
+							return Flux.fromIterable(batch.createRelationshipStatements())
+								.concatMap(statementHolder -> neo4jClient
+									.query(renderer.render(statementHolder.getStatement()))
+									.in(inDatabase)
+									.bindAll(statementHolder.getParameters())
+									.run())
+								.checkpoint()
+								.then(processNestedAssociations(batch.getTargetEntity(), batch.getRelatedNodes(),
+									inDatabase, processedRelationshipDescriptions));
+						}).checkpoint());
+			});
+
+			return Flux.concat(relationshipCreationMonos).checkpoint()
+				.then(snapshotRelationshipsAfterCommit(neo4jPersistentEntity, parentObjects));
+		});
+	}
 
-				for (Object relatedValue : unifyRelationshipValue(relationshipContext.getInverse(),
-					relationshipContext.getValue())) {
+	/**
+	 * Takes a snapshot of the written relationships as soon as they are known to be in the database. Until then, the
+	 * parent objects are not tracked at all, so that all of their relationships are written again after a rollback or
+	 * when they are saved again in the same transaction.
+	 */
+	private Mono<Void> snapshotRelationshipsAfterCommit(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		List<?> parentObjects) {
 
-					Object valueToBeSavedPreEvt = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
-					Mono<Object> valueToBeSavedMono = eventSupport.maybeCallBeforeBind(valueToBeSavedPreEvt);
+		RelationshipChangeTracker relationshipChangeTracker = neo4jMappingContext.getRelationshipChangeTracker();
+		if (relationshipChangeTracker == null) {
+			return Mono.empty();
+		}
 
-					relationshipCreationMonos.add(
-						valueToBeSavedMono
-							.flatMap(valueToBeSaved ->
-								saveRelatedNode(valueToBeSaved, relationshipContext.getAssociationTargetType(),
-									targetNodeDescription, inDatabase)
-									.flatMap(relatedInternalId -> {
-
-										// if an internal id is used this must get set to link this entity in the next iteration
-										if (targetNodeDescription.isUsingInternalIds()) {
-											PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-												.getPropertyAccessor(valueToBeSaved);
-											targetPropertyAccessor
-												.setProperty(targetNodeDescription.getRequiredIdProperty(),
-													relatedInternalId);
-										}
-
-										// handle creation of relationship depending on properties on relationship or not
-										RelationshipStatementHolder statementHolder = relationshipContext
-											.hasRelationshipWithProperties()
-											? createStatementForRelationShipWithProperties(neo4jMappingContext,
-												neo4jPersistentEntity,
-												relationshipContext,
-												relatedInternalId,
-												(Map.Entry) relatedValue)
-											: createStatementForRelationshipWithoutProperties(neo4jPersistentEntity,
-												relationshipContext,
-												relatedInternalId,
-												relatedValue);
-
-										// in case of no properties the bind will just return an empty map
-										Mono<ResultSummary> relationshipCreationMonoNested = neo4jClient
-											.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
-											.in(inDatabase)
-											.bind(fromId).to(FROM_ID_PARAMETER_NAME)
-											.bindAll(statementHolder.getProperties())
-											.run();
-
-										return relationshipCreationMonoNested.checkpoint()
-											.then(processNestedAssociations(targetNodeDescription, valueToBeSaved, inDatabase, processedRelationshipDescriptions));
-									}).checkpoint()));
+		return Mono.defer(() -> {
+			List<Map<String, Set<TrackedRelationship>>> writtenRelationships = new ArrayList<>(parentObjects.size());
+			for (Object parentObject : parentObjects) {
+				writtenRelationships
+					.add(relationshipChangeTracker.describeRelationships(neo4jPersistentEntity, parentObject));
+				relationshipChangeTracker.forget(parentObject);
+			}
+
+			return runAfterCommit(() -> {
+				for (int i = 0; i < parentObjects.size(); ++i) {
+					relationshipChangeTracker.snapshot(parentObjects.get(i), writtenRelationships.get(i));
 				}
 			});
-
-			return Flux.concat(relationshipCreationMonos).checkpoint().then();
 		});
 	}
 
+	/**
+	 * Runs the given action after the ongoing transaction has been committed or right away, if the statements are not
+	 * run in a Spring managed transaction.
+	 */
+	private static Mono<Void> runAfterCommit(Runnable action) {
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+			.filter(TransactionSynchronizationManager::isSynchronizationActive)
+			.onErrorResume(NoTransactionException.class, e -> Mono.empty())
+			.map(transactionSynchronizationManager -> {
+				transactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public Mono<Void> afterCommit() {
+						return Mono.fromRunnable(action);
+					}
+				});
+				return true;
+			})
+			.switchIfEmpty(Mono.fromSupplier(() -> {
+				action.run();
+				return false;
+			}))
+			.then();
+	}
+
 	private boolean hasProcessed(Set<RelationshipDescription> processedRelationshipDescriptions,
 		RelationshipDescription relationshipDescription) {
 
@@ -432,12 +653,137 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		return false;
 	}
 
-	private <Y> Mono<Long> saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription,
-		@Nullable String inDatabase) {
-		return neo4jClient.query(() -> renderer.render(statementBuilder.prepareSaveOf(targetNodeDescription)))
-			.in(inDatabase)
-			.bind((Y) entity)
-			.with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType)).fetchAs(Long.class).one();
+	/**
+	 * Writes all properties of an entity. Entities known to be new are created without looking up an existing node,
+	 * existing entities with internal ids are updated without trying to create them. Only entities with assigned ids,
+	 * entities with given external ids and entities whose nodes have been deleted in the meantime need to be merged.
+	 *
+	 * @param isNew True, if the entity was new before the callbacks have been applied
+	 * @return The internal id of the saved node
+	 */
+	private Mono<Long> saveAllProperties(Neo4jPersistentEntity<?> entityMetaData, EntityStatements statements,
+		Map<String, Object> parameters, boolean isNew, @Nullable String inDatabase) {
+
+		if (isNew && !entityMetaData.getIdDescription().isAssignedId()) {
+			return Mono.defer(() -> neo4jClient.query(statements.getCreate()).in(inDatabase).bindAll(parameters)
+				.fetchAs(Long.class).one());
+		}
+
+		Mono<Long> merge = Mono.defer(() -> neo4jClient.query(statements.getSave()).in(inDatabase)
+			.bindAll(parameters).fetchAs(Long.class).one());
+		if (entityMetaData.isUsingInternalIds()) {
+			return Mono.defer(() -> neo4jClient.query(statements.getUpdate()).in(inDatabase).bindAll(parameters)
+				.fetchAs(Long.class).one())
+				.switchIfEmpty(merge);
+		}
+		return merge;
+	}
+
+	/**
+	 * Discards the snapshots of entities whose properties are written completely, so that a stale snapshot doesn't hide
+	 * later changes.
+	 */
+	private void forgetPropertySnapshots(List<?> entities) {
+
+		PropertyChangeTracker propertyChangeTracker = neo4jMappingContext.getPropertyChangeTracker();
+		if (propertyChangeTracker != null) {
+			entities.forEach(propertyChangeTracker::forget);
+		}
+	}
+
+	/**
+	 * Saves all related nodes of a batch.
+	 *
+	 * @return The internal ids of the related nodes, in the order of {@link NestedRelationshipBatch#getRelatedNodes()}
+	 */
+	private Mono<List<Long>> saveRelatedNodes(NestedRelationshipBatch batch, @Nullable String inDatabase) {
+
+		return saveAllReturningInternalIds(batch.getTargetEntity(), (Class<Object>) batch.getAssociationTargetType(),
+			batch.getRelatedNodes(), inDatabase);
+	}
+
+	/**
+	 * Saves a list of entities of the same type in chunks of {@link #setBatchSize(int) batch size} entities per
+	 * statement, one chunk after another. Entities with external ids are merged. Entities using internal ids are either
+	 * created or updated, depending on whether they are new.
+	 * Existing entities whose nodes have been deleted in the meantime are created again.
+	 *
+	 * @return The internal ids of the saved entities, in the order of the given list
+	 */
+	private <T> Mono<List<Long>> saveAllReturningInternalIds(Neo4jPersistentEntity<?> entityMetaData,
+		Class<T> domainClass, List<T> entities, @Nullable String inDatabase) {
+
+		EntityStatements statements = neo4jMappingContext.getStatementsFor(entityMetaData);
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		forgetPropertySnapshots(entities);
+
+		return Flux.fromIterable(chunked(entities))
+			.concatMap(chunk -> {
+
+				List<Map<String, Object>> boundEntities = chunk.stream()
+					.map(binderFunction)
+					.collect(toList());
+
+				if (!entityMetaData.isUsingInternalIds()) {
+					return neo4jClient.query(statements.getSaveAllReturningInternalIds())
+						.in(inDatabase)
+						.bind(boundEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+						.fetchAs(Long.class).all();
+				}
+
+				Long[] internalIdsOfChunk = new Long[boundEntities.size()];
+				List<Map<String, Object>> existingEntities = new ArrayList<>();
+				for (int i = 0; i < internalIdsOfChunk.length; ++i) {
+					if (!entityMetaData.isNew(chunk.get(i))) {
+						Map<String, Object> boundEntity = boundEntities.get(i);
+						existingEntities.add(boundEntity);
+						internalIdsOfChunk[i] = ((Number) boundEntity.get(NAME_OF_ID_PARAM)).longValue();
+					}
+				}
+
+				Mono<Void> updateOfExistingEntities = existingEntities.isEmpty() ? Mono.empty() :
+					neo4jClient.query(statements.getUpdateAll())
+						.in(inDatabase)
+						.bind(existingEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+						.fetchAs(Long.class).all()
+						.collect(toSet())
+						.doOnNext(updatedIds -> Neo4jTemplate.forgetIdsOfMissingNodes(internalIdsOfChunk, updatedIds))
+						.then();
+
+				Mono<List<Long>> creationOfNewEntities = Mono.defer(() -> {
+					List<Map<String, Object>> newEntities = Neo4jTemplate
+						.selectEntitiesWithoutIds(boundEntities, internalIdsOfChunk);
+					return newEntities.isEmpty() ? Mono.just(emptyList()) :
+						neo4jClient.query(statements.getSaveAllReturningInternalIds())
+							.in(inDatabase)
+							.bind(newEntities).to(NAME_OF_ENTITY_LIST_PARAM)
+							.fetchAs(Long.class).all().collectList();
+				});
+
+				return updateOfExistingEntities.then(creationOfNewEntities).flatMapIterable(createdIds -> {
+					Iterator<Long> createdIdsIterator = createdIds.iterator();
+					for (int i = 0; i < internalIdsOfChunk.length; ++i) {
+						if (internalIdsOfChunk[i] == null) {
+							internalIdsOfChunk[i] = createdIdsIterator.next();
+						}
+					}
+					return Arrays.asList(internalIdsOfChunk);
+				});
+			})
+			.collectList();
+	}
+
+	private <T> List<List<T>> chunked(List<T> entities) {
+		return chunked(entities, batchSize);
+	}
+
+	private static <T> List<List<T>> chunked(List<T> entities, int chunkSize) {
+
+		List<List<T>> chunks = new ArrayList<>(entities.size() / chunkSize + 1);
+		for (int fromIndex = 0; fromIndex < entities.size(); fromIndex += chunkSize) {
+			chunks.add(entities.subList(fromIndex, Math.min(entities.size(), fromIndex + chunkSize)));
+		}
+		return chunks;
 	}
 
 	private Mono<DatabaseSelection> getDatabaseName() {
@@ -445,6 +791,18 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		return this.databaseSelectionProvider.getDatabaseSelection().switchIfEmpty(Mono.just(undecided()));
 	}
 
+	/**
+	 * Configures the maximum number of entities saved with one statement by {@link #saveAll(Iterable)} and while saving
+	 * the related nodes of an aggregate. Larger lists are split into several statements.
+	 *
+	 * @param batchSize The maximum number of entities per statement, defaults to {@link #DEFAULT_BATCH_SIZE}
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public <T> Mono<ExecutableQuery<T>> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
@@ -469,6 +827,20 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = new ReactiveNeo4jEvents(ReactiveEntityCallbacks.create(beanFactory));
+		this.transactionManagers = beanFactory.getBeanProvider(ReactiveTransactionManager.class);
+	}
+
+	/**
+	 * Configures the transaction manager used to run each batch of {@link #ingest(Publisher, int)} in a transaction of
+	 * its own. If none is configured, the unique reactive transaction manager of the bean factory is used, if there is
+	 * one.
+	 *
+	 * @param transactionManager The transaction manager for ingesting entities
+	 */
+	public void setTransactionManager(ReactiveTransactionManager transactionManager) {
+
+		Assert.notNull(transactionManager, "The transaction manager is required.");
+		this.transactionManager = transactionManager;
 	}
 
 	final class DefaultReactiveExecutableQuery<T> implements ExecutableQuery<T> {
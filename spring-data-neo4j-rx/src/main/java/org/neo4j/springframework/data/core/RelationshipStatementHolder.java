@@ -19,79 +19,68 @@
 package org.neo4j.springframework.data.core;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.springframework.data.core.cypher.Statement;
-import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.lang.Nullable;
 
 /**
- * The {@link RelationshipStatementHolder} holds the Cypher Statement to create a relationship as well as the optional
- * properties that describe the relationship in case of more then a simple relationship.
- * By holding the relationship creation cypher together with the properties, we can reuse the same logic in the
+ * The {@link RelationshipStatementHolder} holds the Cypher Statement to create or delete all relationships of one type
+ * as well as the parameters describing those relationships. The relationships are passed as a list of rows, each containing the
+ * id of the start node, the internal id of the end node and the optional properties of the relationship, so that the
+ * rendered statement doesn't depend on the number of relationships.
+ * By holding the relationship creation cypher together with the parameters, we can reuse the same logic in the
  * {@link Neo4jTemplate} as well as in the {@link ReactiveNeo4jTemplate}.
  *
  * @author Philipp Tölle
  * @since 1.0
  */
 final class RelationshipStatementHolder {
-	private final Statement relationshipCreationQuery;
-	private final Map<String, Object> properties;
-
-	private RelationshipStatementHolder(@NotNull Statement relationshipCreationQuery) {
-		this.relationshipCreationQuery = relationshipCreationQuery;
-		this.properties = Collections.emptyMap();
-	}
+	private final Statement statement;
+	private final Map<String, Object> parameters;
 
 	private RelationshipStatementHolder(
-		@NotNull Statement relationshipCreationQuery,
-		@NotNull Map<String, Object> properties) {
-		this.relationshipCreationQuery = relationshipCreationQuery;
-		this.properties = properties;
+		@NotNull Statement statement,
+		@NotNull Map<String, Object> parameters) {
+		this.statement = statement;
+		this.parameters = parameters;
 	}
 
-	Statement getRelationshipCreationQuery() {
-		return relationshipCreationQuery;
+	Statement getStatement() {
+		return statement;
 	}
 
-	Map<String, Object> getProperties() {
-		return properties;
+	Map<String, Object> getParameters() {
+		return parameters;
 	}
 
-	static RelationshipStatementHolder createStatementForRelationShipWithProperties(
-		Neo4jMappingContext neo4jMappingContext,
+	static RelationshipStatementHolder createStatementForRelationships(
 		Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		NestedRelationshipContext relationshipContext,
-		Long relatedInternalId,
-		Map.Entry relatedValue) {
+		RelationshipDescription relationship,
+		@Nullable String dynamicRelationshipType,
+		List<Map<String, Object>> relationships) {
 
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE
-			.createRelationshipWithPropertiesCreationQuery(
-				neo4jPersistentEntity,
-				relationshipContext.getRelationship(),
-				relatedInternalId
-			);
-		Map<String, Object> propMap = new HashMap<>();
-		neo4jMappingContext.getConverter().write(relatedValue.getValue(), propMap);
-
-		return new RelationshipStatementHolder(relationshipCreationQuery, propMap);
+		Statement statement = CypherGenerator.INSTANCE
+			.createRelationshipsCreationQuery(neo4jPersistentEntity, relationship, dynamicRelationshipType);
+		return new RelationshipStatementHolder(statement,
+			Collections.singletonMap(CypherGenerator.RELATIONSHIPS_PARAMETER_NAME, relationships));
 	}
 
-	static RelationshipStatementHolder createStatementForRelationshipWithoutProperties(
+	static RelationshipStatementHolder createStatementForRemovedRelationships(
 		Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		NestedRelationshipContext relationshipContext,
-		Long relatedInternalId,
-		Object relatedValue) {
+		RelationshipDescription relationship,
+		String relationshipType,
+		Neo4jPersistentEntity<?> relatedEntity,
+		List<Map<String, Object>> relationships) {
 
-		Statement relationshipCreationQuery = CypherGenerator.INSTANCE
-			.createRelationshipCreationQuery(neo4jPersistentEntity,
-				relationshipContext.getRelationship(),
-				relatedValue instanceof Map.Entry ? ((Map.Entry<String, ?>) relatedValue).getKey() : null,
-				relatedInternalId);
-		return new RelationshipStatementHolder(relationshipCreationQuery);
+		Statement statement = CypherGenerator.INSTANCE
+			.createRelationshipsDeleteQuery(neo4jPersistentEntity, relationship, relationshipType, relatedEntity);
+		return new RelationshipStatementHolder(statement,
+			Collections.singletonMap(CypherGenerator.RELATIONSHIPS_PARAMETER_NAME, relationships));
 	}
 }
-
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.Neo4jClient.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the statements of a batch one after another through the plain query API of any {@link Neo4jClient}. This is the
+ * default for clients that cannot pipeline statements. The statements share a transaction only when they participate
+ * in an ongoing one.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class SequentialBatchSpec implements BatchSpec {
+
+	private final Neo4jClient client;
+
+	private final List<Supplier<RunnableSpecTightToDatabase>> statements = new ArrayList<>();
+
+	@Nullable private String targetDatabase;
+
+	SequentialBatchSpec(Neo4jClient client) {
+		this.client = client;
+	}
+
+	@Override
+	public BatchSpec in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+		this.targetDatabase = verifyDatabaseName(targetDatabase);
+		return this;
+	}
+
+	@Override
+	public BatchSpec add(String cypher) {
+		return add(cypher, Collections.emptyMap());
+	}
+
+	@Override
+	public BatchSpec add(String cypher, Map<String, Object> parameters) {
+
+		Assert.hasText(cypher, "Cypher is required.");
+		Assert.notNull(parameters, "Parameters are required.");
+
+		this.statements.add(() -> client.query(cypher).in(this.targetDatabase).bindAll(parameters));
+		return this;
+	}
+
+	@Override
+	public BatchSpec add(PreparedStatement preparedStatement, Map<String, Object> values) {
+
+		Assert.notNull(preparedStatement, "Prepared statement is required.");
+
+		return add(preparedStatement.getCypher(), preparedStatement.bind(values));
+	}
+
+	@Override
+	public List<ResultSummary> run() {
+		return execute(RunnableSpecTightToDatabase::run);
+	}
+
+	@Override
+	public <T> List<List<T>> fetchAll(BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+		Assert.notNull(mappingFunction, "Mapping function is required.");
+
+		// The target class is not used as the mapping function replaces the single value mapping.
+		@SuppressWarnings("unchecked")
+		Class<T> targetClass = (Class<T>) Object.class;
+		return execute(statement -> new ArrayList<>(statement.fetchAs(targetClass).mappedBy(mappingFunction).all()));
+	}
+
+	private <R> List<R> execute(Function<RunnableSpecTightToDatabase, R> resultHandler) {
+
+		List<R> results = new ArrayList<>(this.statements.size());
+		for (Supplier<RunnableSpecTightToDatabase> statement : this.statements) {
+			results.add(resultHandler.apply(statement.get()));
+		}
+		return results;
+	}
+}
@@ -163,6 +163,10 @@ final class AdditionalTypes {
 	}
 
 	static Character asCharacter(Value value) {
+		return asChar(value);
+	}
+
+	private static char asChar(Value value) {
 		char[] chars = value.asString().toCharArray();
 		Assert.isTrue(chars.length == 1, "Expected a char array with exactly 1 element.");
 		return chars[0];
@@ -266,6 +270,10 @@ final class AdditionalTypes {
 	}
 
 	static Short asShort(Value value) {
+		return asShortValue(value);
+	}
+
+	private static short asShortValue(Value value) {
 		long val = value.asLong();
 		if (val > Short.MAX_VALUE || val < Short.MIN_VALUE) {
 			throw new LossyCoercion(value.type().name(), "Java short");
@@ -283,18 +291,16 @@ final class AdditionalTypes {
 
 	static boolean[] asBooleanArray(Value value) {
 		boolean[] array = new boolean[value.size()];
-		int i = 0;
-		for (Boolean v : value.values(Value::asBoolean)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = value.get(i).asBoolean();
 		}
 		return array;
 	}
 
 	static char[] asCharArray(Value value) {
 		char[] array = new char[value.size()];
-		int i = 0;
-		for (Character v : value.values(AdditionalTypes::asCharacter)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = asChar(value.get(i));
 		}
 		return array;
 	}
@@ -306,18 +312,16 @@ final class AdditionalTypes {
 
 	static double[] asDoubleArray(Value value) {
 		double[] array = new double[value.size()];
-		int i = 0;
-		for (double v : value.values(Value::asDouble)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = value.get(i).asDouble();
 		}
 		return array;
 	}
 
 	static float[] asFloatArray(Value value) {
 		float[] array = new float[value.size()];
-		int i = 0;
-		for (float v : value.values(AdditionalTypes::asFloat)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = Float.parseFloat(value.get(i).asString());
 		}
 		return array;
 	}
@@ -337,27 +341,24 @@ final class AdditionalTypes {
 
 	static int[] asIntArray(Value value) {
 		int[] array = new int[value.size()];
-		int i = 0;
-		for (int v : value.values(Value::asInt)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = value.get(i).asInt();
 		}
 		return array;
 	}
 
 	static long[] asLongArray(Value value) {
 		long[] array = new long[value.size()];
-		int i = 0;
-		for (long v : value.values(Value::asLong)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = value.get(i).asLong();
 		}
 		return array;
 	}
 
 	static short[] asShortArray(Value value) {
 		short[] array = new short[value.size()];
-		int i = 0;
-		for (short v : value.values(AdditionalTypes::asShort)) {
-			array[i++] = v;
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = asShortValue(value.get(i));
 		}
 		return array;
 	}
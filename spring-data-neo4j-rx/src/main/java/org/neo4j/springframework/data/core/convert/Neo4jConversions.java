@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.List;
 
 import org.apiguardian.api.API;
+import org.neo4j.driver.Value;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Michael J. Simons
@@ -49,6 +51,12 @@ public final class Neo4jConversions extends CustomConversions {
 		STORE_CONVERSIONS = StoreConversions.of(Neo4jSimpleTypes.HOLDER, STORE_CONVERTERS);
 	}
 
+	/**
+	 * Only the converters registered by the user, used to exclude types from the direct codecs.
+	 */
+	@Nullable
+	private final CustomConversions userConversions;
+
 	/**
 	 * Creates a {@link Neo4jConversions} object without custom converters.
 	 */
@@ -63,5 +71,19 @@ public final class Neo4jConversions extends CustomConversions {
 	 */
 	public Neo4jConversions(Collection<?> converters) {
 		super(STORE_CONVERSIONS, converters);
+
+		this.userConversions = converters.isEmpty() ?
+			null :
+			new CustomConversions(StoreConversions.of(Neo4jSimpleTypes.HOLDER), converters);
+	}
+
+	/**
+	 * @param type The type to check
+	 * @return True, if a converter registered by the user reads or writes the given type
+	 */
+	boolean hasUserConverterFor(Class<?> type) {
+
+		return userConversions != null && (userConversions.hasCustomWriteTarget(type, Value.class)
+			|| userConversions.hasCustomReadTarget(Value.class, type));
 	}
 }
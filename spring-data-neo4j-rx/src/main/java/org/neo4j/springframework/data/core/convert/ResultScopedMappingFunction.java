@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.convert;
+
+import java.util.function.BiFunction;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.types.TypeSystem;
+
+/**
+ * A mapping function that can share state between all records of one result, for example an identity map of entities
+ * that have already been mapped. Applying the function itself doesn't share any state between records. Clients mapping
+ * a whole result ask for a new function per result via {@link #scopedToResult()}, so that the state never outlives
+ * the result.
+ *
+ * @author Michael J. Simons
+ * @param <T> The type of the mapped objects
+ * @since 1.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0")
+public interface ResultScopedMappingFunction<T> extends BiFunction<TypeSystem, Record, T> {
+
+	/**
+	 * Creates a new mapping function for all records of one result. The returned function must not be used
+	 * concurrently or for another result.
+	 *
+	 * @return A mapping function scoped to one result
+	 */
+	BiFunction<TypeSystem, Record, T> scopedToResult();
+
+	/**
+	 * Scopes the given mapping function to one result if supported.
+	 *
+	 * @param mappingFunction A mapping function
+	 * @param <T>             The type of the mapped objects
+	 * @return A mapping function scoped to one result or the original function
+	 */
+	static <T> BiFunction<TypeSystem, Record, T> scopedToResult(BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+		return mappingFunction instanceof ResultScopedMappingFunction ?
+			((ResultScopedMappingFunction<T>) mappingFunction).scopedToResult() :
+			mappingFunction;
+	}
+}
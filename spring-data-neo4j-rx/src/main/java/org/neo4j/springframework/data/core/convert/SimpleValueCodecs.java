@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.IsoDuration;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * A registry of codecs reading and writing the built-in simple types directly, without looking up a converter in a
+ * conversion service for each value. The codecs behave exactly like the converters registered for the same types by
+ * {@link Neo4jConversions}. Arrays of primitives are decoded index by index without boxing the elements.
+ * <p>
+ * Types handled by converters that users registered with {@link Neo4jConversions} are not part of the registry, so
+ * that those conversions still go through the conversion service and take precedence as before.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0")
+public final class SimpleValueCodecs {
+
+	/**
+	 * Reads and writes values of one type.
+	 *
+	 * @param <T> The type of the values
+	 */
+	public interface Codec<T> {
+
+		/**
+		 * @param value A value that is neither {@literal null} nor {@link Values#NULL}
+		 * @return The decoded value
+		 * @throws ConversionFailedException if the value cannot be decoded
+		 */
+		T read(Value value);
+
+		/**
+		 * @param value A value that is not {@literal null}
+		 * @return The encoded value
+		 */
+		Value write(T value);
+	}
+
+	private static final Map<Class<?>, Codec<?>> BUILT_IN_CODECS;
+
+	static {
+
+		Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+
+		// Types supported by the driver, see CypherTypes
+		register(codecs, Boolean.class, Value::asBoolean, Values::value);
+		register(codecs, boolean.class, Value::asBoolean, Values::value);
+		register(codecs, Long.class, Value::asLong, Values::value);
+		register(codecs, long.class, Value::asLong, Values::value);
+		register(codecs, Double.class, Value::asDouble, Values::value);
+		register(codecs, double.class, Value::asDouble, Values::value);
+		register(codecs, String.class, Value::asString, Values::value);
+		register(codecs, byte[].class, Value::asByteArray, Values::value);
+		register(codecs, LocalDate.class, Value::asLocalDate, Values::value);
+		register(codecs, OffsetTime.class, Value::asOffsetTime, Values::value);
+		register(codecs, LocalTime.class, Value::asLocalTime, Values::value);
+		register(codecs, ZonedDateTime.class, Value::asZonedDateTime, Values::value);
+		register(codecs, LocalDateTime.class, Value::asLocalDateTime, Values::value);
+		register(codecs, IsoDuration.class, Value::asIsoDuration, Values::value);
+
+		// Additional types, see AdditionalTypes
+		register(codecs, Integer.class, Value::asInt, Values::value);
+		register(codecs, int.class, Value::asInt, Values::value);
+		register(codecs, Short.class, AdditionalTypes::asShort, AdditionalTypes::value);
+		register(codecs, short.class, AdditionalTypes::asShort, AdditionalTypes::value);
+		register(codecs, Byte.class, AdditionalTypes::asByte, AdditionalTypes::value);
+		register(codecs, byte.class, AdditionalTypes::asByte, AdditionalTypes::value);
+		register(codecs, Float.class, AdditionalTypes::asFloat, AdditionalTypes::value);
+		register(codecs, float.class, AdditionalTypes::asFloat, AdditionalTypes::value);
+		register(codecs, Character.class, AdditionalTypes::asCharacter, Values::value);
+		register(codecs, char.class, AdditionalTypes::asCharacter, Values::value);
+		register(codecs, boolean[].class, AdditionalTypes::asBooleanArray, Values::value);
+		register(codecs, char[].class, AdditionalTypes::asCharArray, Values::value);
+		register(codecs, short[].class, AdditionalTypes::asShortArray, AdditionalTypes::value);
+		register(codecs, int[].class, AdditionalTypes::asIntArray, Values::value);
+		register(codecs, long[].class, AdditionalTypes::asLongArray, Values::value);
+		register(codecs, float[].class, AdditionalTypes::asFloatArray, AdditionalTypes::value);
+		register(codecs, double[].class, AdditionalTypes::asDoubleArray, Values::value);
+		register(codecs, String[].class, AdditionalTypes::asStringArray, Values::value);
+		register(codecs, BigDecimal.class, AdditionalTypes::asBigDecimal, AdditionalTypes::value);
+		register(codecs, BigInteger.class, AdditionalTypes::asBigInteger, AdditionalTypes::value);
+		register(codecs, Instant.class, AdditionalTypes::asInstant, AdditionalTypes::value);
+		register(codecs, UUID.class, AdditionalTypes::asUUID, AdditionalTypes::value);
+		register(codecs, Locale.class, AdditionalTypes::asLocale, AdditionalTypes::value);
+		register(codecs, Date.class, AdditionalTypes::asDate, AdditionalTypes::value);
+
+		BUILT_IN_CODECS = Collections.unmodifiableMap(codecs);
+	}
+
+	private static <T> void register(Map<Class<?>, Codec<?>> codecs, Class<T> type, Function<Value, T> reader,
+		Function<T, Value> writer) {
+
+		codecs.put(type, new DefaultCodec<>(type, reader, writer));
+	}
+
+	/**
+	 * Creates the registry of codecs for the given conversions. Built-in types with converters registered by users are
+	 * left out.
+	 *
+	 * @param conversions The conversions also used to configure the conversion service
+	 * @return A registry of codecs
+	 */
+	public static SimpleValueCodecs of(Neo4jConversions conversions) {
+
+		Map<Class<?>, Codec<?>> codecs = new HashMap<>(BUILT_IN_CODECS);
+		codecs.keySet().removeIf(conversions::hasUserConverterFor);
+		return new SimpleValueCodecs(codecs);
+	}
+
+	private final Map<Class<?>, Codec<?>> codecs;
+
+	private SimpleValueCodecs(Map<Class<?>, Codec<?>> codecs) {
+		this.codecs = codecs;
+	}
+
+	/**
+	 * @param type The type to read or write
+	 * @param <T>  The type to read or write
+	 * @return A codec for the given type or {@literal null} if the type must be converted via the conversion service
+	 */
+	@Nullable
+	public <T> Codec<T> getCodecFor(Class<T> type) {
+		return (Codec<T>) codecs.get(type);
+	}
+
+	private static final class DefaultCodec<T> implements Codec<T> {
+
+		private final TypeDescriptor typeDescriptor;
+
+		private final Function<Value, T> reader;
+
+		private final Function<T, Value> writer;
+
+		DefaultCodec(Class<T> type, Function<Value, T> reader, Function<T, Value> writer) {
+			this.typeDescriptor = TypeDescriptor.valueOf(type);
+			this.reader = reader;
+			this.writer = writer;
+		}
+
+		@Override
+		public T read(Value value) {
+			try {
+				return reader.apply(value);
+			} catch (RuntimeException e) {
+				// Fail the same way as the conversion service
+				throw new ConversionFailedException(TypeDescriptor.forObject(value), typeDescriptor, value, e);
+			}
+		}
+
+		@Override
+		public Value write(T value) {
+			return writer.apply(value);
+		}
+	}
+}
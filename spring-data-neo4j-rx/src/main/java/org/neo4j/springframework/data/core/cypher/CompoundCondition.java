@@ -102,6 +102,12 @@ public final class CompoundCondition implements Condition {
 		}
 
 		if (condition instanceof CompoundCondition) {
+			// Conditions can only be merged into this one if they are chained with the operator of this condition,
+			// otherwise this condition needs to be nested.
+			if (this.operator != chainingOperator) {
+				return CompoundCondition.create(this, chainingOperator, condition);
+			}
+
 			CompoundCondition compoundCondition = (CompoundCondition) condition;
 			if (compoundCondition.operator == chainingOperator) {
 				this.conditions.addAll(compoundCondition.conditions);
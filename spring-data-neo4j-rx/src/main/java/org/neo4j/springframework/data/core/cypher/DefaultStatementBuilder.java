@@ -595,6 +595,12 @@ class DefaultStatementBuilder
 			orderBuilder.limit(number);
 			return this;
 		}
+
+		@Override
+		public OngoingReadingAndWith limit(Parameter parameter) {
+			orderBuilder.limit(parameter);
+			return this;
+		}
 	}
 
 	/**
@@ -900,6 +906,11 @@ class DefaultStatementBuilder
 			}
 		}
 
+		protected void limit(Parameter parameter) {
+
+			limit = Limit.create(parameter);
+		}
+
 		protected Optional<Order> buildOrder() {
 			if (lastSortItem != null) {
 				sortItemList.add(lastSortItem);
@@ -38,9 +38,19 @@ public final class Limit implements Visitable {
 		return new Limit(new NumberLiteral(value));
 	}
 
-	private final NumberLiteral limitAmount;
+	static Limit create(Parameter parameter) {
 
-	private Limit(NumberLiteral limitAmount) {
+		Assert.notNull(parameter, "A limit cannot have a null parameter.");
+
+		return new Limit(parameter);
+	}
+
+	/**
+	 * Either a {@link NumberLiteral} or a {@link Parameter}.
+	 */
+	private final Expression limitAmount;
+
+	private Limit(Expression limitAmount) {
 		this.limitAmount = limitAmount;
 	}
 
@@ -175,6 +175,18 @@ public final class Node implements PatternElement, Named, Expression, ExposesRel
 		return Property.create(this, name);
 	}
 
+	/**
+	 * Creates an {@link Operation} mutating the properties of this node, adding new and replacing existing properties.
+	 * Properties set to {@literal null} are removed.
+	 *
+	 * @param properties expression describing a map of properties
+	 * @return A new operation.
+	 */
+	public Operation mutate(Expression properties) {
+
+		return Operations.mutate(this, properties);
+	}
+
 	public FunctionInvocation internalId() {
 		return Functions.id(this);
 	}
@@ -54,6 +54,19 @@ final class Operations {
 		return Operation.create(target, Operator.SET, value);
 	}
 
+	/**
+	 * Creates a {@code +=} operation. The left hand side must resolve to a container (i.e. a node or a relationship)
+	 * of properties and the right hand side must be a map of new or updated properties.
+	 *
+	 * @param target The target container that should be modified
+	 * @param value  The new properties
+	 * @return A new operation.
+	 */
+	static Operation mutate(Expression target, Expression value) {
+
+		return Operation.create(target, Operator.MUTATE, value);
+	}
+
 	static Operation set(Node target, String... label) {
 
 		return Operation.create(target, Operator.SET_LABEL, label);
@@ -451,6 +451,15 @@ public interface StatementBuilder {
 		 * @return A buildable match statement.
 		 */
 		OngoingReadingAndWith limit(@Nullable Number number);
+
+		/**
+		 * Limits the number of returned records to the value of a parameter, so that the rendered statement doesn't
+		 * depend on the actual limit.
+		 *
+		 * @param parameter The parameter containing the number of records to return
+		 * @return A buildable match statement.
+		 */
+		OngoingReadingAndWith limit(Parameter parameter);
 	}
 
 	/**
@@ -18,12 +18,9 @@
  */
 package org.neo4j.springframework.data.core.cypher.renderer;
 
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.neo4j.springframework.data.core.cypher.Statement;
 
@@ -36,54 +33,52 @@ enum CypherRenderer implements Renderer {
 
 	INSTANCE;
 
-	private final int STATEMENT_CACHE_SIZE = 128;
-	private final LinkedHashMap<Integer, String> renderedStatementCache = new LRUCache<>(STATEMENT_CACHE_SIZE);
+	private static final int STATEMENT_CACHE_SIZE = 128;
 
-	private final ReadWriteLock lock = new ReentrantReadWriteLock();
-	private final Lock read = lock.readLock();
-	private final Lock write = lock.writeLock();
+	/**
+	 * Rendered statements, keyed by their structural fingerprint, so that identical statements built independently
+	 * from each other are rendered only once.
+	 */
+	private final StatementCache<StatementFingerprint> renderedStatementCache = new StatementCache<>(
+		STATEMENT_CACHE_SIZE);
+
+	/**
+	 * Statements rendered with their literals lifted into parameters. The fingerprints used as keys don't contain the
+	 * values of those literals.
+	 */
+	private final StatementCache<StatementFingerprint> parameterizedStatementCache = new StatementCache<>(
+		STATEMENT_CACHE_SIZE);
 
 	@Override
 	public String render(Statement statement) {
 
-		int key = Objects.hashCode(statement);
-
-		String renderedContent;
-		try {
-			read.lock();
-			renderedContent = renderedStatementCache.get(key);
-		} finally {
-			read.unlock();
-		}
-
-		if (renderedContent == null) {
-			try {
-				write.lock();
-
-				RenderingVisitor renderingVisitor = new RenderingVisitor();
-				statement.accept(renderingVisitor);
-				renderedContent = renderingVisitor.getRenderedContent().trim();
-
-				renderedStatementCache.put(key, renderedContent);
-			} finally {
-				write.unlock();
-			}
-		}
-
-		return renderedContent;
+		return renderedStatementCache.computeIfAbsent(StatementFingerprint.of(statement), key -> {
+			RenderingVisitor renderingVisitor = new RenderingVisitor();
+			statement.accept(renderingVisitor);
+			return renderingVisitor.getRenderedContent().trim();
+		});
 	}
 
-	private static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-		private int cacheSize;
-
-		LRUCache(int cacheSize) {
-			super(cacheSize / 4, 0.75f, true);
-			this.cacheSize = cacheSize;
+	@Override
+	public RenderedStatement renderWithLiteralsAsParameters(Statement statement) {
+
+		StatementFingerprint fingerprint = StatementFingerprint.of(statement, true);
+		String cypher = parameterizedStatementCache.computeIfAbsent(fingerprint, key -> {
+			RenderingVisitor renderingVisitor = new RenderingVisitor(true);
+			statement.accept(renderingVisitor);
+			return renderingVisitor.getRenderedContent().trim();
+		});
+
+		List<Object> literalValues = fingerprint.getLiteralValues();
+		Map<String, Object> parameters = new HashMap<>(literalValues.size() * 4 / 3 + 1);
+		for (int i = 0; i < literalValues.size(); ++i) {
+			parameters.put(LiteralParameters.nameOf(i), literalValues.get(i));
 		}
+		return new RenderedStatement(cypher, parameters);
+	}
 
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-			return size() >= cacheSize;
-		}
+	@Override
+	public StatementCacheStatistics getCacheStatistics() {
+		return renderedStatementCache.getStatistics();
 	}
 }
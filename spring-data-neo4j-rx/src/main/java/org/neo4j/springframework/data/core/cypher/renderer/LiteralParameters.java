@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.springframework.data.core.cypher.BooleanLiteral;
+import org.neo4j.springframework.data.core.cypher.ListLiteral;
+import org.neo4j.springframework.data.core.cypher.Literal;
+import org.neo4j.springframework.data.core.cypher.NumberLiteral;
+import org.neo4j.springframework.data.core.cypher.StringLiteral;
+
+/**
+ * Utilities for lifting literals into parameters. Strings, numbers, booleans and lists thereof can be lifted,
+ * {@literal NULL} and the literals used for structuring a statement (like {@code *}) are always rendered inline.
+ * Numbers are only lifted if the driver can pass them on as is, others (like {@link java.math.BigDecimal}) are rendered
+ * inline as well.
+ * <p>
+ * Lifted literals are named by the order in which they appear in a statement, so that structurally equal statements
+ * are rendered into the same Cypher.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class LiteralParameters {
+
+	private static final String PREFIX = "__literal";
+	private static final String SUFFIX = "__";
+
+	/**
+	 * The numeric types the driver accepts as parameters.
+	 */
+	private static final Set<Class<?>> LIFTABLE_NUMBER_TYPES = new HashSet<>(Arrays.asList(
+		Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class));
+
+	static String nameOf(int index) {
+		return PREFIX + index + SUFFIX;
+	}
+
+	static boolean isLiftable(Literal<?> literal) {
+
+		if (literal instanceof StringLiteral || literal instanceof BooleanLiteral) {
+			return literal.getContent() != null;
+		}
+
+		if (literal instanceof NumberLiteral) {
+			Number content = ((NumberLiteral) literal).getContent();
+			return content != null && LIFTABLE_NUMBER_TYPES.contains(content.getClass());
+		}
+
+		if (literal instanceof ListLiteral) {
+			Iterable<Literal<?>> elements = ((ListLiteral) literal).getContent();
+			if (elements == null) {
+				return false;
+			}
+			for (Literal<?> element : elements) {
+				if (!isLiftable(element)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param literal A literal for which {@link #isLiftable(Literal)} holds true
+	 * @return The Java value of the literal, suitable to be passed on as a parameter to the driver
+	 */
+	static Object valueOf(Literal<?> literal) {
+
+		if (literal instanceof ListLiteral) {
+			List<Object> values = new ArrayList<>();
+			for (Literal<?> element : ((ListLiteral) literal).getContent()) {
+				values.add(valueOf(element));
+			}
+			return values;
+		}
+
+		Object content = literal.getContent();
+		return content instanceof CharSequence ? content.toString() : content;
+	}
+
+	private LiteralParameters() {
+	}
+}
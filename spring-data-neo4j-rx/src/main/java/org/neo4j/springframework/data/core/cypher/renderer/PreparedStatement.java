@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.cypher.Parameter;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.springframework.util.Assert;
+
+/**
+ * A statement that has been rendered once and can be executed many times, binding only new values to its parameters.
+ * A prepared statement knows the names of all parameters declared in the original statement and validates any
+ * bindings against them: All declared parameters must be bound and no other parameters are allowed.
+ * <p>
+ * Literals of the original statement are lifted into parameters as well (see
+ * {@link Renderer#renderWithLiteralsAsParameters(Statement)}). Their values are fixed and added to each binding
+ * automatically.
+ * <p>
+ * Instances of this class are immutable and thread-safe. They are meant to be created once, i.e. during startup, and
+ * can be passed directly to {@code Neo4jClient#query(PreparedStatement)} and
+ * {@code ReactiveNeo4jClient#query(PreparedStatement)}.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+public final class PreparedStatement {
+
+	private final String cypher;
+
+	private final Set<String> parameterNames;
+
+	private final Map<String, Object> fixedParameters;
+
+	/**
+	 * Prepares the given statement with the default renderer.
+	 *
+	 * @param statement The statement to prepare
+	 * @return A prepared statement
+	 */
+	public static PreparedStatement of(Statement statement) {
+		return of(statement, Renderer.getDefaultRenderer());
+	}
+
+	/**
+	 * Prepares the given statement with a dedicated renderer.
+	 *
+	 * @param statement The statement to prepare
+	 * @param renderer  The renderer to use
+	 * @return A prepared statement
+	 */
+	public static PreparedStatement of(Statement statement, Renderer renderer) {
+
+		Assert.notNull(statement, "Statement is required.");
+		Assert.notNull(renderer, "Renderer is required.");
+
+		Set<String> parameterNames = new LinkedHashSet<>();
+		statement.accept(segment -> {
+			if (segment instanceof Parameter) {
+				parameterNames.add(((Parameter) segment).getName());
+			}
+		});
+
+		RenderedStatement renderedStatement = renderer.renderWithLiteralsAsParameters(statement);
+		return new PreparedStatement(renderedStatement.getCypher(), parameterNames, renderedStatement.getParameters());
+	}
+
+	private PreparedStatement(String cypher, Set<String> parameterNames, Map<String, Object> fixedParameters) {
+		this.cypher = cypher;
+		this.parameterNames = Collections.unmodifiableSet(parameterNames);
+		this.fixedParameters = fixedParameters;
+	}
+
+	/**
+	 * @return The rendered Cypher
+	 */
+	public String getCypher() {
+		return cypher;
+	}
+
+	/**
+	 * @return The names of all parameters that have been declared in the original statement and must be bound
+	 */
+	public Set<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Validates the given values against the declared parameters and adds the values of the lifted literals.
+	 *
+	 * @param values The values to bind, keyed by the names of the declared parameters
+	 * @return The complete set of parameters to pass along with {@link #getCypher()}
+	 * @throws IllegalArgumentException when a declared parameter is not bound or when a value is bound to an unknown
+	 *                                  parameter
+	 */
+	public Map<String, Object> bind(Map<String, Object> values) {
+
+		Assert.notNull(values, "Values are required.");
+
+		if (!parameterNames.containsAll(values.keySet())) {
+			Set<String> unknownParameters = new TreeSet<>(values.keySet());
+			unknownParameters.removeAll(parameterNames);
+			throw new IllegalArgumentException(String.format(
+				"Statement does not declare the parameter(s) %s. Declared parameters are %s.",
+				unknownParameters, parameterNames));
+		}
+
+		if (values.size() != parameterNames.size()) {
+			Set<String> missingParameters = new TreeSet<>(parameterNames);
+			missingParameters.removeAll(values.keySet());
+			throw new IllegalArgumentException(String.format(
+				"No value bound to the declared parameter(s) %s.", missingParameters));
+		}
+
+		if (fixedParameters.isEmpty()) {
+			return values;
+		}
+
+		Map<String, Object> parameters = new HashMap<>(fixedParameters);
+		parameters.putAll(values);
+		return parameters;
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedStatement{" +
+			"cypher='" + cypher + '\'' +
+			", parameterNames=" + parameterNames +
+			'}';
+	}
+}
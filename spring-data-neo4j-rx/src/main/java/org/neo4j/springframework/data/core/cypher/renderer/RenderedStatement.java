@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+
+/**
+ * The result of rendering a statement with its literals lifted into parameters: The Cypher and the values of the lifted
+ * literals, which must be passed along with the Cypher when executing it.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ * @see Renderer#renderWithLiteralsAsParameters(org.neo4j.springframework.data.core.cypher.Statement)
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+public final class RenderedStatement {
+
+	private final String cypher;
+
+	private final Map<String, Object> parameters;
+
+	RenderedStatement(String cypher, Map<String, Object> parameters) {
+		this.cypher = cypher;
+		this.parameters = Collections.unmodifiableMap(parameters);
+	}
+
+	/**
+	 * @return The rendered Cypher
+	 */
+	public String getCypher() {
+		return cypher;
+	}
+
+	/**
+	 * @return The values of all literals that have been lifted into parameters, keyed by the name of the parameters
+	 */
+	public Map<String, Object> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Merges the values of the lifted literals with additional parameters. The additional parameters take precedence.
+	 *
+	 * @param additionalParameters Parameters given by the caller, may be empty
+	 * @return All parameters needed to execute the rendered Cypher
+	 */
+	public Map<String, Object> getParametersMergedWith(Map<String, Object> additionalParameters) {
+
+		if (parameters.isEmpty()) {
+			return additionalParameters;
+		}
+		Map<String, Object> mergedParameters = new HashMap<>(parameters);
+		mergedParameters.putAll(additionalParameters);
+		return mergedParameters;
+	}
+
+	@Override
+	public String toString() {
+		return "RenderedStatement{" +
+			"cypher='" + cypher + '\'' +
+			", parameters=" + parameters +
+			'}';
+	}
+}
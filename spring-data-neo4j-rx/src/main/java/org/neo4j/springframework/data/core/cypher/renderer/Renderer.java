@@ -18,6 +18,8 @@
  */
 package org.neo4j.springframework.data.core.cypher.renderer;
 
+import java.util.Collections;
+
 import org.neo4j.springframework.data.core.cypher.Statement;
 
 /**
@@ -34,6 +36,30 @@ public interface Renderer {
 	 */
 	String render(Statement statement);
 
+	/**
+	 * Renders a statement and lifts all literals that can be passed as parameters into parameters. Structurally equal
+	 * statements that only differ in the values of their literals are rendered into the same Cypher, which allows the
+	 * database to reuse the plan of the statement. The values of the literals must be passed along as parameters.
+	 * <p>
+	 * Renderers not supporting this return the statement rendered by {@link #render(Statement)} without parameters.
+	 *
+	 * @param statement the statement to render
+	 * @return The rendered Cypher statement together with the values of all lifted literals.
+	 */
+	default RenderedStatement renderWithLiteralsAsParameters(Statement statement) {
+		return new RenderedStatement(render(statement), Collections.emptyMap());
+	}
+
+	/**
+	 * Provides the counters of the cache of rendered statements. Renderers not caching anything report zero for all
+	 * counters.
+	 *
+	 * @return A snapshot of the cache counters of this renderer.
+	 */
+	default StatementCacheStatistics getCacheStatistics() {
+		return new StatementCacheStatistics(0L, 0L, 0L, 0);
+	}
+
 	/**
 	 * Provides the default renderer. This method may or may not provide shared instances of the renderer.
 	 *
@@ -81,6 +81,25 @@ class RenderingVisitor extends ReflectiveVisitor {
 	 */
 	private boolean skipNodeContent = false;
 
+	/**
+	 * Flag, whether literals should be rendered as parameters or not.
+	 */
+	private final boolean liftLiterals;
+
+	/**
+	 * The number of literals lifted so far. Literals are counted even when the content of a node is skipped, so that the
+	 * names of the parameters are in sync with the literals collected by a {@link StatementFingerprint}.
+	 */
+	private int numberOfLiftedLiterals = 0;
+
+	RenderingVisitor() {
+		this(false);
+	}
+
+	RenderingVisitor(boolean liftLiterals) {
+		this.liftLiterals = liftLiterals;
+	}
+
 	private void enableSeparator(int level, boolean on) {
 		if (on) {
 			separatorOnLevel.add(level);
@@ -97,6 +116,10 @@ class RenderingVisitor extends ReflectiveVisitor {
 	@Override
 	protected boolean preEnter(Visitable visitable) {
 
+		if (liftLiterals && visitable instanceof Literal && LiteralParameters.isLiftable((Literal<?>) visitable)) {
+			++numberOfLiftedLiterals;
+		}
+
 		if (skipNodeContent) {
 			return false;
 		}
@@ -275,7 +298,12 @@ class RenderingVisitor extends ReflectiveVisitor {
 	}
 
 	void enter(Literal<?> expression) {
-		builder.append(expression.asString());
+
+		if (liftLiterals && LiteralParameters.isLiftable(expression)) {
+			builder.append("$").append(LiteralParameters.nameOf(numberOfLiftedLiterals - 1));
+		} else {
+			builder.append(expression.asString());
+		}
 	}
 
 	void enter(Node node) {
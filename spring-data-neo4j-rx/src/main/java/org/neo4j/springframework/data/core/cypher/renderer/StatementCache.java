@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, lock-free cache for rendered statements. Lookups never block and values are computed outside of any lock,
+ * so that concurrent callers missing the same key may both compute the value, but only one of them is stored.
+ * <p>
+ * When the cache is full, the least frequently used entry is evicted. Frequencies are halved on each eviction, so that
+ * entries that have been popular a long time ago don't stay in the cache forever.
+ *
+ * @author Michael J. Simons
+ * @param <K> The type of the keys
+ * @since 1.0
+ */
+final class StatementCache<K> {
+
+	private static final int MAX_FREQUENCY = 1 << 16;
+
+	private final int maximumSize;
+
+	private final Map<K, Entry> entries;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	StatementCache(int maximumSize) {
+
+		this.maximumSize = maximumSize;
+		this.entries = new ConcurrentHashMap<>(maximumSize * 4 / 3 + 1);
+	}
+
+	String computeIfAbsent(K key, Function<K, String> mappingFunction) {
+
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			hits.increment();
+			entry.touch();
+			return entry.value;
+		}
+
+		misses.increment();
+		String value = mappingFunction.apply(key);
+
+		Entry existingEntry = entries.putIfAbsent(key, new Entry(value));
+		if (existingEntry != null) {
+			existingEntry.touch();
+			return existingEntry.value;
+		}
+
+		if (entries.size() > maximumSize) {
+			evictOneExcept(key);
+		}
+		return value;
+	}
+
+	private void evictOneExcept(K retainedKey) {
+
+		K victimKey = null;
+		Entry victim = null;
+		for (Map.Entry<K, Entry> candidate : entries.entrySet()) {
+			if (candidate.getKey().equals(retainedKey)) {
+				continue;
+			}
+			Entry entry = candidate.getValue();
+			if (victim == null || entry.frequency.get() < victim.frequency.get()) {
+				victimKey = candidate.getKey();
+				victim = entry;
+			}
+			entry.age();
+		}
+
+		if (victim != null && entries.remove(victimKey, victim)) {
+			evictions.increment();
+		}
+	}
+
+	StatementCacheStatistics getStatistics() {
+		return new StatementCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+	}
+
+	private static final class Entry {
+
+		final String value;
+
+		final AtomicInteger frequency = new AtomicInteger(1);
+
+		Entry(String value) {
+			this.value = value;
+		}
+
+		void touch() {
+			int current = frequency.get();
+			if (current < MAX_FREQUENCY) {
+				frequency.compareAndSet(current, current + 1);
+			}
+		}
+
+		void age() {
+			int current = frequency.get();
+			frequency.compareAndSet(current, current >>> 1);
+		}
+	}
+}
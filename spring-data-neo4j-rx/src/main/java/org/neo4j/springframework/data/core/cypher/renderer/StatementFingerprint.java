@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.springframework.data.core.cypher.*;
+import org.neo4j.springframework.data.core.cypher.support.Visitable;
+import org.neo4j.springframework.data.core.cypher.support.Visitor;
+
+/**
+ * A structural fingerprint of a {@link Statement}. Two statements have equal fingerprints if and only if they consist
+ * of the same sequence of elements carrying the same values, thus rendering to the same Cypher.
+ * <p>
+ * The fingerprint is a flat list of tokens, collected by walking the AST once. It records the type of each element
+ * when entering it, a marker when leaving it and all values that the {@link RenderingVisitor} reads from an element
+ * apart from its children. Nodes are the only elements whose identity matters during rendering (an already visited
+ * node is rendered only by its name), so they are recorded by the order of their first appearance.
+ * <p>
+ * When literals are lifted into parameters, the values of the literals that can be lifted are not part of the
+ * fingerprint. They are collected in order of appearance instead, see {@link #getLiteralValues()}.
+ * <p>
+ * Changes to the {@link RenderingVisitor} that read additional state from an element must be reflected here.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class StatementFingerprint implements Visitor {
+
+	/**
+	 * Marks the end of an element. Together with the types recorded on entering an element this captures the shape
+	 * of the tree.
+	 */
+	private static final Object LEAVE = new Object();
+
+	static StatementFingerprint of(Statement statement) {
+		return of(statement, false);
+	}
+
+	static StatementFingerprint of(Statement statement, boolean liftLiterals) {
+
+		StatementFingerprint fingerprint = new StatementFingerprint(liftLiterals);
+		statement.accept(fingerprint);
+		fingerprint.seal();
+		return fingerprint;
+	}
+
+	private final boolean liftLiterals;
+
+	private final List<Object> tokens = new ArrayList<>(64);
+
+	private final List<Object> literalValues;
+
+	private Map<Node, Integer> visitedNodes;
+
+	private int hashCode;
+
+	private StatementFingerprint(boolean liftLiterals) {
+		this.liftLiterals = liftLiterals;
+		this.literalValues = liftLiterals ? new ArrayList<>() : Collections.emptyList();
+	}
+
+	/**
+	 * @return The values of all literals that have been lifted into parameters, in order of appearance
+	 */
+	List<Object> getLiteralValues() {
+		return literalValues;
+	}
+
+	@Override
+	public void enter(Visitable visitable) {
+
+		// Enum constants (Operators, directions) are their own tokens
+		tokens.add(visitable instanceof Enum ? visitable : visitable.getClass());
+
+		if (visitable instanceof Match) {
+			tokens.add(((Match) visitable).isOptional());
+		} else if (visitable instanceof Return) {
+			tokens.add(((Return) visitable).isDistinct());
+		} else if (visitable instanceof With) {
+			tokens.add(((With) visitable).isDistinct());
+		} else if (visitable instanceof Delete) {
+			tokens.add(((Delete) visitable).isDetach());
+		} else if (visitable instanceof UnionPart) {
+			tokens.add(((UnionPart) visitable).isAll());
+		} else if (visitable instanceof AliasedExpression) {
+			tokens.add(((AliasedExpression) visitable).getAlias());
+		} else if (visitable instanceof PropertyLookup) {
+			tokens.add(((PropertyLookup) visitable).getPropertyKeyName());
+		} else if (visitable instanceof FunctionInvocation) {
+			tokens.add(((FunctionInvocation) visitable).getFunctionName());
+		} else if (visitable instanceof Literal) {
+			Literal<?> literal = (Literal<?>) visitable;
+			if (liftLiterals && LiteralParameters.isLiftable(literal)) {
+				literalValues.add(LiteralParameters.valueOf(literal));
+			} else {
+				tokens.add(literal.asString());
+			}
+		} else if (visitable instanceof Node) {
+			tokens.add(ordinalOf((Node) visitable));
+		} else if (visitable instanceof NodeLabel) {
+			tokens.add(((NodeLabel) visitable).getValue());
+		} else if (visitable instanceof SymbolicName) {
+			tokens.add(((SymbolicName) visitable).getName());
+		} else if (visitable instanceof RelationshipDetail) {
+			RelationshipDetail details = (RelationshipDetail) visitable;
+			tokens.add(details.getDirection());
+			tokens.add(details.getTypes());
+		} else if (visitable instanceof Parameter) {
+			tokens.add(((Parameter) visitable).getName());
+		} else if (visitable instanceof KeyValueMapEntry) {
+			tokens.add(((KeyValueMapEntry) visitable).getKey());
+		} else if (visitable instanceof Unwind) {
+			tokens.add(((Unwind) visitable).getVariable());
+		}
+	}
+
+	@Override
+	public void leave(Visitable segment) {
+		tokens.add(LEAVE);
+	}
+
+	private Integer ordinalOf(Node node) {
+
+		if (visitedNodes == null) {
+			visitedNodes = new IdentityHashMap<>();
+		}
+		return visitedNodes.computeIfAbsent(node, key -> visitedNodes.size());
+	}
+
+	private void seal() {
+		this.visitedNodes = null;
+		this.hashCode = tokens.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof StatementFingerprint)) {
+			return false;
+		}
+		StatementFingerprint that = (StatementFingerprint) o;
+		return hashCode == that.hashCode && tokens.equals(that.tokens);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
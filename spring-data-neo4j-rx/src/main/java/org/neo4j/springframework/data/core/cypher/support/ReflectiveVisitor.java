@@ -20,15 +20,12 @@ package org.neo4j.springframework.data.core.cypher.support;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
 
 /**
  * This is a convenience class implementing a {@link Visitor} and it takes care of choosing the right methods
@@ -61,13 +58,28 @@ public abstract class ReflectiveVisitor implements Visitor {
 	}
 
 	/**
-	 * A shared cache of unbound method handles for entering and leaving phases.
-	 * The key is the concrete class of the visitor as well as the hierarchy of the visitable.
+	 * The type all handles are adapted to, so that they can be invoked exactly without any further conversion.
+	 */
+	private static final MethodType VISITING_METHOD_TYPE = MethodType
+		.methodType(void.class, ReflectiveVisitor.class, Visitable.class);
+
+	/**
+	 * Dispatch tables per concrete visitor class. The tables are computed once per visitor class and don't prevent
+	 * the visitor classes from being unloaded.
 	 */
-	private static final Map<TargetAndPhase, Optional<MethodHandle>> VISITING_METHODS_CACHE = new ConcurrentHashMap<>();
+	private static final ClassValue<DispatchTable> DISPATCH_TABLES = new ClassValue<DispatchTable>() {
+		@Override
+		@SuppressWarnings("unchecked")
+		protected DispatchTable computeValue(Class<?> type) {
+			return new DispatchTable((Class<? extends ReflectiveVisitor>) type);
+		}
+	};
+
+	/** The dispatch table of this visitor. */
+	private final DispatchTable dispatchTable = DISPATCH_TABLES.get(getClass());
 
 	/** Keeps track of the ASTs current level. */
-	private Deque<Visitable> currentVisitedElements = new LinkedList<>();
+	private final Deque<Visitable> currentVisitedElements = new ArrayDeque<>();
 
 	/**
 	 * This is a hook that is called with the uncasted, raw visitable just before entering a visitable.
@@ -93,7 +105,7 @@ public abstract class ReflectiveVisitor implements Visitor {
 
 		if (preEnter(visitable)) {
 			currentVisitedElements.push(visitable);
-			executeConcreteMethodIn(new TargetAndPhase(this, visitable.getClass(), Phase.ENTER), visitable);
+			invoke(dispatchTable.handlesFor(visitable.getClass()).enter, visitable);
 		}
 	}
 
@@ -101,77 +113,79 @@ public abstract class ReflectiveVisitor implements Visitor {
 	public final void leave(Visitable visitable) {
 
 		if (currentVisitedElements.peek() == visitable) {
-			executeConcreteMethodIn(new TargetAndPhase(this, visitable.getClass(), Phase.LEAVE), visitable);
+			invoke(dispatchTable.handlesFor(visitable.getClass()).leave, visitable);
 			postLeave(visitable);
 			currentVisitedElements.pop();
 		}
 	}
 
-	private void executeConcreteMethodIn(TargetAndPhase targetAndPhase, Visitable onVisitable) {
-		Optional<MethodHandle> optionalHandle = VISITING_METHODS_CACHE
-			.computeIfAbsent(targetAndPhase, ReflectiveVisitor::findHandleFor);
-		optionalHandle.ifPresent(handle -> {
-			try {
-				handle.invoke(this, onVisitable);
-			} catch (Throwable throwable) {
-				throwable.printStackTrace();
-			}
-		});
-	}
+	private void invoke(@Nullable MethodHandle handle, Visitable onVisitable) {
 
-	private static Optional<MethodHandle> findHandleFor(TargetAndPhase targetAndPhase) {
-
-		for (Class<?> clazz : targetAndPhase.classHierarchyOfVisitable) {
-			try {
-				// Using MethodHandles.lookup().findVirtual() doesn't allow to make a protected method accessible.
-				Method method = targetAndPhase.visitorClass
-					.getDeclaredMethod(targetAndPhase.phase.methodName, clazz);
-				method.setAccessible(true);
-				return Optional.of(MethodHandles.lookup().in(targetAndPhase.visitorClass).unreflect(method));
-			} catch (IllegalAccessException | NoSuchMethodException e) {
-				// We don't do anything if the method doesn't exists
-				// Try the next parameter type in the hierarchy
-			}
+		if (handle == null) {
+			return;
+		}
+		try {
+			handle.invokeExact(this, onVisitable);
+		} catch (Throwable throwable) {
+			throwable.printStackTrace();
 		}
-		return Optional.empty();
 	}
 
-	private static class TargetAndPhase {
-		private final Class<? extends ReflectiveVisitor> visitorClass;
-
-		private final List<Class<?>> classHierarchyOfVisitable;
+	/**
+	 * Resolved enter and leave handles of one visitor class for one concrete visitable class.
+	 */
+	private static final class Handles {
 
-		private final Phase phase;
+		private final @Nullable MethodHandle enter;
 
-		<T extends ReflectiveVisitor> TargetAndPhase(T visitor, Class<? extends Visitable> concreteVisitableClass,
-			Phase phase) {
-			this.visitorClass = visitor.getClass();
-			this.phase = phase;
-			this.classHierarchyOfVisitable = new ArrayList<>();
+		private final @Nullable MethodHandle leave;
 
-			Class<?> classOfVisitable = concreteVisitableClass;
-			do {
-				this.classHierarchyOfVisitable.add(classOfVisitable);
-				classOfVisitable = classOfVisitable.getSuperclass();
-			} while (classOfVisitable != null);
+		Handles(@Nullable MethodHandle enter, @Nullable MethodHandle leave) {
+			this.enter = enter;
+			this.leave = leave;
 		}
+	}
 
-		@Override public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (!(o instanceof TargetAndPhase)) {
-				return false;
+	/**
+	 * The dispatch table of one concrete visitor class. Handles are resolved once per concrete class of visitable by
+	 * looking for a matching {@code enter} respectively {@code leave} method along the class hierarchy of the visitable.
+	 */
+	private static final class DispatchTable {
+
+		private final Class<? extends ReflectiveVisitor> visitorClass;
+
+		private final ClassValue<Handles> handles = new ClassValue<Handles>() {
+			@Override
+			protected Handles computeValue(Class<?> type) {
+				return new Handles(findHandleFor(type, Phase.ENTER), findHandleFor(type, Phase.LEAVE));
 			}
-			TargetAndPhase that = (TargetAndPhase) o;
-			return visitorClass.equals(that.visitorClass) &&
-				classHierarchyOfVisitable.equals(that.classHierarchyOfVisitable) &&
-				phase == that.phase;
+		};
+
+		DispatchTable(Class<? extends ReflectiveVisitor> visitorClass) {
+			this.visitorClass = visitorClass;
 		}
 
-		@Override
-		public int hashCode() {
-			return Objects.hash(visitorClass, classHierarchyOfVisitable, phase);
+		Handles handlesFor(Class<? extends Visitable> classOfVisitable) {
+			return handles.get(classOfVisitable);
+		}
+
+		@Nullable
+		private MethodHandle findHandleFor(Class<?> classOfVisitable, Phase phase) {
+
+			Class<?> clazz = classOfVisitable;
+			do {
+				try {
+					// Using MethodHandles.lookup().findVirtual() doesn't allow to make a protected method accessible.
+					Method method = visitorClass.getDeclaredMethod(phase.methodName, clazz);
+					method.setAccessible(true);
+					return MethodHandles.lookup().in(visitorClass).unreflect(method).asType(VISITING_METHOD_TYPE);
+				} catch (IllegalAccessException | NoSuchMethodException e) {
+					// We don't do anything if the method doesn't exists
+					// Try the next parameter type in the hierarchy
+				}
+				clazz = clazz.getSuperclass();
+			} while (clazz != null);
+			return null;
 		}
 	}
 }
@@ -18,7 +18,6 @@
  */
 package org.neo4j.springframework.data.core.mapping;
 
-import static java.util.stream.Collectors.*;
 import static org.neo4j.springframework.data.core.schema.NodeDescription.*;
 import static org.neo4j.springframework.data.core.schema.RelationshipDescription.*;
 
@@ -29,12 +28,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.StreamSupport;
 
 import org.apache.commons.logging.LogFactory;
 import org.neo4j.driver.Record;
@@ -46,6 +43,12 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
+import org.neo4j.springframework.data.core.convert.SimpleValueCodecs;
+import org.neo4j.springframework.data.core.convert.SimpleValueCodecs.Codec;
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.AssociationPlan;
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.PropertyPlan;
+import org.neo4j.springframework.data.core.mapping.EntityWritePlan.PropertyWriter;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
@@ -54,12 +57,11 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.convert.EntityInstantiators;
-import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -83,9 +85,35 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	private final NodeDescriptionStore nodeDescriptionStore;
 	private final ConversionService conversionService;
+	private final SimpleValueCodecs codecs;
+	private final Function<Object, Value> convertingWriter;
+	private final Function<Object, Value> collectionWriter;
+
+	/**
+	 * Read plans of all entities that have been read so far, by entity and by their underlying class.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, EntityReadPlan<?>> readPlans = new ConcurrentHashMap<>();
+	private final Map<Class<?>, EntityReadPlan<?>> readPlansByType = new ConcurrentHashMap<>();
+
+	/**
+	 * Write plans of all entities that have been written so far, by their underlying class.
+	 */
+	private final Map<Class<?>, EntityWritePlan<?>> writePlansByType = new ConcurrentHashMap<>();
 
 	private TypeSystem typeSystem;
 
+	/**
+	 * Takes snapshots of the relationships of all mapped entities if change tracking is enabled.
+	 */
+	@Nullable
+	private RelationshipChangeTracker relationshipChangeTracker;
+
+	/**
+	 * Takes snapshots of the properties of all mapped entities if change tracking is enabled.
+	 */
+	@Nullable
+	private PropertyChangeTracker propertyChangeTracker;
+
 	DefaultNeo4jConverter(Neo4jConversions neo4jConversions, NodeDescriptionStore nodeDescriptionStore) {
 
 		Assert.notNull(neo4jConversions, "Neo4jConversions must not be null!");
@@ -94,27 +122,67 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		neo4jConversions.registerConvertersIn(configurableConversionService);
 
 		this.conversionService = configurableConversionService;
+		this.codecs = SimpleValueCodecs.of(neo4jConversions);
 		this.nodeDescriptionStore = nodeDescriptionStore;
+		this.convertingWriter = value -> this.conversionService.convert(value, Value.class);
+		this.collectionWriter = this::writeCollection;
 	}
 
 	@Override
 	public <R> R read(Class<R> targetType, Record record) {
+		return read(targetType, record, new HashMap<>());
+	}
 
-		Neo4jPersistentEntity<R> rootNodeDescription =
-			(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(targetType);
+	/**
+	 * Creates a mapping function for the given type. Applying the function directly maps each record on its own. A
+	 * function {@link ResultScopedMappingFunction#scopedToResult() scoped to a result} keeps an identity map of all
+	 * related entities that have been mapped, so that related entities appearing in many records are mapped only once
+	 * per result.
+	 *
+	 * @param targetType The type of the entities to map
+	 * @param <R>        As in result type
+	 * @return A mapping function for the given type
+	 */
+	<R> ResultScopedMappingFunction<R> createMappingFunctionFor(Class<R> targetType) {
+
+		return new ResultScopedMappingFunction<R>() {
+			@Override
+			public R apply(TypeSystem typeSystem, Record record) {
+				return read(targetType, record);
+			}
+
+			@Override
+			public BiFunction<TypeSystem, Record, R> scopedToResult() {
+
+				// Records of one result are mapped one after another, so this doesn't need to be a concurrent map.
+				Map<Object, Object> knownObjects = new HashMap<>();
+				return (typeSystem, record) -> read(targetType, record, knownObjects);
+			}
+		};
+	}
+
+	/**
+	 * @param targetType   The type of the entity to read
+	 * @param record       The record to read
+	 * @param knownObjects Related entities that have already been mapped, either in this record or in previous records
+	 *                     of the same result
+	 * @param <R>          As in result type
+	 * @return The mapped entity
+	 */
+	private <R> R read(Class<R> targetType, Record record, Map<Object, Object> knownObjects) {
 
 		try {
+			EntityReadPlan<R> readPlan = getReadPlanFor(targetType);
+
 			List<Value> recordValues = record.values();
-			String nodeLabel = rootNodeDescription.getPrimaryLabel();
 			MapAccessor queryRoot = null;
-			for (Value value : recordValues) {
-				if (value.hasType(typeSystem.NODE()) && value.asNode().hasLabel(nodeLabel)) {
-					if (recordValues.size() > 1) {
-						queryRoot = mergeRootNodeWithRecord(value.asNode(), record);
-					} else {
-						queryRoot = value.asNode();
-					}
-					break;
+			int rootNodeIndex = findRootNodeIndex(recordValues, readPlan);
+			if (rootNodeIndex >= 0) {
+				Node rootNode = recordValues.get(rootNodeIndex).asNode();
+				if (recordValues.size() > 1) {
+					queryRoot = mergeRootNodeWithRecord(rootNode, record);
+				} else {
+					queryRoot = rootNode;
 				}
 			}
 			if (queryRoot == null) {
@@ -128,11 +196,10 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 			if (queryRoot == null) {
 				log.warn(() -> String.format("Could not find mappable nodes or relationships inside %s for %s", record,
-					rootNodeDescription));
+					readPlan.getEntity()));
 				return null; // todo should not be null because of the @nonnullapi annotation in the EntityReader. Fail?
 			} else {
-				Map<Object, Object> knownObjects = new ConcurrentHashMap<>();
-				return map(queryRoot, rootNodeDescription, knownObjects);
+				return map(queryRoot, readPlan, knownObjects);
 			}
 		} catch (Exception e) {
 			throw new MappingException("Error mapping " + record.toString(), e);
@@ -143,20 +210,43 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	@Nullable
 	public Object readValueForProperty(@Nullable Value value, TypeInformation<?> type) {
 
+		Class<?> rawType = type.getType();
+		return readValue(value, type, rawType, isCollection(type) ? type.getComponentType().getType() : null);
+	}
+
+	/**
+	 * Reads a value with all information about the target type being resolved upfront.
+	 *
+	 * @param value         The value to read
+	 * @param type          The target type, used for error messages only
+	 * @param rawType       The raw target type
+	 * @param componentType The type of the elements if the target type is a collection, {@literal null} otherwise
+	 * @return The converted value
+	 */
+	@Nullable
+	private Object readValue(@Nullable Value value, TypeInformation<?> type, Class<?> rawType,
+		@Nullable Class<?> componentType) {
+
 		boolean valueIsLiteralNullOrNullValue = value == null || value == Values.NULL;
 
 		try {
-			Class<?> rawType = type.getType();
-
-			if (!valueIsLiteralNullOrNullValue && isCollection(type)) {
-				Collection<Object> target = CollectionFactory.createCollection(rawType,
-					type.getComponentType().getType(), value.size());
-				value.values().forEach(
-					element -> target.add(conversionService.convert(element, type.getComponentType().getType())));
+			if (!valueIsLiteralNullOrNullValue && componentType != null) {
+				Collection<Object> target = CollectionFactory.createCollection(rawType, componentType, value.size());
+				Codec<?> elementCodec = codecs.getCodecFor(componentType);
+				for (Value element : value.values()) {
+					target.add(elementCodec == null || element == Values.NULL ?
+						conversionService.convert(element, componentType) :
+						elementCodec.read(element));
+				}
 				return target;
 			}
 
-			return conversionService.convert(valueIsLiteralNullOrNullValue ? null : value, rawType);
+			if (valueIsLiteralNullOrNullValue) {
+				return conversionService.convert(null, rawType);
+			}
+
+			Codec<?> codec = codecs.getCodecFor(rawType);
+			return codec == null ? conversionService.convert(value, rawType) : codec.read(value);
 		} catch (Exception e) {
 			String msg = String.format("Could not convert %s into %s", value, type.toString());
 			throw new TypeMismatchDataAccessException(msg, e);
@@ -165,29 +255,29 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
-		Map<String, Object> properties = new HashMap<>();
 
-		Neo4jPersistentEntity<?> nodeDescription =
-			(Neo4jPersistentEntity<?>) nodeDescriptionStore.getNodeDescription(source.getClass());
+		EntityWritePlan<?> writePlan = getWritePlanFor(source.getClass());
 
-		PersistentPropertyAccessor propertyAccessor = nodeDescription.getPropertyAccessor(source);
-		nodeDescription.doWithProperties((Neo4jPersistentProperty p) -> {
-
-			// Skip the internal properties, we don't want them to end up stored as properties
-			if (p.isInternalIdProperty()) {
-				return;
-			}
+		PersistentPropertyAccessor<?> propertyAccessor = writePlan.getEntity().getPropertyAccessor(source);
+		parameters.put(NAME_OF_PROPERTIES_PARAM, writeProperties(writePlan, propertyAccessor));
 
-			final Object value = writeValueFromProperty(propertyAccessor.getProperty(p), p.getTypeInformation());
-			properties.put(p.getPropertyName(), value);
-		});
+		// in case of relationship properties ignore internal id property
+		Neo4jPersistentProperty idProperty = writePlan.getIdProperty();
+		if (idProperty != null) {
+			parameters.put(NAME_OF_ID_PARAM, propertyAccessor.getProperty(idProperty));
+		}
+	}
 
-		parameters.put(NAME_OF_PROPERTIES_PARAM, properties);
+	private static Map<String, Object> writeProperties(EntityWritePlan<?> writePlan,
+		PersistentPropertyAccessor<?> propertyAccessor) {
 
-		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasIdProperty()) {
-			parameters.put(NAME_OF_ID_PARAM, propertyAccessor.getProperty(nodeDescription.getRequiredIdProperty()));
+		Map<String, Object> properties = new HashMap<>(writePlan.getPropertiesCapacity());
+		for (PropertyWriter propertyWriter : writePlan.getProperties()) {
+			Object value = propertyAccessor.getProperty(propertyWriter.getProperty());
+			properties.put(propertyWriter.getGraphPropertyName(),
+				value == null ? Values.NULL : propertyWriter.getWriter().apply(value));
 		}
+		return properties;
 	}
 
 	@Override
@@ -197,14 +287,56 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 			return Values.NULL;
 		}
 
+		return createWriterFor(type).apply(value);
+	}
+
+	/**
+	 * Resolves the writer for values of the given type. Values of the built-in simple types are written directly by
+	 * their codecs, all others go through the conversion service. Collections are written element by element.
+	 *
+	 * @param type The declared type of the values
+	 * @return A writer for non-null values of the given type
+	 */
+	private Function<Object, Value> createWriterFor(TypeInformation<?> type) {
+
 		if (isCollection(type)) {
-			Collection<?> sourceCollection = (Collection<?>) value;
-			Object[] targetCollection = (sourceCollection).stream().map(element ->
-				conversionService.convert(element, Value.class)).toArray();
-			return Values.value(targetCollection);
+			return collectionWriter;
 		}
 
-		return conversionService.convert(value, Value.class);
+		Codec<Object> codec = (Codec<Object>) codecs.getCodecFor(type.getType());
+		return codec == null ? convertingWriter : codec::write;
+	}
+
+	private Value writeCollection(Object value) {
+
+		Collection<?> sourceCollection = (Collection<?>) value;
+		Value[] targetCollection = new Value[sourceCollection.size()];
+		int i = 0;
+		for (Object element : sourceCollection) {
+			targetCollection[i++] = element == null ? Values.NULL : writeSimpleValue(element);
+		}
+		return Values.value(targetCollection);
+	}
+
+	private Value writeSimpleValue(Object value) {
+
+		Codec<Object> codec = (Codec<Object>) codecs.getCodecFor(value.getClass());
+		return codec == null ? conversionService.convert(value, Value.class) : codec.write(value);
+	}
+
+	private EntityWritePlan<?> getWritePlanFor(Class<?> sourceType) {
+
+		EntityWritePlan<?> writePlan = writePlansByType.get(sourceType);
+		if (writePlan == null) {
+			Neo4jPersistentEntity<?> entity = (Neo4jPersistentEntity<?>) nodeDescriptionStore
+				.getNodeDescription(sourceType);
+			if (entity == null) {
+				throw new MappingException(String.format("Could not find a node description for %s", sourceType));
+			}
+			writePlan = EntityWritePlan.compile(entity, this::createWriterFor);
+			writePlansByType.putIfAbsent(sourceType, writePlan);
+		}
+		return writePlan;
 	}
 
 	private static boolean isCollection(TypeInformation<?> type) {
@@ -215,6 +347,78 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		this.typeSystem = typeSystem;
 	}
 
+	void setRelationshipChangeTracker(@Nullable RelationshipChangeTracker relationshipChangeTracker) {
+		this.relationshipChangeTracker = relationshipChangeTracker;
+	}
+
+	void setPropertyChangeTracker(@Nullable PropertyChangeTracker propertyChangeTracker) {
+		this.propertyChangeTracker = propertyChangeTracker;
+	}
+
+	/**
+	 * Retrieves the read plan for the given type, compiling it on first use.
+	 *
+	 * @param targetType The type of the entity to read
+	 * @param <ET>       As in entity type
+	 * @return The read plan of the entity
+	 */
+	private <ET> EntityReadPlan<ET> getReadPlanFor(Class<ET> targetType) {
+
+		EntityReadPlan<?> readPlan = readPlansByType.get(targetType);
+		if (readPlan == null) {
+			Neo4jPersistentEntity<ET> entity = (Neo4jPersistentEntity<ET>) nodeDescriptionStore
+				.getNodeDescription(targetType);
+			if (entity == null) {
+				throw new MappingException(String.format("Could not find a node description for %s", targetType));
+			}
+			readPlan = getReadPlanFor(entity);
+			readPlansByType.putIfAbsent(targetType, readPlan);
+		}
+		return (EntityReadPlan<ET>) readPlan;
+	}
+
+	/**
+	 * Retrieves the read plan for the given entity, compiling it on first use. Compiling the plan of one entity doesn't
+	 * compile the plans of related entities, so no plan is modified while another plan is compiled.
+	 *
+	 * @param entity The entity to read
+	 * @param <ET>   As in entity type
+	 * @return The read plan of the entity
+	 */
+	private <ET> EntityReadPlan<ET> getReadPlanFor(Neo4jPersistentEntity<ET> entity) {
+
+		return (EntityReadPlan<ET>) readPlans.computeIfAbsent(entity,
+			key -> EntityReadPlan.compile(entity, nodeDescriptionStore));
+	}
+
+	/**
+	 * Finds the index of the value containing the root node. The index found in the previous record is checked first.
+	 *
+	 * @param recordValues The values of the current record
+	 * @param readPlan     The plan of the root node
+	 * @return The index of the root node or {@literal -1} if there is no root node
+	 */
+	private int findRootNodeIndex(List<Value> recordValues, EntityReadPlan<?> readPlan) {
+
+		String nodeLabel = readPlan.getPrimaryLabel();
+		int hint = readPlan.getRootNodeIndexHint();
+		if (hint < recordValues.size() && isNodeWithLabel(recordValues.get(hint), nodeLabel)) {
+			return hint;
+		}
+
+		for (int i = 0; i < recordValues.size(); ++i) {
+			if (isNodeWithLabel(recordValues.get(i), nodeLabel)) {
+				readPlan.setRootNodeIndexHint(i);
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean isNodeWithLabel(Value value, String nodeLabel) {
+		return value.hasType(typeSystem.NODE()) && value.asNode().hasLabel(nodeLabel);
+	}
+
 	/**
 	 * Merges the root node of a query and the remaining record into one map, adding the internal ID of the node, too.
 	 * Merge happens only when the record contains additional values.
@@ -234,106 +438,162 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	}
 
 	/**
-	 * @param queryResult     The original query result
-	 * @param nodeDescription The node description of the current entity to be mapped from the result
-	 * @param knownObjects    The current list of known objects
-	 * @param <ET>            As in entity type
+	 * @param queryResult  The original query result
+	 * @param readPlan     The read plan of the current entity to be mapped from the result
+	 * @param knownObjects The current list of known objects
+	 * @param <ET>         As in entity type
 	 * @return
 	 */
 	private <ET> ET map(MapAccessor queryResult,
-		Neo4jPersistentEntity<ET> nodeDescription,
+		EntityReadPlan<ET> readPlan,
 		Map<Object, Object> knownObjects) {
 
-		Collection<RelationshipDescription> relationships = nodeDescription.getRelationships();
+		// Only needed when relationships are mapped from a custom query
+		Lazy<QueryResultIndex> queryResultIndex = Lazy.of(() -> QueryResultIndex.of(queryResult, typeSystem));
 
-		ET instance = instantiate(nodeDescription, queryResult, knownObjects, relationships);
+		ET instance = instantiate(readPlan, queryResult, queryResultIndex, knownObjects);
 
-		PersistentPropertyAccessor<ET> propertyAccessor = nodeDescription.getPropertyAccessor(instance);
+		if (readPlan.requiresPropertyPopulation()) {
 
-		if (nodeDescription.requiresPropertyPopulation()) {
+			PersistentPropertyAccessor<ET> propertyAccessor = readPlan.getEntity().getPropertyAccessor(instance);
 
 			// Fill simple properties
-			Predicate<Neo4jPersistentProperty> isConstructorParameter = nodeDescription
-				.getPersistenceConstructor()::isConstructorParameter;
-			nodeDescription.doWithProperties(populateFrom(queryResult, propertyAccessor, isConstructorParameter));
+			for (PropertyPlan propertyPlan : readPlan.getProperties()) {
+				propertyAccessor.setProperty(propertyPlan.getProperty(), readValue(queryResult, propertyPlan));
+			}
 
 			// Fill associations
-			nodeDescription.doWithAssociations(
-				populateFrom(queryResult, propertyAccessor, relationships, knownObjects));
+			for (AssociationPlan associationPlan : readPlan.getAssociations()) {
+				createInstanceOfRelationships(associationPlan, queryResult, queryResultIndex, knownObjects)
+					.ifPresent(value -> propertyAccessor.setProperty(associationPlan.getProperty(), value));
+			}
+		}
+
+		if (relationshipChangeTracker != null) {
+			relationshipChangeTracker.snapshot(readPlan.getEntity(), instance);
+		}
+		if (propertyChangeTracker != null) {
+			EntityWritePlan<?> writePlan = getWritePlanFor(instance.getClass());
+			// relationship properties are never saved on their own
+			if (writePlan.getIdProperty() != null) {
+				propertyChangeTracker
+					.snapshot(instance, writeProperties(writePlan, writePlan.getEntity().getPropertyAccessor(instance)));
+			}
 		}
 		return instance;
 	}
 
-	private <ET> ET instantiate(Neo4jPersistentEntity<ET> anotherNodeDescription,
+	private <ET> ET instantiate(EntityReadPlan<ET> readPlan,
 		MapAccessor values,
-		Map<Object, Object> knownObjects,
-		Collection<RelationshipDescription> relationships) {
+		Lazy<QueryResultIndex> queryResultIndex,
+		Map<Object, Object> knownObjects) {
 
 		ParameterValueProvider<Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<Neo4jPersistentProperty>() {
 			@Override
 			public Object getParameterValue(PreferredConstructor.Parameter parameter) {
 
-				Neo4jPersistentProperty matchingProperty = anotherNodeDescription
-					.getRequiredPersistentProperty(parameter.getName());
-
+				AssociationPlan associationPlan = readPlan.getConstructorAssociation(parameter.getName());
+				if (associationPlan != null) {
 
-				if (matchingProperty.isRelationship()) {
-
-					return createInstanceOfRelationships(matchingProperty, values, knownObjects, relationships)
+					return createInstanceOfRelationships(associationPlan, values, queryResultIndex, knownObjects)
 						.orElse(null);
 				}
-				return readValueForProperty(extractValueOf(matchingProperty, values), parameter.getType());
+				return readValue(values, readPlan.getConstructorProperty(parameter.getName()));
 			}
 		};
 
-		return INSTANTIATORS.getInstantiatorFor(anotherNodeDescription)
-			.createInstance(anotherNodeDescription, parameterValueProvider);
+		Neo4jPersistentEntity<ET> entity = readPlan.getEntity();
+		return INSTANTIATORS.getInstantiatorFor(entity).createInstance(entity, parameterValueProvider);
 	}
 
-	private PropertyHandler<Neo4jPersistentProperty> populateFrom(
-		MapAccessor queryResult,
-		PersistentPropertyAccessor<?> propertyAccessor,
-		Predicate<Neo4jPersistentProperty> isConstructorParameter
-	) {
-		return property -> {
-			if (isConstructorParameter.test(property)) {
-				return;
-			}
+	/**
+	 * Maps a related entity only once, no matter how often it appears in the result.
+	 *
+	 * @param relatedEntity  The node or map describing the related entity
+	 * @param targetReadPlan The read plan of the related entity
+	 * @param knownObjects   The current list of known objects
+	 * @return The mapped related entity
+	 */
+	private Object mapRelatedEntity(MapAccessor relatedEntity, EntityReadPlan<?> targetReadPlan,
+		Map<Object, Object> knownObjects) {
 
-			propertyAccessor.setProperty(property,
-				readValueForProperty(extractValueOf(property, queryResult), property.getTypeInformation()));
+		Neo4jPersistentProperty idProperty = targetReadPlan.getEntity().getRequiredIdProperty();
 
-		};
+		// internal (generated) id or external set
+		Object idValue;
+		if (idProperty.isInternalIdProperty()) {
+			idValue = relatedEntity instanceof Node ?
+				Values.value(((Node) relatedEntity).id()) :
+				relatedEntity.get(NAME_OF_INTERNAL_ID);
+		} else {
+			idValue = relatedEntity.get(idProperty.getName());
+		}
+
+		// Entities without an id cannot be identified
+		if (idValue == null || idValue == Values.NULL) {
+			return map(relatedEntity, targetReadPlan, knownObjects);
+		}
+
+		KnownObject key = new KnownObject(targetReadPlan.getEntity().getType(), idValue);
+		Object mappedObject = knownObjects.get(key);
+		if (mappedObject == null) {
+			mappedObject = map(relatedEntity, targetReadPlan, knownObjects);
+			knownObjects.put(key, mappedObject);
+		}
+		return mappedObject;
 	}
 
-	private AssociationHandler<Neo4jPersistentProperty> populateFrom(
-		MapAccessor queryResult,
-		PersistentPropertyAccessor<?> propertyAccessor,
-		Collection<RelationshipDescription> relationships,
-		Map<Object, Object> knownObjects
-	) {
-		return association -> {
+	/**
+	 * Key of a mapped entity in the known objects. Assigned ids are only unique per type.
+	 */
+	private static final class KnownObject {
 
-			Neo4jPersistentProperty persistentProperty = association.getInverse();
+		private final Class<?> type;
 
-			createInstanceOfRelationships(persistentProperty, queryResult, knownObjects, relationships)
-				.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
-		};
+		private final Object id;
+
+		KnownObject(Class<?> type, Object id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof KnownObject)) {
+				return false;
+			}
+			KnownObject that = (KnownObject) o;
+			return type.equals(that.type) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + id.hashCode();
+		}
 	}
 
-	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty,
+	@Nullable
+	private Object readValue(MapAccessor propertyContainer, PropertyPlan propertyPlan) {
+
+		return readValue(extractValueOf(propertyPlan, propertyContainer), propertyPlan.getType(),
+			propertyPlan.getRawType(), propertyPlan.getComponentType());
+	}
+
+	private Optional<Object> createInstanceOfRelationships(AssociationPlan associationPlan,
 		MapAccessor values,
-		Map<Object, Object> knownObjects,
-		Collection<RelationshipDescription> relationshipDescriptions) {
+		Lazy<QueryResultIndex> queryResultIndex,
+		Map<Object, Object> knownObjects) {
 
-		RelationshipDescription relationshipDescription = relationshipDescriptions.stream()
-			.filter(r -> r.getFieldName().equals(persistentProperty.getName()))
-			.findFirst().get();
+		RelationshipDescription relationshipDescription = associationPlan.getRelationshipDescription();
 
 		String relationshipType = relationshipDescription.getType();
-		String targetLabel = relationshipDescription.getTarget().getPrimaryLabel();
+		String targetLabel = associationPlan.getTargetLabel();
 
-		Neo4jPersistentEntity<?> targetNodeDescription = (Neo4jPersistentEntity<?>) relationshipDescription.getTarget();
+		EntityReadPlan<?> targetReadPlan = getReadPlanFor(associationPlan.getTarget());
+		Neo4jPersistentEntity<?> relationshipPropertiesEntity = associationPlan.getRelationshipPropertiesEntity();
 
 		List<Object> value = new ArrayList<>();
 		Map<String, Object> dynamicValue = new HashMap<>();
@@ -341,81 +601,45 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		BiConsumer<String, Object> mappedObjectHandler = relationshipDescription.isDynamic() ?
 			dynamicValue::put : (type, mappedObject) -> value.add(mappedObject);
 
-		Value list = values.get(relationshipDescription.generateRelatedNodesCollectionName());
+		Value list = values.get(associationPlan.getRelatedNodesCollectionName());
 
 		Map<Object, Object> relationshipsAndProperties = new HashMap<>();
 
 		// if the list is null the mapping is based on a custom query
 		if (list == Values.NULL) {
 
-			Predicate<Value> isList = entry -> entry instanceof Value && typeSystem.LIST().isTypeOf(entry);
-
-			Predicate<Value> containsOnlyRelationships = entry -> entry.asList(Function.identity())
-				.stream()
-				.allMatch(listEntry -> typeSystem.RELATIONSHIP().isTypeOf(listEntry));
-
-			Predicate<Value> containsOnlyNodes = entry -> entry.asList(Function.identity())
-				.stream()
-				.allMatch(listEntry -> typeSystem.NODE().isTypeOf(listEntry));
+			QueryResultIndex index = queryResultIndex.get();
+			Collection<Node> allNodesWithMatchingLabelInResult = index.getNodes(targetLabel);
 
-			// find relationships in the result
-			List<Relationship> allMatchingTypeRelationshipsInResult = StreamSupport
-				.stream(values.values().spliterator(), false)
-				.filter(isList.and(containsOnlyRelationships))
-				.flatMap(entry -> entry.asList(Value::asRelationship).stream())
-				.filter(r -> r.type().equals(relationshipType))
-				.collect(toList());
-
-			List<Node> allNodesWithMatchingLabelInResult = StreamSupport
-				.stream(values.values().spliterator(), false)
-				.filter(isList.and(containsOnlyNodes))
-				.flatMap(entry -> entry.asList(Value::asNode).stream())
-				.filter(n -> n.hasLabel(targetLabel))
-				.collect(toList());
-
-			if (allNodesWithMatchingLabelInResult.isEmpty() && allMatchingTypeRelationshipsInResult.isEmpty()) {
+			if (allNodesWithMatchingLabelInResult.isEmpty() && !index.hasRelationships(relationshipType)) {
 				return Optional.empty();
 			}
 
 			for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
-				long nodeId = possibleValueNode.id();
-
-				for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-					if (possibleRelationship.endNodeId() == nodeId) {
-						Object mappedObject = map(possibleValueNode, targetNodeDescription, knownObjects);
-						if (relationshipDescription.hasRelationshipProperties()) {
-
-							Class<?> propertiesClass = relationshipDescription.getRelationshipPropertiesClass();
-
-							Object relationshipProperties = map(possibleRelationship,
-								(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
-								knownObjects);
-							relationshipsAndProperties.put(mappedObject, relationshipProperties);
-						} else {
-							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
-						}
-						break;
-					}
+				Relationship possibleRelationship = index.getRelationship(relationshipType, possibleValueNode.id());
+				if (possibleRelationship == null) {
+					continue;
+				}
+
+				Object mappedObject = mapRelatedEntity(possibleValueNode, targetReadPlan, knownObjects);
+				if (relationshipPropertiesEntity != null) {
+
+					Object relationshipProperties = map(possibleRelationship,
+						getReadPlanFor(relationshipPropertiesEntity), knownObjects);
+					relationshipsAndProperties.put(mappedObject, relationshipProperties);
+				} else {
+					mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 				}
 			}
 		} else {
 			for (Value relatedEntity : list.asList(Function.identity())) {
-				Neo4jPersistentProperty idProperty = targetNodeDescription.getRequiredIdProperty();
-
-				// internal (generated) id or external set
-				Object idValue = idProperty.isInternalIdProperty()
-					? relatedEntity.get(NAME_OF_INTERNAL_ID)
-					: relatedEntity.get(idProperty.getName());
-				Object valueEntry = knownObjects.computeIfAbsent(idValue,
-					(id) -> map(relatedEntity, targetNodeDescription, knownObjects));
+				Object valueEntry = mapRelatedEntity(relatedEntity, targetReadPlan, knownObjects);
 
-				if (relationshipDescription.hasRelationshipProperties()) {
+				if (relationshipPropertiesEntity != null) {
 					Relationship relatedEntityRelationship = relatedEntity.get(NAME_OF_RELATIONSHIP).asRelationship();
-					Class<?> propertiesClass = relationshipDescription.getRelationshipPropertiesClass();
 
 					Object relationshipProperties = map(relatedEntityRelationship,
-						(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
-						knownObjects);
+						getReadPlanFor(relationshipPropertiesEntity), knownObjects);
 					relationshipsAndProperties.put(valueEntry, relationshipProperties);
 				} else {
 					mappedObjectHandler.accept(relatedEntity.get(NAME_OF_RELATIONSHIP_TYPE).asString(), valueEntry);
@@ -423,8 +647,8 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 			}
 		}
 
-		if (persistentProperty.getTypeInformation().isCollectionLike()) {
-			if (persistentProperty.getType().equals(Set.class)) {
+		if (associationPlan.isCollectionLike()) {
+			if (associationPlan.isSet()) {
 				return Optional.of(new HashSet(value));
 			} else {
 				return Optional.of(value);
@@ -441,14 +665,13 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	}
 
-	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor propertyContainer) {
-		if (property.isInternalIdProperty()) {
+	private static Value extractValueOf(PropertyPlan propertyPlan, MapAccessor propertyContainer) {
+		if (propertyPlan.isInternalIdProperty()) {
 			return propertyContainer instanceof Node ?
 				Values.value(((Node) propertyContainer).id()) :
 				propertyContainer.get(NAME_OF_INTERNAL_ID);
 		} else {
-			String graphPropertyName = property.getPropertyName();
-			return propertyContainer.get(graphPropertyName);
+			return propertyContainer.get(propertyPlan.getGraphPropertyName());
 		}
 	}
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Everything the {@link DefaultNeo4jConverter} needs to know to read an entity from a record, computed once per
+ * {@link Neo4jPersistentEntity}. Reading a record with a plan doesn't require any further lookups of metadata: The
+ * graph names of all properties, their target types, the matching relationship descriptions, the entities describing
+ * relationship properties and the parameters of the persistence constructor are all resolved upfront.
+ * <p>
+ * Creating instances and setting properties is delegated to Spring Data's class generating instantiators and
+ * property accessors, which already generate bytecode once per entity.
+ *
+ * @author Michael J. Simons
+ * @param <ET> The type of the entity
+ * @since 1.0
+ */
+final class EntityReadPlan<ET> {
+
+	static <ET> EntityReadPlan<ET> compile(Neo4jPersistentEntity<ET> entity, NodeDescriptionStore nodeDescriptionStore) {
+
+		Map<String, RelationshipDescription> relationshipDescriptions = new HashMap<>();
+		for (RelationshipDescription relationshipDescription : entity.getRelationships()) {
+			relationshipDescriptions.putIfAbsent(relationshipDescription.getFieldName(), relationshipDescription);
+		}
+
+		PreferredConstructor<ET, Neo4jPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+		Map<String, PropertyPlan> constructorProperties = new HashMap<>();
+		Map<String, AssociationPlan> constructorAssociations = new HashMap<>();
+		if (persistenceConstructor != null) {
+			for (PreferredConstructor.Parameter<Object, Neo4jPersistentProperty> parameter : persistenceConstructor
+				.getParameters()) {
+
+				Neo4jPersistentProperty property = entity.getRequiredPersistentProperty(parameter.getName());
+				if (property.isRelationship()) {
+					constructorAssociations.put(parameter.getName(),
+						AssociationPlan.of(property, relationshipDescriptions, nodeDescriptionStore));
+				} else {
+					constructorProperties.put(parameter.getName(), new PropertyPlan(property, parameter.getType()));
+				}
+			}
+		}
+
+		List<PropertyPlan> properties = new ArrayList<>();
+		List<AssociationPlan> associations = new ArrayList<>();
+		if (entity.requiresPropertyPopulation()) {
+			entity.doWithProperties((Neo4jPersistentProperty property) -> {
+				if (persistenceConstructor == null || !persistenceConstructor.isConstructorParameter(property)) {
+					properties.add(new PropertyPlan(property, property.getTypeInformation()));
+				}
+			});
+			entity.doWithAssociations((Association<Neo4jPersistentProperty> association) -> associations
+				.add(AssociationPlan.of(association.getInverse(), relationshipDescriptions, nodeDescriptionStore)));
+		}
+
+		return new EntityReadPlan<>(entity, constructorProperties, constructorAssociations, properties, associations);
+	}
+
+	private final Neo4jPersistentEntity<ET> entity;
+
+	private final String primaryLabel;
+
+	private final Map<String, PropertyPlan> constructorProperties;
+
+	private final Map<String, AssociationPlan> constructorAssociations;
+
+	private final List<PropertyPlan> properties;
+
+	private final List<AssociationPlan> associations;
+
+	/**
+	 * The index of the value that contained the root node in the last record read with this plan. Records of the same
+	 * query have the same shape, so this is checked first. It is only a hint and doesn't need to be synchronized.
+	 */
+	private int rootNodeIndexHint;
+
+	private EntityReadPlan(Neo4jPersistentEntity<ET> entity,
+		Map<String, PropertyPlan> constructorProperties,
+		Map<String, AssociationPlan> constructorAssociations,
+		List<PropertyPlan> properties,
+		List<AssociationPlan> associations) {
+
+		this.entity = entity;
+		this.primaryLabel = entity.getPrimaryLabel();
+		this.constructorProperties = constructorProperties;
+		this.constructorAssociations = constructorAssociations;
+		this.properties = Collections.unmodifiableList(properties);
+		this.associations = Collections.unmodifiableList(associations);
+	}
+
+	Neo4jPersistentEntity<ET> getEntity() {
+		return entity;
+	}
+
+	String getPrimaryLabel() {
+		return primaryLabel;
+	}
+
+	/**
+	 * @param parameterName The name of a parameter of the persistence constructor
+	 * @return The plan for reading the parameter if it refers to a simple property, {@literal null} otherwise
+	 */
+	@Nullable
+	PropertyPlan getConstructorProperty(String parameterName) {
+		return constructorProperties.get(parameterName);
+	}
+
+	/**
+	 * @param parameterName The name of a parameter of the persistence constructor
+	 * @return The plan for reading the parameter if it refers to a relationship, {@literal null} otherwise
+	 */
+	@Nullable
+	AssociationPlan getConstructorAssociation(String parameterName) {
+		return constructorAssociations.get(parameterName);
+	}
+
+	/**
+	 * @return All simple properties that need to be populated after instantiation
+	 */
+	List<PropertyPlan> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return All associations that need to be populated after instantiation
+	 */
+	List<AssociationPlan> getAssociations() {
+		return associations;
+	}
+
+	boolean requiresPropertyPopulation() {
+		return !(properties.isEmpty() && associations.isEmpty());
+	}
+
+	int getRootNodeIndexHint() {
+		return rootNodeIndexHint;
+	}
+
+	void setRootNodeIndexHint(int rootNodeIndexHint) {
+		this.rootNodeIndexHint = rootNodeIndexHint;
+	}
+
+	/**
+	 * How to read a simple property.
+	 */
+	static final class PropertyPlan {
+
+		private final Neo4jPersistentProperty property;
+
+		private final boolean internalIdProperty;
+
+		private final String graphPropertyName;
+
+		private final TypeInformation<?> type;
+
+		private final Class<?> rawType;
+
+		@Nullable
+		private final Class<?> componentType;
+
+		PropertyPlan(Neo4jPersistentProperty property, TypeInformation<?> type) {
+
+			this.property = property;
+			this.internalIdProperty = property.isInternalIdProperty();
+			this.graphPropertyName = property.getPropertyName();
+			this.type = type;
+			this.rawType = type.getType();
+			this.componentType = Collection.class.isAssignableFrom(rawType) ?
+				Optional.ofNullable(type.getComponentType()).<Class<?>>map(TypeInformation::getType).orElse(Object.class) :
+				null;
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		boolean isInternalIdProperty() {
+			return internalIdProperty;
+		}
+
+		String getGraphPropertyName() {
+			return graphPropertyName;
+		}
+
+		TypeInformation<?> getType() {
+			return type;
+		}
+
+		Class<?> getRawType() {
+			return rawType;
+		}
+
+		/**
+		 * @return The type of the elements if the property is a collection, {@literal null} otherwise
+		 */
+		@Nullable
+		Class<?> getComponentType() {
+			return componentType;
+		}
+	}
+
+	/**
+	 * How to read a relationship.
+	 */
+	static final class AssociationPlan {
+
+		static AssociationPlan of(Neo4jPersistentProperty property,
+			Map<String, RelationshipDescription> relationshipDescriptions, NodeDescriptionStore nodeDescriptionStore) {
+
+			RelationshipDescription relationshipDescription = relationshipDescriptions.get(property.getName());
+			if (relationshipDescription == null) {
+				throw new MappingException(
+					String.format("Could not find a relationship description for property %s", property.getName()));
+			}
+
+			Neo4jPersistentEntity<?> relationshipPropertiesEntity = null;
+			if (relationshipDescription.hasRelationshipProperties()) {
+				relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) nodeDescriptionStore
+					.getNodeDescription(relationshipDescription.getRelationshipPropertiesClass());
+			}
+			return new AssociationPlan(property, relationshipDescription, relationshipPropertiesEntity);
+		}
+
+		private final Neo4jPersistentProperty property;
+
+		private final RelationshipDescription relationshipDescription;
+
+		private final Neo4jPersistentEntity<?> target;
+
+		private final String targetLabel;
+
+		private final String relatedNodesCollectionName;
+
+		@Nullable
+		private final Neo4jPersistentEntity<?> relationshipPropertiesEntity;
+
+		private final boolean collectionLike;
+
+		private final boolean set;
+
+		private AssociationPlan(Neo4jPersistentProperty property, RelationshipDescription relationshipDescription,
+			@Nullable Neo4jPersistentEntity<?> relationshipPropertiesEntity) {
+
+			this.property = property;
+			this.relationshipDescription = relationshipDescription;
+			this.target = (Neo4jPersistentEntity<?>) relationshipDescription.getTarget();
+			this.targetLabel = target.getPrimaryLabel();
+			this.relatedNodesCollectionName = relationshipDescription.generateRelatedNodesCollectionName();
+			this.relationshipPropertiesEntity = relationshipPropertiesEntity;
+			this.collectionLike = property.getTypeInformation().isCollectionLike();
+			this.set = property.getType().equals(Set.class);
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		RelationshipDescription getRelationshipDescription() {
+			return relationshipDescription;
+		}
+
+		Neo4jPersistentEntity<?> getTarget() {
+			return target;
+		}
+
+		String getTargetLabel() {
+			return targetLabel;
+		}
+
+		String getRelatedNodesCollectionName() {
+			return relatedNodesCollectionName;
+		}
+
+		/**
+		 * @return The entity describing the properties of the relationship, {@literal null} if the relationship has none
+		 */
+		@Nullable
+		Neo4jPersistentEntity<?> getRelationshipPropertiesEntity() {
+			return relationshipPropertiesEntity;
+		}
+
+		boolean isCollectionLike() {
+			return collectionLike;
+		}
+
+		boolean isSet() {
+			return set;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Everything the {@link DefaultNeo4jConverter} needs to know to write an entity into parameters, computed once per
+ * {@link Neo4jPersistentEntity}. The plan contains the graph name of each property that is stored and the writer
+ * converting the values of that property into driver values. The writer is resolved once per property from its
+ * declared type.
+ *
+ * @author Michael J. Simons
+ * @param <T> The type of the entity
+ * @since 1.0
+ */
+final class EntityWritePlan<T> {
+
+	static <T> EntityWritePlan<T> compile(Neo4jPersistentEntity<T> entity,
+		Function<TypeInformation<?>, Function<Object, Value>> writerFactory) {
+
+		List<PropertyWriter> properties = new ArrayList<>();
+		entity.doWithProperties((Neo4jPersistentProperty property) -> {
+
+			// Skip the internal properties, we don't want them to end up stored as properties
+			if (property.isInternalIdProperty()) {
+				return;
+			}
+
+			properties.add(new PropertyWriter(property, writerFactory.apply(property.getTypeInformation())));
+		});
+
+		// in case of relationship properties ignore internal id property
+		Neo4jPersistentProperty idProperty = entity.hasIdProperty() ? entity.getRequiredIdProperty() : null;
+		return new EntityWritePlan<>(entity, properties, idProperty);
+	}
+
+	private final Neo4jPersistentEntity<T> entity;
+
+	private final List<PropertyWriter> properties;
+
+	/**
+	 * The capacity of a hash map holding all properties without being resized.
+	 */
+	private final int propertiesCapacity;
+
+	@Nullable
+	private final Neo4jPersistentProperty idProperty;
+
+	private EntityWritePlan(Neo4jPersistentEntity<T> entity, List<PropertyWriter> properties,
+		@Nullable Neo4jPersistentProperty idProperty) {
+
+		this.entity = entity;
+		this.properties = Collections.unmodifiableList(properties);
+		this.propertiesCapacity = (int) (properties.size() / 0.75f) + 1;
+		this.idProperty = idProperty;
+	}
+
+	Neo4jPersistentEntity<T> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return All properties that are stored
+	 */
+	List<PropertyWriter> getProperties() {
+		return properties;
+	}
+
+	int getPropertiesCapacity() {
+		return propertiesCapacity;
+	}
+
+	/**
+	 * @return The id property or {@literal null} for entities without one, i.e. relationship properties
+	 */
+	@Nullable
+	Neo4jPersistentProperty getIdProperty() {
+		return idProperty;
+	}
+
+	/**
+	 * How to write a single property.
+	 */
+	static final class PropertyWriter {
+
+		private final Neo4jPersistentProperty property;
+
+		private final String graphPropertyName;
+
+		private final Function<Object, Value> writer;
+
+		PropertyWriter(Neo4jPersistentProperty property, Function<Object, Value> writer) {
+			this.property = property;
+			this.graphPropertyName = property.getPropertyName();
+			this.writer = writer;
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		String getGraphPropertyName() {
+			return graphPropertyName;
+		}
+
+		/**
+		 * @return The writer for non-null values of this property
+		 */
+		Function<Object, Value> getWriter() {
+			return writer;
+		}
+	}
+}
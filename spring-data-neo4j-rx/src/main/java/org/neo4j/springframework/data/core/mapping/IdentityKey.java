@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A weak reference comparing its referents by identity, used as key for snapshots of tracked entities. Keys of
+ * collected instances are only equal to themselves.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class IdentityKey extends WeakReference<Object> {
+
+	/**
+	 * Removes the entries of all collected instances from the given map.
+	 *
+	 * @param collectedInstances The queue with which the keys of the map have been registered
+	 * @param snapshots          The map to clean up
+	 */
+	static void purge(ReferenceQueue<Object> collectedInstances, Map<IdentityKey, ?> snapshots) {
+
+		Reference<?> collectedInstance;
+		while ((collectedInstance = collectedInstances.poll()) != null) {
+			snapshots.remove(collectedInstance);
+		}
+	}
+
+	private final int hashCode;
+
+	/**
+	 * @param referent The instance to refer to
+	 * @param queue    The queue to register with, may be {@literal null} for keys that are only used for lookups
+	 */
+	IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+		super(referent, queue);
+		this.hashCode = System.identityHashCode(referent);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IdentityKey)) {
+			return false;
+		}
+		Object referent = get();
+		return referent != null && referent == ((IdentityKey) o).get();
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
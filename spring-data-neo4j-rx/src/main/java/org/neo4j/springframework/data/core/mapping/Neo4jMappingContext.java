@@ -18,20 +18,28 @@
  */
 package org.neo4j.springframework.data.core.mapping;
 
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
 import org.neo4j.springframework.data.core.convert.Neo4jSimpleTypes;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
+import org.neo4j.springframework.data.core.schema.EntityStatements;
 import org.neo4j.springframework.data.core.schema.IdGenerator;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.Schema;
+import org.neo4j.springframework.data.core.schema.UnknownEntityException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -67,10 +75,25 @@ public final class Neo4jMappingContext
 	 */
 	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
 
+	/**
+	 * Rendered statements of the standard operations per entity.
+	 */
+	private final Map<NodeDescription<?>, EntityStatements> entityStatements = new ConcurrentHashMap<>();
+
 	/**
 	 * The converter used in this mapping context.
 	 */
-	private final Neo4jConverter converter;
+	private final DefaultNeo4jConverter converter;
+
+	/**
+	 * Keeps track of loaded relationships, {@literal null} unless change tracking has been enabled.
+	 */
+	private @Nullable RelationshipChangeTracker relationshipChangeTracker;
+
+	/**
+	 * Keeps track of loaded properties, {@literal null} unless change tracking has been enabled.
+	 */
+	private @Nullable PropertyChangeTracker propertyChangeTracker;
 
 	private @Nullable AutowireCapableBeanFactory beanFactory;
 
@@ -89,6 +112,47 @@ public final class Neo4jMappingContext
 		return converter;
 	}
 
+	/**
+	 * Enables or disables tracking of relationships. With tracking enabled, the relationships of all loaded and saved
+	 * entities are remembered and saving an entity again only deletes removed and creates added relationships. Tracking
+	 * is disabled by default.
+	 *
+	 * @param relationshipChangeTracking True, to enable tracking of relationships
+	 */
+	public void setRelationshipChangeTracking(boolean relationshipChangeTracking) {
+
+		this.relationshipChangeTracker = relationshipChangeTracking ? new RelationshipChangeTracker() : null;
+		this.converter.setRelationshipChangeTracker(this.relationshipChangeTracker);
+	}
+
+	/**
+	 * @return The tracker of loaded relationships or {@literal null} if change tracking is disabled
+	 */
+	@Nullable
+	public RelationshipChangeTracker getRelationshipChangeTracker() {
+		return relationshipChangeTracker;
+	}
+
+	/**
+	 * Enables or disables tracking of properties. With tracking enabled, the properties of all loaded entities are
+	 * remembered and saving an entity again only writes the properties that changed. Tracking is disabled by default.
+	 *
+	 * @param propertyChangeTracking True, to enable tracking of properties
+	 */
+	public void setPropertyChangeTracking(boolean propertyChangeTracking) {
+
+		this.propertyChangeTracker = propertyChangeTracking ? new PropertyChangeTracker() : null;
+		this.converter.setPropertyChangeTracker(this.propertyChangeTracker);
+	}
+
+	/**
+	 * @return The tracker of loaded properties or {@literal null} if change tracking is disabled
+	 */
+	@Nullable
+	public PropertyChangeTracker getPropertyChangeTracker() {
+		return propertyChangeTracker;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.context.AbstractMappingContext#createPersistentEntity(org.springframework.data.util.TypeInformation)
@@ -152,6 +216,52 @@ public final class Neo4jMappingContext
 		return this.nodeDescriptionStore.getNodeDescription(underlyingClass);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The mapping function returned by this context can be {@link ResultScopedMappingFunction#scopedToResult() scoped
+	 * to a result}, so that related entities referenced by many records of one result are mapped only once.
+	 */
+	@Override
+	public <T> BiFunction<TypeSystem, Record, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
+
+		if (getNodeDescription(targetClass) == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+		return converter.createMappingFunctionFor(targetClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The binder function returned by this context writes the entity through a plan compiled once per entity.
+	 */
+	@Override
+	public <T> Function<T, Map<String, Object>> getRequiredBinderFunctionFor(Class<T> sourceClass) {
+
+		if (getNodeDescription(sourceClass) == null) {
+			throw new UnknownEntityException(sourceClass);
+		}
+
+		return t -> {
+			// The properties and the id
+			Map<String, Object> parameters = new HashMap<>(4);
+			converter.write(t, parameters);
+			return parameters;
+		};
+	}
+
+	/**
+	 * Retrieves the rendered statements of the standard operations for the given entity. The statements are created
+	 * once per entity and shared across all templates using this context.
+	 *
+	 * @param nodeDescription The description of the entity
+	 * @return The statements for the given entity
+	 */
+	public EntityStatements getStatementsFor(NodeDescription<?> nodeDescription) {
+		return this.entityStatements.computeIfAbsent(nodeDescription, EntityStatements::of);
+	}
+
 	@Override
 	public Optional<Neo4jPersistentEntity<?>> addPersistentEntity(Class<?> type) {
 		return super.addPersistentEntity(type);
@@ -190,6 +300,6 @@ public final class Neo4jMappingContext
 
 		this.beanFactory = applicationContext.getAutowireCapableBeanFactory();
 		Driver driver = this.beanFactory.getBean(Driver.class);
-		((DefaultNeo4jConverter) this.converter).setTypeSystem(driver.defaultTypeSystem());
+		this.converter.setTypeSystem(driver.defaultTypeSystem());
 	}
 }
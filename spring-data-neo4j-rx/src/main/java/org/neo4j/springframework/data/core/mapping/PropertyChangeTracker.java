@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Values;
+import org.springframework.lang.Nullable;
+
+/**
+ * Remembers the properties of entities as they have been loaded or written, so that saving an entity again only needs
+ * to write the properties that actually changed, or nothing at all if none did.
+ * <p>
+ * Instances are tracked by identity and are only weakly referenced. The properties are remembered in the form they are
+ * written to the database, that is after all conversions have been applied, so comparing them doesn't depend on the
+ * {@code equals} methods of the domain types.
+ * <p>
+ * A snapshot must only be taken of a state that is known to be in the database, i.e. after a transaction has been
+ * committed. Entities without a snapshot are always written completely.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0")
+public final class PropertyChangeTracker {
+
+	private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+	/**
+	 * The properties of each tracked instance, keyed by the name of the graph property.
+	 */
+	private final Map<IdentityKey, Map<String, Object>> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Takes a snapshot of the given properties, replacing any previous snapshot of the instance.
+	 *
+	 * @param instance   The instance to track
+	 * @param properties The properties of the instance as written by {@link DefaultNeo4jConverter#write(Object, Map)}
+	 */
+	public void snapshot(Object instance, Map<String, Object> properties) {
+
+		IdentityKey.purge(collectedInstances, snapshots);
+		snapshots.put(new IdentityKey(instance, collectedInstances), Collections.unmodifiableMap(new HashMap<>(properties)));
+	}
+
+	/**
+	 * Discards the snapshot of the given instance, so that it will be written completely the next time.
+	 *
+	 * @param instance A possibly tracked instance
+	 */
+	public void forget(Object instance) {
+
+		snapshots.remove(new IdentityKey(instance, null));
+	}
+
+	/**
+	 * Computes the properties that changed since the last snapshot. Properties that have been removed since then are
+	 * contained with a value of {@link Values#NULL}, so that setting the changed properties removes them as well.
+	 *
+	 * @param instance   A possibly tracked instance
+	 * @param properties The current properties of the instance
+	 * @return The changed properties, an empty map if nothing changed or {@literal null} if the instance is not tracked
+	 */
+	@Nullable
+	public Map<String, Object> getChangedProperties(Object instance, Map<String, Object> properties) {
+
+		Map<String, Object> snapshot = snapshots.get(new IdentityKey(instance, null));
+		if (snapshot == null) {
+			return null;
+		}
+
+		Map<String, Object> changedProperties = new HashMap<>();
+		properties.forEach((name, value) -> {
+			if (!(snapshot.containsKey(name) && Objects.equals(snapshot.get(name), value))) {
+				changedProperties.put(name, value);
+			}
+		});
+		snapshot.forEach((name, value) -> {
+			if (!properties.containsKey(name) && value != Values.NULL) {
+				changedProperties.put(name, Values.NULL);
+			}
+		});
+		return changedProperties;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Relationship;
+import org.neo4j.driver.types.Type;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.lang.Nullable;
+
+/**
+ * An index of all nodes and relationships returned in lists by a custom query. Lists containing only nodes and lists
+ * containing only relationships are considered. The index is built in a single pass over the values of a result and
+ * allows matching related nodes and the relationships pointing to them in linear time.
+ * <p>
+ * Nodes are grouped by label and deduplicated by id, keeping the order of their first appearance. Relationships are
+ * grouped by type and indexed by the id of their end node. If there are several relationships of the same type ending
+ * in the same node, the first one is used.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+final class QueryResultIndex {
+
+	static QueryResultIndex of(MapAccessor queryResult, TypeSystem typeSystem) {
+
+		Map<Long, Node> nodesById = new LinkedHashMap<>();
+		Map<String, Map<Long, Relationship>> relationshipsByTypeAndEndNode = new HashMap<>();
+
+		for (Value value : queryResult.values()) {
+			if (!typeSystem.LIST().isTypeOf(value)) {
+				continue;
+			}
+
+			List<Value> entries = value.asList(Function.identity());
+			if (containsOnly(entries, typeSystem.RELATIONSHIP())) {
+				for (Value entry : entries) {
+					Relationship relationship = entry.asRelationship();
+					relationshipsByTypeAndEndNode
+						.computeIfAbsent(relationship.type(), type -> new HashMap<>())
+						.putIfAbsent(relationship.endNodeId(), relationship);
+				}
+			} else if (containsOnly(entries, typeSystem.NODE())) {
+				for (Value entry : entries) {
+					Node node = entry.asNode();
+					nodesById.putIfAbsent(node.id(), node);
+				}
+			}
+		}
+
+		Map<String, List<Node>> nodesByLabel = new HashMap<>();
+		for (Node node : nodesById.values()) {
+			for (String label : node.labels()) {
+				nodesByLabel.computeIfAbsent(label, l -> new ArrayList<>()).add(node);
+			}
+		}
+
+		return new QueryResultIndex(nodesByLabel, relationshipsByTypeAndEndNode);
+	}
+
+	private static boolean containsOnly(List<Value> entries, Type type) {
+
+		for (Value entry : entries) {
+			if (!type.isTypeOf(entry)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private final Map<String, List<Node>> nodesByLabel;
+
+	private final Map<String, Map<Long, Relationship>> relationshipsByTypeAndEndNode;
+
+	private QueryResultIndex(Map<String, List<Node>> nodesByLabel,
+		Map<String, Map<Long, Relationship>> relationshipsByTypeAndEndNode) {
+		this.nodesByLabel = nodesByLabel;
+		this.relationshipsByTypeAndEndNode = relationshipsByTypeAndEndNode;
+	}
+
+	/**
+	 * @param label The label of the nodes
+	 * @return All distinct nodes with the given label in order of their first appearance
+	 */
+	Collection<Node> getNodes(String label) {
+		return nodesByLabel.getOrDefault(label, Collections.emptyList());
+	}
+
+	/**
+	 * @param type The type of the relationships
+	 * @return True, if the result contains any relationship of the given type
+	 */
+	boolean hasRelationships(String type) {
+		return relationshipsByTypeAndEndNode.containsKey(type);
+	}
+
+	/**
+	 * @param type      The type of the relationship
+	 * @param endNodeId The id of the node the relationship points to
+	 * @return The first relationship of the given type pointing to the node or {@literal null}
+	 */
+	@Nullable
+	Relationship getRelationship(String type, long endNodeId) {
+
+		Map<Long, Relationship> relationships = relationshipsByTypeAndEndNode.get(type);
+		return relationships == null ? null : relationships.get(endNodeId);
+	}
+}
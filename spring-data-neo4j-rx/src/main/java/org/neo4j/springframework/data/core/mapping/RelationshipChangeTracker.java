@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.core.support.Relationships;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Remembers the relationships of entities as they have been loaded, so that saving an entity again only needs to delete
+ * the relationships that have been removed and to create the ones that have been added, instead of deleting and
+ * recreating all of them.
+ * <p>
+ * Instances are tracked by identity and are only weakly referenced: A snapshot is taken when an entity is loaded or
+ * after the transaction saving it has been committed and discarded as soon as the entity becomes unreachable. Entities
+ * that have not been loaded or saved with tracking enabled don't have a snapshot and are saved as before.
+ * <p>
+ * A relationship is identified by its type and the id of its target node. Changes of relationship properties are not
+ * tracked, relationships with properties are always written.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0")
+public final class RelationshipChangeTracker {
+
+	private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+	/**
+	 * The loaded relationships of each tracked instance by the name of the relationship field.
+	 */
+	private final Map<IdentityKey, Map<String, Set<TrackedRelationship>>> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Takes a snapshot of all relationships of the given instance, replacing any previous snapshot.
+	 *
+	 * @param entity   The entity of the instance
+	 * @param instance The instance to track
+	 */
+	public void snapshot(Neo4jPersistentEntity<?> entity, Object instance) {
+
+		snapshot(instance, describeRelationships(entity, instance));
+	}
+
+	/**
+	 * Takes a snapshot of relationships that have been described earlier, replacing any previous snapshot. This allows
+	 * describing the relationships as they have been written and remembering them once they are known to be in the
+	 * database.
+	 *
+	 * @param instance      The instance to track
+	 * @param relationships The relationships of the instance, see
+	 *                      {@link #describeRelationships(Neo4jPersistentEntity, Object)}
+	 */
+	public void snapshot(Object instance, Map<String, Set<TrackedRelationship>> relationships) {
+
+		IdentityKey.purge(collectedInstances, snapshots);
+
+		if (relationships.isEmpty()) {
+			return;
+		}
+		snapshots.put(new IdentityKey(instance, collectedInstances), relationships);
+	}
+
+	/**
+	 * Describes all relationships of the given instance in their current state without tracking them.
+	 *
+	 * @param entity   The entity of the instance
+	 * @param instance The instance whose relationships should be described
+	 * @return The relationships by the name of the relationship field, empty if the entity has no relationships
+	 */
+	public Map<String, Set<TrackedRelationship>> describeRelationships(Neo4jPersistentEntity<?> entity,
+		Object instance) {
+
+		Collection<RelationshipDescription> relationshipDescriptions = entity.getRelationships();
+		if (relationshipDescriptions.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(instance);
+		Map<String, Set<TrackedRelationship>> relationships = new HashMap<>();
+		for (RelationshipDescription relationship : relationshipDescriptions) {
+
+			Neo4jPersistentProperty property = entity.getPersistentProperty(relationship.getFieldName());
+			if (property == null) {
+				continue;
+			}
+
+			Object value = propertyAccessor.getProperty(property);
+			Set<TrackedRelationship> trackedRelationships = new HashSet<>();
+			if (value != null) {
+				for (Object relatedValue : Relationships.unifyRelationshipValue(property, value)) {
+					TrackedRelationship trackedRelationship = describe(relationship, relatedValue);
+					if (trackedRelationship != null) {
+						trackedRelationships.add(trackedRelationship);
+					}
+				}
+			}
+			relationships.put(relationship.getFieldName(), Collections.unmodifiableSet(trackedRelationships));
+		}
+		return Collections.unmodifiableMap(relationships);
+	}
+
+	/**
+	 * Discards the snapshot of the given instance, so that all of its relationships will be written the next time.
+	 *
+	 * @param instance A possibly tracked instance
+	 */
+	public void forget(Object instance) {
+
+		snapshots.remove(new IdentityKey(instance, null));
+	}
+
+	/**
+	 * @param instance     A possibly tracked instance
+	 * @param relationship The relationship in question
+	 * @return The relationships at the time of the last snapshot or {@literal null} if the instance is not tracked
+	 */
+	@Nullable
+	public Set<TrackedRelationship> getLoadedRelationships(Object instance, RelationshipDescription relationship) {
+
+		Map<String, Set<TrackedRelationship>> relationships = snapshots.get(new IdentityKey(instance, null));
+		return relationships == null ? null : relationships.get(relationship.getFieldName());
+	}
+
+	/**
+	 * Describes a single value of a relationship field in the same way the snapshot does.
+	 *
+	 * @param relationship            The relationship
+	 * @param dynamicRelationshipType The actual type of a dynamic relationship, ignored otherwise
+	 * @param relatedNode             The related node
+	 * @return A description of the relationship or {@literal null} if the related node has no id yet
+	 */
+	@Nullable
+	public TrackedRelationship describe(RelationshipDescription relationship,
+		@Nullable String dynamicRelationshipType, Object relatedNode) {
+
+		Neo4jPersistentEntity<?> targetEntity = (Neo4jPersistentEntity<?>) relationship.getTarget();
+		Object targetId = targetEntity.getIdentifierAccessor(relatedNode).getIdentifier();
+		if (targetId == null) {
+			return null;
+		}
+
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+		return new TrackedRelationship(type, targetId);
+	}
+
+	@Nullable
+	private TrackedRelationship describe(RelationshipDescription relationship, Object relatedValue) {
+
+		if (relationship.isDynamic()) {
+			Map.Entry<String, ?> entry = (Map.Entry<String, ?>) relatedValue;
+			return entry.getValue() == null ? null : describe(relationship, entry.getKey(), entry.getValue());
+		} else if (relationship.hasRelationshipProperties()) {
+			return describe(relationship, null, ((Map.Entry<?, ?>) relatedValue).getKey());
+		}
+		return relatedValue == null ? null : describe(relationship, null, relatedValue);
+	}
+
+	/**
+	 * A relationship identified by its type and the id of the node it points to.
+	 */
+	public static final class TrackedRelationship {
+
+		private final String type;
+
+		private final Object targetId;
+
+		TrackedRelationship(String type, Object targetId) {
+			this.type = type;
+			this.targetId = targetId;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * @return The value of the id property of the target node, either the internal or the assigned id
+		 */
+		public Object getTargetId() {
+			return targetId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof TrackedRelationship)) {
+				return false;
+			}
+			TrackedRelationship that = (TrackedRelationship) o;
+			return type.equals(that.type) && targetId.equals(that.targetId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, targetId);
+		}
+
+		@Override
+		public String toString() {
+			return "TrackedRelationship{" +
+				"type='" + type + '\'' +
+				", targetId=" + targetId +
+				'}';
+		}
+	}
+}
@@ -56,6 +56,12 @@ public enum CypherGenerator {
 
 	public static final String FROM_ID_PARAMETER_NAME = "fromId";
 
+	public static final String TO_ID_PARAMETER_NAME = "toId";
+
+	public static final String FROM_IDS_PARAMETER_NAME = "fromIds";
+
+	public static final String RELATIONSHIPS_PARAMETER_NAME = "relationships";
+
 	private static final String START_NODE_NAME = "startNode";
 	private static final String END_NODE_NAME = "endNode";
 
@@ -114,6 +120,95 @@ public enum CypherGenerator {
 		return Cypher.match(rootNode).where(conditionOrNoCondition(condition)).detachDelete(rootNode).build();
 	}
 
+	public Statement prepareCountOf(NodeDescription<?> nodeDescription) {
+		return prepareCountOf(nodeDescription, null);
+	}
+
+	/**
+	 * Creates a statement counting the matching nodes. The statement doesn't contain any of the projections needed
+	 * for mapping: Without a condition, it has the form {@code MATCH (n:Label) RETURN count(n)}, which is answered from
+	 * the count store of the database without touching the nodes.
+	 *
+	 * @param nodeDescription The description of the nodes to count
+	 * @param condition       Optional conditions the nodes must meet
+	 * @return A statement returning the number of matching nodes
+	 */
+	public Statement prepareCountOf(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode).where(conditionOrNoCondition(condition))
+			.returning(Functions.count(rootNode)).build();
+	}
+
+	/**
+	 * Creates a statement that deletes all matching nodes on the server and returns the number of deleted nodes.
+	 *
+	 * @param nodeDescription The description of the nodes to delete
+	 * @param condition       Optional conditions the nodes must meet
+	 * @return A statement deleting nodes and returning their count
+	 */
+	public Statement prepareDeleteReturningCountOf(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode).where(conditionOrNoCondition(condition)).detachDelete(rootNode)
+			.returning(Functions.count(asterisk())).build();
+	}
+
+	/**
+	 * Creates a statement that deletes all matching nodes on the server and returns the deleted nodes. The nodes are
+	 * projected before they are deleted, so that they can be mapped like the result of a match.
+	 *
+	 * @param nodeDescription    The description of the nodes to delete
+	 * @param condition          Optional conditions the nodes must meet
+	 * @param includedProperties A list of Java properties of the domain to be returned
+	 * @return A statement deleting nodes and returning them
+	 */
+	public Statement prepareDeleteReturningDeletedOf(NodeDescription<?> nodeDescription, @Nullable Condition condition,
+		@Nullable List<String> includedProperties) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		String nameOfDeletedNode = "__deleted__";
+		return Cypher.match(rootNode).where(conditionOrNoCondition(condition))
+			.with(rootNode, createReturnStatementForMatch(nodeDescription, includedProperties).as(nameOfDeletedNode))
+			.detachDelete(rootNode)
+			.returning(Cypher.name(nameOfDeletedNode)).build();
+	}
+
+	/**
+	 * Creates a statement that checks whether any node matches. The matching stops at the first node found and the
+	 * statement returns exactly one boolean.
+	 *
+	 * @param nodeDescription The description of the nodes to check
+	 * @param condition       Optional conditions the nodes must meet
+	 * @return A statement returning {@literal true} if there's at least one matching node
+	 */
+	public Statement prepareExistsOf(NodeDescription<?> nodeDescription, @Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode).where(conditionOrNoCondition(condition))
+			.with(rootNode).limit(1)
+			.returning(Functions.count(rootNode).gt(literalOf(0))).build();
+	}
+
+	/**
+	 * Creates a statement that deletes at most {@code batchSize} nodes of the given description. Running it repeatedly
+	 * until it deletes fewer nodes than requested purges all nodes without one transaction holding all of them.
+	 *
+	 * @param nodeDescription The description of the nodes to delete
+	 * @param batchSize       The parameter containing the maximum number of nodes to delete with one statement
+	 * @return A statement deleting one chunk of nodes
+	 */
+	public Statement prepareDeleteInBatchesOf(NodeDescription<?> nodeDescription, Parameter batchSize) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode).with(rootNode).limit(batchSize).detachDelete(rootNode).build();
+	}
+
 	public Statement prepareSaveOf(NodeDescription<?> nodeDescription) {
 
 		String primaryLabel = nodeDescription.getPrimaryLabel();
@@ -152,6 +247,41 @@ public enum CypherGenerator {
 		}
 	}
 
+	/**
+	 * Creates a statement creating a single new node with the properties given as
+	 * {@link NodeDescription#NAME_OF_PROPERTIES_PARAM}. In contrast to {@link #prepareSaveOf(NodeDescription)} this
+	 * neither looks up nor locks an existing node and must only be used for nodes that are known to be new.
+	 *
+	 * @param nodeDescription The description of the node to create
+	 * @return A statement returning the internal id of the created node
+	 */
+	public Statement prepareCreateOf(NodeDescription<?> nodeDescription) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel()).named(NAME_OF_ROOT_NODE);
+		return Cypher.create(rootNode)
+			.set(rootNode, parameter(NAME_OF_PROPERTIES_PARAM))
+			.returning(rootNode.internalId())
+			.build();
+	}
+
+	/**
+	 * Creates a statement replacing all properties of an existing node with the id given as
+	 * {@link NodeDescription#NAME_OF_ID_PARAM}. In contrast to {@link #prepareSaveOf(NodeDescription)} this never
+	 * creates a node and must only be used for nodes that are known to exist.
+	 *
+	 * @param nodeDescription The description of the node to update
+	 * @return A statement returning the internal id of the updated node or nothing, if there is no such node
+	 */
+	public Statement prepareUpdateOf(NodeDescription<?> nodeDescription) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel()).named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode)
+			.where(nodeDescription.getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAM)))
+			.set(rootNode, parameter(NAME_OF_PROPERTIES_PARAM))
+			.returning(rootNode.internalId())
+			.build();
+	}
+
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
 
 		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
@@ -173,69 +303,168 @@ public enum CypherGenerator {
 			.build();
 	}
 
-	@NotNull
-	public Statement createRelationshipCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		RelationshipDescription relationship, @Nullable String dynamicRelationshipType, Long relatedInternalId) {
+	/**
+	 * Creates a statement saving a list of nodes given as {@link NodeDescription#NAME_OF_ENTITY_LIST_PARAM}, returning
+	 * the internal id of each node in the order of the list. Nodes with external ids are merged. Nodes using internal
+	 * ids are created, so all of them must be new.
+	 *
+	 * @param nodeDescription The description of the nodes to save
+	 * @return A statement returning one internal id per saved node
+	 * @see #prepareUpdateOfMultipleInstancesOf(NodeDescription)
+	 */
+	public Statement prepareSaveOfMultipleInstancesReturningInternalIdsOf(NodeDescription<?> nodeDescription) {
 
-		Node startNode = anyNode(START_NODE_NAME);
-		Node endNode = anyNode(END_NODE_NAME);
-		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+		IdDescription idDescription = nodeDescription.getIdDescription();
+		if (idDescription.isInternallyGeneratedId()) {
+			return prepareCreateOfMultipleInstancesOf(nodeDescription);
+		}
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
-		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
-		return match(startNode)
-			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
-			.match(endNode)
-			.where(endNode.internalId().isEqualTo(literalOf(relatedInternalId)))
-			.merge(relationship.isOutgoing()
-				? startNode.relationshipTo(endNode, type)
-				: startNode.relationshipFrom(endNode, type)
-			)
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+		String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+			.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
+
+		String row = "entity";
+		return Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.merge(rootNode.properties(nameOfIdProperty, property(row, NAME_OF_ID_PARAM)))
+			.set(rootNode, property(row, NAME_OF_PROPERTIES_PARAM))
+			.returning(rootNode.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+	}
+
+	/**
+	 * Creates a statement creating a list of new nodes given as {@link NodeDescription#NAME_OF_ENTITY_LIST_PARAM},
+	 * returning the internal id of each node in the order of the list. All nodes must be known to be new, regardless of
+	 * the kind of their ids.
+	 *
+	 * @param nodeDescription The description of the nodes to create
+	 * @return A statement returning one internal id per created node
+	 */
+	public Statement prepareCreateOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+
+		String row = "entity";
+		return Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.create(rootNode)
+			.set(rootNode, property(row, NAME_OF_PROPERTIES_PARAM))
+			.returning(rootNode.internalId().as(NAME_OF_INTERNAL_ID))
 			.build();
 	}
 
+	/**
+	 * Creates a statement updating only some properties of an existing node with the id given as
+	 * {@link NodeDescription#NAME_OF_ID_PARAM}. The properties given as {@link NodeDescription#NAME_OF_PROPERTIES_PARAM}
+	 * are added or replaced, properties with a value of {@literal null} are removed and all others are left untouched.
+	 *
+	 * @param nodeDescription The description of the node to update
+	 * @return A statement returning the internal id of the updated node or nothing, if there is no such node
+	 */
+	public Statement prepareUpdateOfChangedProperties(NodeDescription<?> nodeDescription) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel()).named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode)
+			.where(nodeDescription.getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAM)))
+			.set(rootNode.mutate(parameter(NAME_OF_PROPERTIES_PARAM)))
+			.returning(rootNode.internalId())
+			.build();
+	}
+
+	/**
+	 * Creates a statement updating a list of existing nodes using internal ids, given as
+	 * {@link NodeDescription#NAME_OF_ENTITY_LIST_PARAM}. Entries without a matching node are skipped, the caller can
+	 * recognize them by their ids missing in the result.
+	 *
+	 * @param nodeDescription The description of the nodes to update
+	 * @return A statement returning the internal id of each updated node
+	 */
+	public Statement prepareUpdateOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+
+		Assert.isTrue(nodeDescription.isUsingInternalIds(),
+			"Only entities that use internal IDs can be updated by their id in a batch.");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel())
+			.named(NAME_OF_ROOT_NODE);
+
+		String row = "entity";
+		return Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.with(row)
+			.match(rootNode)
+			.where(rootNode.internalId().isEqualTo(property(row, NAME_OF_ID_PARAM)))
+			.set(rootNode, property(row, NAME_OF_PROPERTIES_PARAM))
+			.returning(rootNode.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+	}
+
+	/**
+	 * Creates a statement creating a list of relationships of the same type, given as
+	 * {@link #RELATIONSHIPS_PARAMETER_NAME}. Each entry contains the id of the start node as
+	 * {@link #FROM_ID_PARAMETER_NAME}, the internal id of the end node as {@link #TO_ID_PARAMETER_NAME} and, for
+	 * relationships with properties, the properties as {@link NodeDescription#NAME_OF_PROPERTIES_PARAM}.
+	 *
+	 * @param neo4jPersistentEntity   The entity of the start nodes
+	 * @param relationship            The description of the relationships
+	 * @param dynamicRelationshipType The type of the relationships if the relationship is dynamic
+	 * @return A statement creating all relationships
+	 */
 	@NotNull
-	public Statement createRelationshipWithPropertiesCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		RelationshipDescription relationship, Long relatedInternalId) {
+	public Statement createRelationshipsCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationship, @Nullable String dynamicRelationshipType) {
 
-		Assert.isTrue(relationship.hasRelationshipProperties(),
-			"Properties required to create a relationship with properties");
-		Assert.isTrue(!relationship.isDynamic(),
+		Assert.isTrue(!(relationship.isDynamic() && relationship.hasRelationshipProperties()),
 			"Creation of relationships with properties is only supported for non-dynamic relationships");
 
 		Node startNode = anyNode(START_NODE_NAME);
 		Node endNode = anyNode(END_NODE_NAME);
 		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
-		Parameter relationshipProperties = parameter(NAME_OF_PROPERTIES_PARAM);
-		String type = relationship.getType();
-
-		Relationship relOutgoing = startNode.relationshipTo(endNode, type).named(RELATIONSHIP_NAME);
-		Relationship relIncoming = startNode.relationshipFrom(endNode, type).named(RELATIONSHIP_NAME);
+		String row = "relationship";
+		Expression fromId = property(row, FROM_ID_PARAMETER_NAME);
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
 
-		return match(startNode)
+		StatementBuilder.OngoingReadingWithWhere startAndEndNode = Cypher
+			.unwind(parameter(RELATIONSHIPS_PARAMETER_NAME)).as(row)
+			.with(row)
+			.match(startNode)
 			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
+				? startNode.internalId().isEqualTo(fromId)
+				: startNode.property(idPropertyName).isEqualTo(fromId))
 			.match(endNode)
-			.where(endNode.internalId().isEqualTo(literalOf(relatedInternalId)))
-			.merge(relationship.isOutgoing()
-				? relOutgoing
-				: relIncoming
-			)
-			.set(relationship.isOutgoing()
-					? relOutgoing
-					: relIncoming,
-				relationshipProperties
-			)
+			.where(endNode.internalId().isEqualTo(property(row, TO_ID_PARAMETER_NAME)));
+
+		if (!relationship.hasRelationshipProperties()) {
+			return startAndEndNode
+				.merge(relationship.isOutgoing()
+					? startNode.relationshipTo(endNode, type)
+					: startNode.relationshipFrom(endNode, type)
+				)
+				.build();
+		}
+
+		Relationship relationshipWithProperties = (relationship.isOutgoing()
+			? startNode.relationshipTo(endNode, type)
+			: startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+		return startAndEndNode
+			.merge(relationshipWithProperties)
+			.set(relationshipWithProperties, property(row, NAME_OF_PROPERTIES_PARAM))
 			.build();
 	}
 
+	/**
+	 * Creates a statement removing the relationships described by {@code relationshipDescription} from all start nodes
+	 * with the ids given as {@link #FROM_IDS_PARAMETER_NAME}.
+	 *
+	 * @param neo4jPersistentEntity   The entity of the start nodes
+	 * @param relationshipDescription The description of the relationships
+	 * @param relatedNodeLabel        The label of the end nodes
+	 * @return A statement removing the relationships of all start nodes
+	 */
 	@NotNull
-	public Statement createRelationshipRemoveQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+	public Statement createRelationshipsRemoveQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 		RelationshipDescription relationshipDescription, String relatedNodeLabel) {
 
 		Node startNode = anyNode(START_NODE_NAME);
@@ -250,11 +479,58 @@ public enum CypherGenerator {
 			? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
 			: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
-		return match(relationship)
+		String row = FROM_ID_PARAMETER_NAME;
+		return Cypher
+			.unwind(parameter(FROM_IDS_PARAMETER_NAME)).as(row)
+			.with(row)
+			.match(relationship)
+			.where(neo4jPersistentEntity.isUsingInternalIds()
+				? startNode.internalId().isEqualTo(name(row))
+				: startNode.property(idPropertyName).isEqualTo(name(row)))
+			.delete(relationship.getSymbolicName().get()).build();
+	}
+
+	/**
+	 * Creates a statement deleting single relationships of the same type, given as {@link #RELATIONSHIPS_PARAMETER_NAME}.
+	 * Each entry contains the id of the start node as {@link #FROM_ID_PARAMETER_NAME} and the id of the end node as
+	 * {@link #TO_ID_PARAMETER_NAME}. Both ids are either internal or assigned ids, depending on the entities.
+	 *
+	 * @param neo4jPersistentEntity   The entity of the start nodes
+	 * @param relationshipDescription The description of the relationships
+	 * @param dynamicRelationshipType The type of the relationships if the relationship is dynamic
+	 * @param relatedEntity           The entity of the end nodes
+	 * @return A statement deleting the given relationships
+	 */
+	@NotNull
+	public Statement createRelationshipsDeleteQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationshipDescription, @Nullable String dynamicRelationshipType,
+		Neo4jPersistentEntity<?> relatedEntity) {
+
+		Node startNode = anyNode(START_NODE_NAME);
+		Node endNode = node(relatedEntity.getPrimaryLabel()).named(END_NODE_NAME);
+
+		String relationshipType = relationshipDescription.isDynamic() ?
+			dynamicRelationshipType :
+			relationshipDescription.getType();
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = relationshipDescription.isOutgoing()
+			? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
+			: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
+
+		String row = "relationship";
+		Expression fromId = property(row, FROM_ID_PARAMETER_NAME);
+		Expression toId = property(row, TO_ID_PARAMETER_NAME);
+		return Cypher
+			.unwind(parameter(RELATIONSHIPS_PARAMETER_NAME)).as(row)
+			.with(row)
+			.match(relationship)
 			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
+				? startNode.internalId().isEqualTo(fromId)
+				: startNode.property(neo4jPersistentEntity.getRequiredIdProperty().getPropertyName()).isEqualTo(fromId))
+			.and(relatedEntity.isUsingInternalIds()
+				? endNode.internalId().isEqualTo(toId)
+				: endNode.property(relatedEntity.getRequiredIdProperty().getPropertyName()).isEqualTo(toId))
 			.delete(relationship.getSymbolicName().get()).build();
 	}
 
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import static org.neo4j.springframework.data.core.cypher.Cypher.*;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.springframework.data.util.Lazy;
+
+/**
+ * The rendered Cypher of the standard operations on one {@link NodeDescription node description}. Those statements
+ * only differ in the parameters bound to them, so they are generated and rendered once on first use and then reused
+ * for all further invocations.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.INTERNAL, since = "1.0")
+public final class EntityStatements {
+
+	/**
+	 * Name of the parameter containing a single id.
+	 */
+	public static final String NAME_OF_ID_PARAMETER = "id";
+
+	/**
+	 * Name of the parameter containing a list of ids.
+	 */
+	public static final String NAME_OF_IDS_PARAMETER = "ids";
+
+	/**
+	 * Name of the parameter containing the maximum number of nodes processed by one statement.
+	 */
+	public static final String NAME_OF_BATCH_SIZE_PARAMETER = "batchSize";
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private final Lazy<String> count;
+	private final Lazy<String> findAll;
+	private final Lazy<String> findById;
+	private final Lazy<String> findAllById;
+	private final Lazy<String> existsById;
+	private final Lazy<String> save;
+	private final Lazy<String> create;
+	private final Lazy<String> update;
+	private final Lazy<String> saveAll;
+	private final Lazy<String> saveAllReturningInternalIds;
+	private final Lazy<String> createAll;
+	private final Lazy<String> updateAll;
+	private final Lazy<String> updateChangedProperties;
+	private final Lazy<String> deleteAll;
+	private final Lazy<String> deleteAllInBatches;
+	private final Lazy<String> deleteById;
+	private final Lazy<String> deleteAllById;
+
+	/**
+	 * Creates the statements for a node description. The statements are generated and rendered on first access.
+	 *
+	 * @param nodeDescription The node description for which statements should be created
+	 * @return The statements for the given node description
+	 */
+	public static EntityStatements of(NodeDescription<?> nodeDescription) {
+		return new EntityStatements(CypherGenerator.INSTANCE, nodeDescription);
+	}
+
+	private EntityStatements(CypherGenerator cypherGenerator, NodeDescription<?> nodeDescription) {
+
+		this.count = render(() -> cypherGenerator.prepareCountOf(nodeDescription));
+		this.findAll = render(() -> cypherGenerator.prepareMatchOf(nodeDescription)
+			.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription)).build());
+		this.findById = render(() -> cypherGenerator.prepareMatchOf(nodeDescription,
+			nodeDescription.getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAMETER)))
+			.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription)).build());
+		this.findAllById = render(() -> cypherGenerator.prepareMatchOf(nodeDescription,
+			nodeDescription.getIdExpression().in(parameter(NAME_OF_IDS_PARAMETER)))
+			.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription)).build());
+		this.existsById = render(() -> cypherGenerator.prepareExistsOf(nodeDescription,
+			nodeDescription.getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAMETER))));
+		this.save = render(() -> cypherGenerator.prepareSaveOf(nodeDescription));
+		this.create = render(() -> cypherGenerator.prepareCreateOf(nodeDescription));
+		this.update = render(() -> cypherGenerator.prepareUpdateOf(nodeDescription));
+		this.saveAll = render(() -> cypherGenerator.prepareSaveOfMultipleInstancesOf(nodeDescription));
+		this.saveAllReturningInternalIds = render(
+			() -> cypherGenerator.prepareSaveOfMultipleInstancesReturningInternalIdsOf(nodeDescription));
+		this.createAll = render(() -> cypherGenerator.prepareCreateOfMultipleInstancesOf(nodeDescription));
+		this.updateAll = render(() -> cypherGenerator.prepareUpdateOfMultipleInstancesOf(nodeDescription));
+		this.updateChangedProperties = render(() -> cypherGenerator.prepareUpdateOfChangedProperties(nodeDescription));
+		this.deleteAll = render(() -> cypherGenerator.prepareDeleteOf(nodeDescription));
+		this.deleteAllInBatches = render(() -> cypherGenerator.prepareDeleteInBatchesOf(nodeDescription,
+			parameter(NAME_OF_BATCH_SIZE_PARAMETER)));
+		this.deleteById = render(() -> cypherGenerator.prepareDeleteOf(nodeDescription,
+			nodeDescription.getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAMETER))));
+		this.deleteAllById = render(() -> cypherGenerator.prepareDeleteOf(nodeDescription,
+			nodeDescription.getIdExpression().in(parameter(NAME_OF_IDS_PARAMETER))));
+	}
+
+	private static Lazy<String> render(Supplier<Statement> statementSupplier) {
+		return Lazy.of(() -> renderer.render(statementSupplier.get()));
+	}
+
+	/**
+	 * @return A statement counting all nodes
+	 */
+	public String getCount() {
+		return count.get();
+	}
+
+	/**
+	 * @return A statement returning all nodes including their relationships
+	 */
+	public String getFindAll() {
+		return findAll.get();
+	}
+
+	/**
+	 * @return A statement returning the node with the id given as {@link #NAME_OF_ID_PARAMETER}
+	 */
+	public String getFindById() {
+		return findById.get();
+	}
+
+	/**
+	 * @return A statement returning all nodes with the ids given as {@link #NAME_OF_IDS_PARAMETER}
+	 */
+	public String getFindAllById() {
+		return findAllById.get();
+	}
+
+	/**
+	 * @return A statement checking whether a node with the id given as {@link #NAME_OF_ID_PARAMETER} exists, see
+	 * {@link CypherGenerator#prepareExistsOf(NodeDescription, org.neo4j.springframework.data.core.cypher.Condition)}
+	 */
+	public String getExistsById() {
+		return existsById.get();
+	}
+
+	/**
+	 * @return A statement saving a single node, see {@link CypherGenerator#prepareSaveOf(NodeDescription)}
+	 */
+	public String getSave() {
+		return save.get();
+	}
+
+	/**
+	 * @return A statement creating a single node known to be new, see {@link CypherGenerator#prepareCreateOf(NodeDescription)}
+	 */
+	public String getCreate() {
+		return create.get();
+	}
+
+	/**
+	 * @return A statement updating a single node known to exist, see {@link CypherGenerator#prepareUpdateOf(NodeDescription)}
+	 */
+	public String getUpdate() {
+		return update.get();
+	}
+
+	/**
+	 * @return A statement saving a list of nodes, see {@link CypherGenerator#prepareSaveOfMultipleInstancesOf(NodeDescription)}
+	 */
+	public String getSaveAll() {
+		return saveAll.get();
+	}
+
+	/**
+	 * @return A statement saving a list of nodes and returning their internal ids, see
+	 * {@link CypherGenerator#prepareSaveOfMultipleInstancesReturningInternalIdsOf(NodeDescription)}
+	 */
+	public String getSaveAllReturningInternalIds() {
+		return saveAllReturningInternalIds.get();
+	}
+
+	/**
+	 * @return A statement creating a list of nodes known to be new, see
+	 * {@link CypherGenerator#prepareCreateOfMultipleInstancesOf(NodeDescription)}
+	 */
+	public String getCreateAll() {
+		return createAll.get();
+	}
+
+	/**
+	 * @return A statement updating a list of existing nodes, see
+	 * {@link CypherGenerator#prepareUpdateOfMultipleInstancesOf(NodeDescription)}
+	 */
+	public String getUpdateAll() {
+		return updateAll.get();
+	}
+
+	/**
+	 * @return A statement updating some properties of an existing node, see
+	 * {@link CypherGenerator#prepareUpdateOfChangedProperties(NodeDescription)}
+	 */
+	public String getUpdateChangedProperties() {
+		return updateChangedProperties.get();
+	}
+
+	/**
+	 * @return A statement deleting all nodes
+	 */
+	public String getDeleteAll() {
+		return deleteAll.get();
+	}
+
+	/**
+	 * @return A statement deleting at most as many nodes as given as {@link #NAME_OF_BATCH_SIZE_PARAMETER}, see
+	 * {@link CypherGenerator#prepareDeleteInBatchesOf(NodeDescription, org.neo4j.springframework.data.core.cypher.Parameter)}
+	 */
+	public String getDeleteAllInBatches() {
+		return deleteAllInBatches.get();
+	}
+
+	/**
+	 * @return A statement deleting the node with the id given as {@link #NAME_OF_ID_PARAMETER}
+	 */
+	public String getDeleteById() {
+		return deleteById.get();
+	}
+
+	/**
+	 * @return A statement deleting all nodes with the ids given as {@link #NAME_OF_IDS_PARAMETER}
+	 */
+	public String getDeleteAllById() {
+		return deleteAllById.get();
+	}
+}
@@ -49,7 +49,24 @@ public final class Neo4jTransactionUtils {
 		return sessionConfig(false, Collections.emptyList(), databaseName);
 	}
 
+	/**
+	 * Same as {@link #defaultSessionConfig(String)}, but the session pulls the given number of records at once from
+	 * the database.
+	 *
+	 * @param databaseName The database to use. May be null, which then designates the default database.
+	 * @param fetchSize    The number of records to pull at once
+	 * @return Session parameters to configure the default session used
+	 */
+	public static SessionConfig defaultSessionConfig(@Nullable String databaseName, long fetchSize) {
+		return sessionConfigBuilder(false, Collections.emptyList(), databaseName).withFetchSize(fetchSize).build();
+	}
+
 	public static SessionConfig sessionConfig(boolean readOnly, List<Bookmark> bookmarks,
+		@Nullable String databaseName) {
+		return sessionConfigBuilder(readOnly, bookmarks, databaseName).build();
+	}
+
+	private static SessionConfig.Builder sessionConfigBuilder(boolean readOnly, List<Bookmark> bookmarks,
 		@Nullable String databaseName) {
 		SessionConfig.Builder builder = SessionConfig.builder()
 			.withDefaultAccessMode(readOnly ? AccessMode.READ : AccessMode.WRITE)
@@ -59,7 +76,7 @@ public final class Neo4jTransactionUtils {
 			builder.withDatabase(databaseName);
 		}
 
-		return builder.build();
+		return builder;
 	}
 
 	/**
@@ -20,7 +20,9 @@ package org.neo4j.springframework.data.repository;
 
 import java.util.List;
 
+import org.neo4j.springframework.data.repository.query.KeysetPageRequest;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -76,4 +78,14 @@ public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID
 	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example, org.springframework.data.domain.Sort)
 	 */
 	@Override <S extends T> List<S> findAll(Example<S> example, Sort sort);
+
+	/**
+	 * Returns a slice of entities selected by the given keyset page request. Other than
+	 * {@link #findAll(org.springframework.data.domain.Pageable)}, this doesn't count all entities and the page is
+	 * selected by the keys of the last entity of the previous page instead of skipping all previous entities.
+	 *
+	 * @param pageRequest The page request
+	 * @return A slice of entities
+	 */
+	Slice<T> findAll(KeysetPageRequest pageRequest);
 }
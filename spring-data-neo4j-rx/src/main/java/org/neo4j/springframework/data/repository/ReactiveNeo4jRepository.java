@@ -18,6 +18,9 @@
  */
 package org.neo4j.springframework.data.repository;
 
+import reactor.core.publisher.Flux;
+
+import org.neo4j.springframework.data.repository.query.KeysetPageRequest;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
@@ -33,4 +36,13 @@ import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 @NoRepositoryBean
 public interface ReactiveNeo4jRepository<T, ID>
 	extends ReactiveSortingRepository<T, ID>, ReactiveQueryByExampleExecutor<T> {
+
+	/**
+	 * Returns the entities on the page selected by the given keyset page request. The id and the sort properties of
+	 * the last entity emitted are the keys of the next page.
+	 *
+	 * @param pageRequest The page request
+	 * @return The entities on the page
+	 */
+	Flux<T> findAll(KeysetPageRequest pageRequest);
 }
@@ -28,6 +28,9 @@ import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryExecution.DefaultQueryExecution;
+import org.neo4j.springframework.data.repository.query.Neo4jQueryExecution.StreamQueryExecution;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
@@ -66,15 +69,25 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		Neo4jParameterAccessor parameterAccessor = getParameterAccessor(parameters);
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
+		PreparedQuery<?> preparedQuery = prepareQuery(getResultType(resultProcessor),
 			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
 
-		Object rawResult = new DefaultQueryExecution(neo4jOperations).execute(
-			preparedQuery, queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery());
+		boolean asCollectionQuery = !returnsSingleValue()
+			&& (queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery() || queryMethod.isSliceQuery());
+		Neo4jQueryExecution queryExecution = queryMethod.isStreamQuery() ?
+			new StreamQueryExecution(neo4jOperations) :
+			new DefaultQueryExecution(neo4jOperations);
+		Object rawResult = queryExecution.execute(preparedQuery, asCollectionQuery);
 
 		Object processedResult = resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
 
-		if (!queryMethod.isPageQuery()) {
+		if (queryMethod.isSliceQuery()) {
+			// Slice queries fetch one element more than requested to determine if there's a next slice without counting
+			List<?> content = (List<?>) processedResult;
+			Pageable pageable = parameterAccessor.getPageable();
+			boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+			return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+		} else if (!queryMethod.isPageQuery()) {
 			return processedResult;
 		} else {
 			return PageableExecutionUtils.getPage((List<?>) processedResult, parameterAccessor.getPageable(), () -> {
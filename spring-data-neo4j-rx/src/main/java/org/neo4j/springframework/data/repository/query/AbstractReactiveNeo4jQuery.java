@@ -63,11 +63,11 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		Neo4jParameterAccessor parameterAccessor = getParameterAccessor(parameters);
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
+		PreparedQuery<?> preparedQuery = prepareQuery(getResultType(resultProcessor),
 			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
 
 		Object rawResult = new Neo4jQueryExecution.ReactiveQueryExecution(neo4jOperations).execute(
-			preparedQuery, queryMethod.isCollectionLikeQuery());
+			preparedQuery, !returnsSingleValue() && queryMethod.isCollectionLikeQuery());
 
 		return resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
 	}
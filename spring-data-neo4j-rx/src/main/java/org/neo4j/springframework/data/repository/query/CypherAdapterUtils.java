@@ -20,13 +20,26 @@ package org.neo4j.springframework.data.repository.query;
 
 import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.cypher.Condition;
+import org.neo4j.springframework.data.core.cypher.Conditions;
 import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Expression;
+import org.neo4j.springframework.data.core.cypher.Parameter;
 import org.neo4j.springframework.data.core.cypher.SortItem;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder;
 import org.neo4j.springframework.data.core.cypher.SymbolicName;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.GraphPropertyDescription;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.springframework.data.domain.Pageable;
@@ -52,10 +65,7 @@ public final class CypherAdapterUtils {
 		SymbolicName rootNode = Cypher.name(NodeDescription.NAME_OF_ROOT_NODE);
 
 		return order -> {
-			String property = nodeDescription.getGraphProperty(order.getProperty())
-				.map(GraphPropertyDescription::getPropertyName)
-				.orElseThrow(() -> new IllegalStateException(
-					String.format("Cannot order by the unknown graph property: '%s'", order.getProperty())));
+			String property = toGraphPropertyName(nodeDescription, order);
 			SortItem sortItem = Cypher.sort(property(rootNode, property));
 
 			// Spring's Sort.Order defaults to ascending, so we just need to change this if we have descending order.
@@ -85,13 +95,131 @@ public final class CypherAdapterUtils {
 
 		Sort sort = pageable.getSort();
 
-		long skip = pageable.getOffset();
-
 		int pageSize = pageable.getPageSize();
 
+		if (pageable instanceof KeysetPageRequest) {
+			return returning.orderBy(toKeysetSortItems(nodeDescription, sort)).limit(pageSize);
+		}
+
+		long skip = pageable.getOffset();
+
 		return returning.orderBy(toSortItems(nodeDescription, sort)).skip(skip).limit(pageSize);
 	}
 
+	/**
+	 * Converts a sort to sort items and adds the id of the root node as last sort item, so that the order is total.
+	 *
+	 * @param nodeDescription The node description to map the properties
+	 * @param sort            The sort object to convert
+	 * @return The sort items for a keyset page request
+	 */
+	public static SortItem[] toKeysetSortItems(NodeDescription<?> nodeDescription, Sort sort) {
+
+		return Stream.concat(sort.stream().map(sortAdapterFor(nodeDescription)),
+			Stream.of(Cypher.sort(nodeDescription.getIdExpression()).ascending())).toArray(SortItem[]::new);
+	}
+
+	/**
+	 * Creates the condition selecting all nodes after the keys of a keyset page request. For sort properties
+	 * {@code a} (ascending) and {@code b} (descending), it has the form
+	 * {@code n.a > $a OR (n.a = $a AND n.b < $b) OR (n.a = $a AND n.b = $b AND id(n) > $id)}.
+	 *
+	 * @param nodeDescription The node description to map the properties
+	 * @param pageRequest     The page request
+	 * @return A condition selecting the nodes of the requested page. Empty for the first page.
+	 */
+	public static Condition createKeysetCondition(NodeDescription<?> nodeDescription, KeysetPageRequest pageRequest) {
+
+		if (!pageRequest.hasKeys()) {
+			return Conditions.noCondition();
+		}
+
+		List<Expression> keys = new ArrayList<>();
+		List<Boolean> descending = new ArrayList<>();
+		pageRequest.getSort().forEach(order -> {
+			keys.add(property(name(NodeDescription.NAME_OF_ROOT_NODE), toGraphPropertyName(nodeDescription, order)));
+			descending.add(order.isDescending());
+		});
+		keys.add(nodeDescription.getIdExpression());
+		descending.add(false);
+
+		// Compound conditions are modified when chained, so each term is built from scratch.
+		Condition keysetCondition = Conditions.noCondition();
+		for (int i = 0; i < keys.size(); ++i) {
+			Condition term = Conditions.noCondition();
+			for (int j = 0; j < i; ++j) {
+				term = term.and(keys.get(j).isEqualTo(parameter(nameOfKeysetParameter(j))));
+			}
+
+			Expression key = keys.get(i);
+			Parameter value = parameter(nameOfKeysetParameter(i));
+			keysetCondition = keysetCondition.or(term.and(descending.get(i) ? key.lt(value) : key.gt(value)));
+		}
+		return keysetCondition;
+	}
+
+	/**
+	 * @param pageRequest The page request
+	 * @return The values of the parameters used in {@link #createKeysetCondition(NodeDescription, KeysetPageRequest)}
+	 */
+	public static Map<String, Object> createKeysetParameters(KeysetPageRequest pageRequest) {
+
+		if (!pageRequest.hasKeys()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> parameters = new HashMap<>();
+		List<Object> lastSortValues = pageRequest.getLastSortValues();
+		for (int i = 0; i < lastSortValues.size(); ++i) {
+			parameters.put(nameOfKeysetParameter(i), lastSortValues.get(i));
+		}
+		parameters.put(nameOfKeysetParameter(lastSortValues.size()), pageRequest.getLastId());
+		return parameters;
+	}
+
+	/**
+	 * Creates the values of the parameters used in {@link #createKeysetCondition(NodeDescription, KeysetPageRequest)}
+	 * and writes them the same way as the properties they are compared with, so that enums and values of types with
+	 * custom conversions can be used as keys.
+	 *
+	 * @param entity      The entity to which the sort properties belong
+	 * @param pageRequest The page request
+	 * @param converter   The converter used to write the values
+	 * @return The converted values of the parameters
+	 */
+	public static Map<String, Object> createKeysetParameters(Neo4jPersistentEntity<?> entity,
+		KeysetPageRequest pageRequest, Neo4jConverter converter) {
+
+		if (!pageRequest.hasKeys()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> parameters = new HashMap<>();
+		List<Object> lastSortValues = pageRequest.getLastSortValues();
+		int i = 0;
+		for (Sort.Order order : pageRequest.getSort()) {
+			Neo4jPersistentProperty property = entity.getRequiredPersistentProperty(order.getProperty());
+			parameters.put(nameOfKeysetParameter(i),
+				converter.writeValueFromProperty(lastSortValues.get(i), property.getTypeInformation()));
+			++i;
+		}
+		parameters.put(nameOfKeysetParameter(i),
+			converter.writeValueFromProperty(pageRequest.getLastId(), entity.getRequiredIdProperty().getTypeInformation()));
+		return parameters;
+	}
+
+	private static String nameOfKeysetParameter(int index) {
+		return "__keyset" + index + "__";
+	}
+
+	private static String toGraphPropertyName(NodeDescription<?> nodeDescription, Sort.Order order) {
+
+		return nodeDescription.getGraphProperty(order.getProperty())
+			.map(GraphPropertyDescription::getPropertyName)
+			.orElseThrow(() -> new IllegalStateException(
+				String.format("Cannot order by the unknown graph property: '%s'", order.getProperty())));
+	}
+
 	private CypherAdapterUtils() {
 	}
 }
@@ -26,6 +26,7 @@ import static org.neo4j.springframework.data.repository.query.CypherAdapterUtils
 import static org.neo4j.springframework.data.repository.query.PartValidator.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -46,6 +47,7 @@ import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.SortItem;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder.OngoingMatchAndReturnWithOrder;
+import org.neo4j.springframework.data.core.cypher.renderer.RenderedStatement;
 import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
@@ -92,6 +94,17 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 
 	private final Pageable pagingParameter;
 
+	/**
+	 * True if the query returns a slice. One more element than requested is fetched to determine whether there's a
+	 * next slice.
+	 */
+	private final boolean sliceQuery;
+
+	/**
+	 * True if a delete query returns the number of deleted nodes, false if it returns the deleted nodes.
+	 */
+	private final boolean countDeletedNodes;
+
 	/**
 	 * Stores the number of max results, if the {@link PartTree tree} is limiting.
 	 */
@@ -108,7 +121,9 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		PartTree tree,
 		ParametersParameterAccessor actualParameters,
 		List<String> includedProperties,
-		Function<Object, Object> parameterConversion
+		Function<Object, Object> parameterConversion,
+		boolean sliceQuery,
+		boolean countDeletedNodes
 	) {
 		super(tree, actualParameters);
 		this.mappingContext = mappingContext;
@@ -125,6 +140,8 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		this.parameterConversion = parameterConversion;
 
 		this.pagingParameter = actualParameters.getPageable();
+		this.sliceQuery = sliceQuery;
+		this.countDeletedNodes = countDeletedNodes;
 	}
 
 	@Override
@@ -153,9 +170,21 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
 		Statement statement;
 		if (queryType == Neo4jQueryType.COUNT) {
+			statement = cypherGenerator.prepareCountOf(nodeDescription, condition);
+		} else if (queryType == Neo4jQueryType.EXISTS) {
+			statement = cypherGenerator.prepareExistsOf(nodeDescription, condition);
+		} else if (queryType == Neo4jQueryType.DELETE) {
+			statement = countDeletedNodes ?
+				cypherGenerator.prepareDeleteReturningCountOf(nodeDescription, condition) :
+				cypherGenerator.prepareDeleteReturningDeletedOf(nodeDescription, condition, includedProperties);
+		} else if (pagingParameter instanceof KeysetPageRequest) {
+			KeysetPageRequest pageRequest = (KeysetPageRequest) pagingParameter;
+			Condition keysetCondition = createKeysetCondition(nodeDescription, pageRequest);
 			statement = cypherGenerator
-				.prepareMatchOf(nodeDescription, condition)
-				.returning(Functions.count(asterisk()))
+				.prepareMatchOf(nodeDescription, condition == null ? keysetCondition : condition.and(keysetCondition))
+				.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription, includedProperties))
+				.orderBy(toKeysetSortItems(nodeDescription, pageRequest.getSort()))
+				.limit(getNumberOfElementsToFetch(pageRequest))
 				.build();
 		} else {
 			OngoingMatchAndReturnWithOrder ongoingMatchAndReturnWithOrder = cypherGenerator
@@ -171,15 +200,27 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 				statement = ongoingMatchAndReturnWithOrder.limit(maxResults).build();
 			} else {
 				long skip = pagingParameter.getOffset();
-				int pageSize = pagingParameter.getPageSize();
-				statement = ongoingMatchAndReturnWithOrder.skip(skip).limit(pageSize).build();
+				statement = ongoingMatchAndReturnWithOrder.skip(skip)
+					.limit(getNumberOfElementsToFetch(pagingParameter)).build();
 			}
 		}
 
-		Map<String, Object> convertedParameters = this.boundedParameters
-			.stream().collect(toMap(p -> p.nameOrIndex, p -> parameterConversion.apply(p.value)));
+		// Literals like skip and limit are lifted into parameters, so that the query is the same for all pages
+		RenderedStatement renderedStatement = Renderer.getDefaultRenderer().renderWithLiteralsAsParameters(statement);
+
+		Map<String, Object> convertedParameters = new HashMap<>(renderedStatement.getParameters());
+		this.boundedParameters
+			.forEach(p -> convertedParameters.put(p.nameOrIndex, parameterConversion.apply(p.value)));
+		if (queryType == Neo4jQueryType.DEFAULT && pagingParameter instanceof KeysetPageRequest) {
+			convertedParameters.putAll(createKeysetParameters(mappingContext.getRequiredPersistentEntity(domainType),
+				(KeysetPageRequest) pagingParameter, mappingContext.getConverter()));
+		}
+
+		return new QueryAndParameters(renderedStatement.getCypher(), convertedParameters);
+	}
 
-		return new QueryAndParameters(Renderer.getDefaultRenderer().render(statement), convertedParameters);
+	private int getNumberOfElementsToFetch(Pageable pageable) {
+		return sliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
 	}
 
 	private Condition createImpl(Part part, Iterator<Object> actualParameters) {
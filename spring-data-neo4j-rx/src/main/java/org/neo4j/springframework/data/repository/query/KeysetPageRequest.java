@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Pageable} that selects a page by the sort keys of the last element of the previous page instead of an
+ * offset ("keyset" or "seek" pagination). Instead of skipping all elements of the previous pages, the query starts
+ * right after the last element seen, so that deep pages are as fast as the first one.
+ * <p>
+ * The elements are ordered by the properties of the given {@link Sort} and by their id as a tie-breaker. The first
+ * page is requested with {@link #of(int, Sort)}, each following page with {@link #after(Object, Object...)}, passing
+ * the id and the values of the sort properties of the last element of the current page. The sort properties must not
+ * be {@literal null}.
+ * <p>
+ * A keyset page request is best used with query methods returning a {@link org.springframework.data.domain.Slice},
+ * which don't need a count query. The sort of the request defines the order of the elements, a sort derived from the
+ * name of a query method is ignored.
+ *
+ * @author Michael J. Simons
+ * @since 1.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.0")
+public final class KeysetPageRequest implements Pageable, Serializable {
+
+	private static final long serialVersionUID = 7313417410394549071L;
+
+	private final int pageNumber;
+
+	private final int pageSize;
+
+	private final Sort sort;
+
+	@Nullable
+	private final Object lastId;
+
+	private final List<Object> lastSortValues;
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param pageSize The size of the page
+	 * @param sort     The order of the elements, might be unsorted, in which case the elements are ordered by id only
+	 * @return A request for the first page
+	 */
+	public static KeysetPageRequest of(int pageSize, Sort sort) {
+		return new KeysetPageRequest(0, pageSize, sort, null, Collections.emptyList());
+	}
+
+	private KeysetPageRequest(int pageNumber, int pageSize, Sort sort, @Nullable Object lastId,
+		List<Object> lastSortValues) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than 0.");
+		Assert.notNull(sort, "Sort must not be null.");
+
+		this.pageNumber = pageNumber;
+		this.pageSize = pageSize;
+		this.sort = sort;
+		this.lastId = lastId;
+		this.lastSortValues = lastSortValues;
+	}
+
+	/**
+	 * Creates a request for the page following the element with the given keys.
+	 *
+	 * @param lastId         The id of the last element of the current page
+	 * @param lastSortValues The values of the sort properties of the last element of the current page, in the order of
+	 *                       the sort
+	 * @return A request for the next page
+	 */
+	public KeysetPageRequest after(Object lastId, Object... lastSortValues) {
+
+		Assert.notNull(lastId, "The id of the last element must not be null.");
+		Assert.notNull(lastSortValues, "The values of the sort properties must not be null.");
+		Assert.noNullElements(lastSortValues, "The values of the sort properties must not be null.");
+
+		int numberOfOrders = (int) sort.stream().count();
+		Assert.isTrue(lastSortValues.length == numberOfOrders, () -> String
+			.format("Expected %d values for the sort properties, got %d.", numberOfOrders, lastSortValues.length));
+
+		return new KeysetPageRequest(pageNumber + 1, pageSize, sort, lastId,
+			Collections.unmodifiableList(new ArrayList<>(Arrays.asList(lastSortValues))));
+	}
+
+	/**
+	 * @return True if this request has the keys of a previous page, false if it requests the first page
+	 */
+	public boolean hasKeys() {
+		return lastId != null;
+	}
+
+	/**
+	 * @return The id of the last element of the previous page, {@literal null} for the first page
+	 */
+	@Nullable
+	public Object getLastId() {
+		return lastId;
+	}
+
+	/**
+	 * @return The values of the sort properties of the last element of the previous page, empty for the first page
+	 */
+	public List<Object> getLastSortValues() {
+		return lastSortValues;
+	}
+
+	@Override
+	public int getPageNumber() {
+		return pageNumber;
+	}
+
+	@Override
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * The offset is not used for querying. It is the number of elements on the previous pages, assuming they all have
+	 * been full, and is only provided for computing totals.
+	 *
+	 * @return The nominal offset of this page
+	 */
+	@Override
+	public long getOffset() {
+		return (long) pageNumber * (long) pageSize;
+	}
+
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * The next page of a keyset page request can only be determined from the content of the current page.
+	 *
+	 * @return never
+	 * @throws UnsupportedOperationException always, use {@link #after(Object, Object...)} instead
+	 */
+	@Override
+	public Pageable next() {
+		throw new UnsupportedOperationException(
+			"The next page of a keyset page request must be requested with the keys of the last element.");
+	}
+
+	/**
+	 * Keyset page requests only move forward.
+	 *
+	 * @return The first page
+	 */
+	@Override
+	public Pageable previousOrFirst() {
+		return first();
+	}
+
+	@Override
+	public Pageable first() {
+		return of(pageSize, sort);
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return pageNumber > 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		KeysetPageRequest that = (KeysetPageRequest) o;
+		return pageNumber == that.pageNumber &&
+			pageSize == that.pageSize &&
+			sort.equals(that.sort) &&
+			Objects.equals(lastId, that.lastId) &&
+			lastSortValues.equals(that.lastSortValues);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(pageNumber, pageSize, sort, lastId, lastSortValues);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPageRequest{" +
+			"pageNumber=" + pageNumber +
+			", pageSize=" + pageSize +
+			", sort=" + sort +
+			", lastId=" + lastId +
+			", lastSortValues=" + lastSortValues +
+			'}';
+	}
+}
@@ -58,6 +58,29 @@ interface Neo4jQueryExecution {
 		}
 	}
 
+	/**
+	 * Returns collection like results as a lazy stream, used for query methods returning a {@link java.util.stream.Stream}.
+	 */
+	class StreamQueryExecution implements Neo4jQueryExecution {
+
+		private final Neo4jOperations neo4jOperations;
+
+		StreamQueryExecution(Neo4jOperations neo4jOperations) {
+			this.neo4jOperations = neo4jOperations;
+		}
+
+		@Override
+		public Object execute(PreparedQuery preparedQuery, boolean asCollectionQuery) {
+
+			Neo4jOperations.ExecutableQuery executableQuery = neo4jOperations.toExecutableQuery(preparedQuery);
+			if (asCollectionQuery) {
+				return executableQuery.getResultStream();
+			} else {
+				return executableQuery.getSingleResult();
+			}
+		}
+	}
+
 	class ReactiveQueryExecution implements Neo4jQueryExecution {
 
 		private final ReactiveNeo4jOperations neo4jOperations;
@@ -41,7 +41,9 @@ import org.springframework.data.geo.Metrics;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Some conversions used by both reactive and imperative Neo4j queries. While we try to separate reactive and imperative
@@ -83,9 +85,47 @@ abstract class Neo4jQuerySupport {
 		return queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 	}
 
+	/**
+	 * @param resultProcessor The result processor of the query method
+	 * @return The type of the values returned by the query
+	 */
+	protected Class<?> getResultType(final ResultProcessor resultProcessor) {
+		return resultProcessor.getReturnedType().getReturnedType();
+	}
+
+	/**
+	 * @return True if the query always returns exactly one value computed on the server, regardless of the declared
+	 * return type of the query method
+	 */
+	protected boolean returnsSingleValue() {
+		return false;
+	}
+
+	/**
+	 * Derived exists queries and derived delete queries that declare a numeric result or none at all compute a single
+	 * value on the server: Whether any node matches respectively the number of deleted nodes. Delete queries declaring
+	 * entities as result return the deleted entities instead.
+	 *
+	 * @param queryType   The type of a derived query
+	 * @param queryMethod The query method
+	 * @return The type of the value computed on the server or {@literal null} if the query doesn't compute one
+	 */
+	@Nullable
+	static Class<?> getTypeOfValueComputedOnServer(Neo4jQueryType queryType, Neo4jQueryMethod queryMethod) {
+
+		Class<?> declaredType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+		if (queryType == Neo4jQueryType.EXISTS) {
+			return Boolean.class;
+		} else if (queryType == Neo4jQueryType.DELETE
+			&& (Number.class.isAssignableFrom(declaredType) || Void.class.equals(declaredType))) {
+			return Long.class;
+		}
+		return null;
+	}
+
 	protected final BiFunction<TypeSystem, Record, ?> getMappingFunction(final ResultProcessor resultProcessor) {
 
-		final Class<?> returnedType = resultProcessor.getReturnedType().getReturnedType();
+		final Class<?> returnedType = getResultType(resultProcessor);
 
 		final BiFunction<TypeSystem, Record, ?> mappingFunction;
 		if (Neo4jSimpleTypes.HOLDER.isSimpleType(returnedType)) {
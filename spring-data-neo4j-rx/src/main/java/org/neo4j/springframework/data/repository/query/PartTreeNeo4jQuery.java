@@ -38,6 +38,7 @@ import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
@@ -68,6 +69,13 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
+	/**
+	 * The type of the single value derived exists and delete queries compute on the server, {@literal null} for all
+	 * other queries.
+	 */
+	@Nullable
+	private final Class<?> typeOfValueComputedOnServer;
+
 	public static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 		Neo4jQueryMethod queryMethod) {
 		return new PartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
@@ -83,11 +91,22 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree));
 
 		this.tree = tree;
+		this.typeOfValueComputedOnServer = getTypeOfValueComputedOnServer(this.queryType, queryMethod);
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
 	}
 
+	@Override
+	protected Class<?> getResultType(ResultProcessor resultProcessor) {
+		return typeOfValueComputedOnServer == null ? super.getResultType(resultProcessor) : typeOfValueComputedOnServer;
+	}
+
+	@Override
+	protected boolean returnsSingleValue() {
+		return typeOfValueComputedOnServer != null;
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(
 		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
@@ -97,7 +116,9 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
-			this::convertParameter
+			this::convertParameter,
+			queryMethod.isSliceQuery(),
+			typeOfValueComputedOnServer != null
 		);
 
 		QueryAndParameters queryAndParameters = queryCreator.createQuery();
@@ -28,6 +28,7 @@ import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.lang.Nullable;
@@ -43,6 +44,13 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 
 	private final PartTree tree;
 
+	/**
+	 * The type of the single value derived exists and delete queries compute on the server, {@literal null} for all
+	 * other queries.
+	 */
+	@Nullable
+	private final Class<?> typeOfValueComputedOnServer;
+
 	public static RepositoryQuery create(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 		Neo4jQueryMethod queryMethod) {
 		return new ReactivePartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
@@ -58,11 +66,22 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree));
 
 		this.tree = tree;
+		this.typeOfValueComputedOnServer = getTypeOfValueComputedOnServer(this.queryType, queryMethod);
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
 	}
 
+	@Override
+	protected Class<?> getResultType(ResultProcessor resultProcessor) {
+		return typeOfValueComputedOnServer == null ? super.getResultType(resultProcessor) : typeOfValueComputedOnServer;
+	}
+
+	@Override
+	protected boolean returnsSingleValue() {
+		return typeOfValueComputedOnServer != null;
+	}
+
 	@Override
 	protected <T extends Object> PreparedQuery<T> prepareQuery(
 		Class<T> returnedType, List<String> includedProperties, Neo4jParameterAccessor parameterAccessor,
@@ -72,7 +91,9 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
-			this::convertParameter
+			this::convertParameter,
+			queryMethod.isSliceQuery(),
+			typeOfValueComputedOnServer != null
 		);
 
 		QueryAndParameters queryAndParameters = queryCreator.createQuery();
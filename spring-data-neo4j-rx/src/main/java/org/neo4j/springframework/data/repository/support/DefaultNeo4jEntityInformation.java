@@ -18,6 +18,7 @@
  */
 package org.neo4j.springframework.data.repository.support;
 
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.repository.core.support.PersistentEntityInformation;
 
@@ -33,9 +34,12 @@ final class DefaultNeo4jEntityInformation<T, ID> extends PersistentEntityInforma
 
 	private final Neo4jPersistentEntity<T> entityMetaData;
 
-	DefaultNeo4jEntityInformation(Neo4jPersistentEntity<T> entityMetaData) {
+	private final Neo4jConverter converter;
+
+	DefaultNeo4jEntityInformation(Neo4jPersistentEntity<T> entityMetaData, Neo4jConverter converter) {
 		super(entityMetaData);
 		this.entityMetaData = entityMetaData;
+		this.converter = converter;
 	}
 
 	/*
@@ -46,4 +50,11 @@ final class DefaultNeo4jEntityInformation<T, ID> extends PersistentEntityInforma
 	public Neo4jPersistentEntity<T> getEntityMetaData() {
 		return this.entityMetaData;
 	}
+
+	/**
+	 * @return The converter of the mapping context the entity belongs to
+	 */
+	Neo4jConverter getConverter() {
+		return this.converter;
+	}
 }
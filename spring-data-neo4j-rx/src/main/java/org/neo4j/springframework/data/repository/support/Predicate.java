@@ -35,7 +35,6 @@ import org.neo4j.springframework.data.core.cypher.Conditions;
 import org.neo4j.springframework.data.core.cypher.Cypher;
 import org.neo4j.springframework.data.core.cypher.Expression;
 import org.neo4j.springframework.data.core.cypher.Functions;
-import org.neo4j.springframework.data.core.cypher.StatementBuilder;
 import org.neo4j.springframework.data.core.cypher.SymbolicName;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
@@ -103,7 +102,8 @@ final class Predicate {
 				log.error("Querying by example does not support traversing of relationships.");
 			} else if (graphProperty.isIdProperty() && probeNodeDescription.isUsingInternalIds()) {
 				predicate
-					.add(mode, predicate.neo4jPersistentEntity.getIdExpression().isEqualTo(literalOf(optionalValue.get())));
+					.add(mode, predicate.neo4jPersistentEntity.getIdExpression().isEqualTo(parameter(propertyName)));
+				predicate.parameters.put(propertyName, optionalValue.get());
 			} else {
 				Expression property = property(rootNode, propertyName);
 				Expression parameter = parameter(propertyName);
@@ -159,8 +159,7 @@ final class Predicate {
 		this.neo4jPersistentEntity = neo4jPersistentEntity;
 	}
 
-	StatementBuilder.OrderableOngoingReadingAndWith useWithReadingFragment(
-		BiFunction<NodeDescription<?>, Condition, StatementBuilder.OrderableOngoingReadingAndWith> readingFragmentSupplier) {
+	<T> T useWithReadingFragment(BiFunction<NodeDescription<?>, Condition, T> readingFragmentSupplier) {
 		return readingFragmentSupplier.apply(this.neo4jPersistentEntity, this.condition);
 	}
 
@@ -62,7 +62,7 @@ final class ReactiveNeo4jRepositoryFactory extends RepositoryFactorySupport {
 	public <T, ID> Neo4jEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
 
 		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainClass);
-		return new DefaultNeo4jEntityInformation<>((Neo4jPersistentEntity<T>) entity);
+		return new DefaultNeo4jEntityInformation<>((Neo4jPersistentEntity<T>) entity, mappingContext.getConverter());
 	}
 
 	@Override
@@ -21,23 +21,32 @@ package org.neo4j.springframework.data.repository.support;
 import static java.util.stream.Collectors.*;
 import static org.neo4j.springframework.data.repository.query.CypherAdapterUtils.*;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.cypher.Condition;
+import org.neo4j.springframework.data.core.cypher.Conditions;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder.OngoingReadingAndReturn;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.repository.query.KeysetPageRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -64,12 +73,22 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	private final CypherGenerator cypherGenerator;
 
+	/**
+	 * Used to write the keys of keyset page requests. Only available when the entity information has been created by
+	 * one of our repository factories.
+	 */
+	@Nullable
+	private final Neo4jConverter converter;
+
 	protected SimpleNeo4jRepository(Neo4jOperations neo4jOperations, Neo4jEntityInformation<T, ID> entityInformation) {
 
 		this.neo4jOperations = neo4jOperations;
 		this.entityInformation = entityInformation;
 		this.entityMetaData = this.entityInformation.getEntityMetaData();
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.converter = entityInformation instanceof DefaultNeo4jEntityInformation ?
+			((DefaultNeo4jEntityInformation<T, ID>) entityInformation).getConverter() :
+			null;
 	}
 
 	@Override
@@ -104,7 +123,7 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 	@Override
 	public Page<T> findAll(Pageable pageable) {
 
-		OngoingReadingAndReturn returning = cypherGenerator.prepareMatchOf(entityMetaData)
+		OngoingReadingAndReturn returning = cypherGenerator.prepareMatchOf(entityMetaData, keysetConditionFor(pageable))
 			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData));
 
 		StatementBuilder.BuildableStatement returningWithPaging =
@@ -112,11 +131,55 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 		Statement statement = returningWithPaging.build();
 
-		List<T> allResult = this.neo4jOperations.findAll(statement, entityInformation.getJavaType());
+		List<T> allResult = this.neo4jOperations
+			.findAll(statement, keysetParametersFor(pageable), entityInformation.getJavaType());
 		LongSupplier totalCountSupplier = this::count;
 		return PageableExecutionUtils.getPage(allResult, pageable, totalCountSupplier);
 	}
 
+	/**
+	 * Loads the slice of entities selected by the given keyset page request without counting all entities.
+	 *
+	 * @param pageRequest The page request
+	 * @return A slice of entities
+	 * @see KeysetPageRequest
+	 */
+	public Slice<T> findAll(KeysetPageRequest pageRequest) {
+
+		int pageSize = pageRequest.getPageSize();
+
+		// Fetch one element more than requested to determine if there's a next slice without counting
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, keysetConditionFor(pageRequest))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.orderBy(toKeysetSortItems(entityMetaData, pageRequest.getSort()))
+			.limit(pageSize + 1)
+			.build();
+
+		List<T> allResult = this.neo4jOperations
+			.findAll(statement, keysetParametersFor(pageRequest), entityInformation.getJavaType());
+		boolean hasNext = allResult.size() > pageSize;
+		return new SliceImpl<>(hasNext ? allResult.subList(0, pageSize) : allResult, pageRequest, hasNext);
+	}
+
+	private Condition keysetConditionFor(Pageable pageable) {
+
+		return pageable instanceof KeysetPageRequest ?
+			createKeysetCondition(entityMetaData, (KeysetPageRequest) pageable) :
+			Conditions.noCondition();
+	}
+
+	private Map<String, Object> keysetParametersFor(Pageable pageable) {
+
+		if (!(pageable instanceof KeysetPageRequest)) {
+			return Collections.emptyMap();
+		}
+
+		KeysetPageRequest pageRequest = (KeysetPageRequest) pageable;
+		return converter == null ?
+			createKeysetParameters(pageRequest) :
+			createKeysetParameters(entityMetaData, pageRequest, converter);
+	}
+
 	@Override
 	public long count() {
 
@@ -125,7 +188,7 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		return this.neo4jOperations.existsById(id, this.entityInformation.getJavaType());
 	}
 
 	@Override
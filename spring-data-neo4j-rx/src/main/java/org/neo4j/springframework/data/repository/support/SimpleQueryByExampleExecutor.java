@@ -26,7 +26,6 @@ import java.util.Optional;
 import java.util.function.LongSupplier;
 
 import org.neo4j.springframework.data.core.Neo4jOperations;
-import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder.BuildableStatement;
@@ -99,9 +98,7 @@ class SimpleQueryByExampleExecutor<T> implements QueryByExampleExecutor<T> {
 	public <S extends T> long count(Example<S> example) {
 
 		Predicate predicate = Predicate.create(mappingContext, example);
-		Statement statement = predicate.useWithReadingFragment(cypherGenerator::prepareMatchOf)
-			.returning(Functions.count(asterisk()))
-			.build();
+		Statement statement = predicate.useWithReadingFragment(cypherGenerator::prepareCountOf);
 
 		return this.neo4jOperations.count(statement, predicate.getParameters());
 	}
@@ -25,16 +25,20 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.repository.query.KeysetPageRequest;
 import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -61,6 +65,13 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 
 	private final CypherGenerator cypherGenerator;
 
+	/**
+	 * Used to write the keys of keyset page requests. Only available when the entity information has been created by
+	 * one of our repository factories.
+	 */
+	@Nullable
+	private final Neo4jConverter converter;
+
 	protected SimpleReactiveNeo4jRepository(ReactiveNeo4jOperations neo4jOperations,
 		Neo4jEntityInformation<T, ID> entityInformation) {
 
@@ -68,6 +79,9 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		this.entityInformation = entityInformation;
 		this.entityMetaData = this.entityInformation.getEntityMetaData();
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.converter = entityInformation instanceof DefaultNeo4jEntityInformation ?
+			((DefaultNeo4jEntityInformation<T, ID>) entityInformation).getConverter() :
+			null;
 	}
 
 	@Override
@@ -108,6 +122,32 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		return neo4jOperations.findAll(statement, this.entityInformation.getJavaType());
 	}
 
+	/**
+	 * Loads the entities on the page selected by the given keyset page request.
+	 *
+	 * @param pageRequest The page request
+	 * @return The entities on the page
+	 * @see KeysetPageRequest
+	 */
+	public Flux<T> findAll(KeysetPageRequest pageRequest) {
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData,
+			createKeysetCondition(entityMetaData, pageRequest))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.orderBy(toKeysetSortItems(entityMetaData, pageRequest.getSort()))
+			.limit(pageRequest.getPageSize())
+			.build();
+
+		return neo4jOperations
+			.findAll(statement, keysetParametersFor(pageRequest), this.entityInformation.getJavaType());
+	}
+
+	private Map<String, Object> keysetParametersFor(KeysetPageRequest pageRequest) {
+
+		return converter == null ?
+			createKeysetParameters(pageRequest) :
+			createKeysetParameters(entityMetaData, pageRequest, converter);
+	}
+
 	@Override
 	public Mono<Long> count() {
 
@@ -116,7 +156,7 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 
 	@Override
 	public Mono<Boolean> existsById(ID id) {
-		return findById(id).hasElement();
+		return this.neo4jOperations.existsById(id, this.entityInformation.getJavaType());
 	}
 
 	@Override
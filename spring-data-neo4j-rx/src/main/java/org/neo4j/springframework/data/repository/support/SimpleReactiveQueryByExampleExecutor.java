@@ -25,7 +25,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
-import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
@@ -93,9 +92,7 @@ class SimpleReactiveQueryByExampleExecutor<T> implements ReactiveQueryByExampleE
 	public <S extends T> Mono<Long> count(Example<S> example) {
 
 		Predicate predicate = Predicate.create(mappingContext, example);
-		Statement statement = predicate.useWithReadingFragment(cypherGenerator::prepareMatchOf)
-			.returning(Functions.count(asterisk()))
-			.build();
+		Statement statement = predicate.useWithReadingFragment(cypherGenerator::prepareCountOf);
 
 		return this.neo4jOperations.count(statement, predicate.getParameters());
 	}
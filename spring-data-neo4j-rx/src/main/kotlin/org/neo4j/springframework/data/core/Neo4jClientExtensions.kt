@@ -19,6 +19,7 @@
 package org.neo4j.springframework.data.core
 
 import java.util.function.BiFunction
+import java.util.stream.Stream
 import org.neo4j.driver.Record
 import org.neo4j.driver.types.TypeSystem
 
@@ -50,6 +51,10 @@ class KRecordFetchSpec<T : Any> (private val delegate: Neo4jClient.RecordFetchSp
     fun first(): T = delegate.first().orElse(null)
 
     fun all(): Collection<T> = delegate.all()
+
+    fun stream(): Stream<T> = delegate.stream()
+
+    fun stream(fetchSize: Long): Stream<T> = delegate.stream(fetchSize)
 }
 
 /**
@@ -65,6 +70,10 @@ class KMappingSpec<T : Any>(private val delegate: Neo4jClient.MappingSpec<T>) {
     fun first(): T = delegate.first().orElse(null)
 
     fun all(): Collection<T> = delegate.all()
+
+    fun stream(): Stream<T> = delegate.stream()
+
+    fun stream(fetchSize: Long): Stream<T> = delegate.stream(fetchSize)
 }
 
 /**
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncNeo4jClientTest {
+
+	@Mock
+	private Driver driver;
+
+	private ArgumentCaptor<SessionConfig> configArgumentCaptor = ArgumentCaptor.forClass(SessionConfig.class);
+
+	@Mock
+	private AsyncSession session;
+
+	@Mock
+	private TypeSystem typeSystem;
+
+	@Mock
+	private ResultCursor resultCursor;
+
+	@Mock
+	private ResultSummary resultSummary;
+
+	@Mock
+	private Record record1;
+
+	@Mock
+	private Record record2;
+
+	@BeforeEach
+	void prepareMocks() {
+
+		when(driver.asyncSession(any(SessionConfig.class))).thenReturn(session);
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	@AfterEach
+	void verifyNoMoreInteractionsWithMocks() {
+
+		verify(session).closeAsync();
+		verifyNoMoreInteractions(driver, session, resultCursor, resultSummary, record1, record2);
+	}
+
+	@Test
+	void shouldMapAllRecords() throws Exception {
+
+		when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.listAsync(any(Function.class))).thenAnswer(invocation -> {
+			Function<Record, ?> mapper = invocation.getArgument(0);
+			return CompletableFuture.completedFuture(
+				Arrays.asList(record1, record2).stream().map(mapper).collect(Collectors.toList()));
+		});
+		when(record1.get("name")).thenReturn(Values.value("michael"));
+		when(record2.get("name")).thenReturn(Values.value("gerrit"));
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+
+		Collection<String> names = client
+			.query("MATCH (u:User) WHERE u.name =~ $name RETURN u.name AS name")
+			.in("bikingDatabase")
+			.bind("M.*").to("name")
+			.fetchAs(String.class).mappedBy((t, r) -> r.get("name").asString())
+			.all()
+			.toCompletableFuture().get();
+
+		assertThat(names).containsExactly("michael", "gerrit");
+
+		verify(driver).asyncSession(configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().database()).contains("bikingDatabase");
+		verify(session).runAsync("MATCH (u:User) WHERE u.name =~ $name RETURN u.name AS name",
+			Collections.<String, Object>singletonMap("name", "M.*"));
+		verify(resultCursor).listAsync(any(Function.class));
+		verify(record1).get("name");
+		verify(record2).get("name");
+	}
+
+	@Test
+	void shouldFetchOneRecord() throws Exception {
+
+		when(session.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.peekAsync()).thenReturn(CompletableFuture.completedFuture(record1));
+		when(resultCursor.singleAsync()).thenReturn(CompletableFuture.completedFuture(record1));
+		when(record1.asMap()).thenReturn(Collections.<String, Object>singletonMap("name", "michael"));
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+
+		Optional<Map<String, Object>> user = client
+			.query("MATCH (u:User) RETURN u.name AS name LIMIT 1")
+			.fetch()
+			.one()
+			.toCompletableFuture().get();
+
+		assertThat(user).hasValue(Collections.<String, Object>singletonMap("name", "michael"));
+
+		verify(driver).asyncSession(any(SessionConfig.class));
+		verify(session).runAsync("MATCH (u:User) RETURN u.name AS name LIMIT 1", Collections.emptyMap());
+		verify(resultCursor).peekAsync();
+		verify(resultCursor).singleAsync();
+		verify(record1).asMap();
+	}
+
+	@Test
+	void shouldTranslateExceptions() {
+
+		CompletableFuture<ResultCursor> failedRun = new CompletableFuture<>();
+		failedRun.completeExceptionally(new ServiceUnavailableException("Database is gone."));
+		when(session.runAsync(anyString(), anyMap())).thenReturn(failedRun);
+
+		AsyncNeo4jClient client = AsyncNeo4jClient.create(driver);
+
+		assertThatExceptionOfType(ExecutionException.class)
+			.isThrownBy(() -> client.query("RETURN 1").run().toCompletableFuture().get())
+			.withCauseInstanceOf(NonTransientDataAccessResourceException.class);
+
+		verify(driver).asyncSession(any(SessionConfig.class));
+		verify(session).runAsync("RETURN 1", Collections.emptyMap());
+	}
+}
@@ -21,9 +21,13 @@ package org.neo4j.springframework.data.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.convert.ResultScopedMappingFunction;
 
 /**
  * @author Michael J. Simons
@@ -44,4 +48,34 @@ class DelegatingMappingFunctionWithNullCheckTest {
 		assertThatIllegalStateException().isThrownBy(() -> function.apply(mock(TypeSystem.class), mock(Record.class)))
 			.withMessageMatching("Mapping function .* returned illegal null value for record .*");
 	}
+
+	@Test
+	void shouldScopeDelegatesToResults() {
+
+		AtomicInteger numberOfResults = new AtomicInteger();
+		ResultScopedMappingFunction<Integer> delegate = new ResultScopedMappingFunction<Integer>() {
+			@Override
+			public Integer apply(TypeSystem typeSystem, Record record) {
+				return 0;
+			}
+
+			@Override
+			public BiFunction<TypeSystem, Record, Integer> scopedToResult() {
+				int result = numberOfResults.incrementAndGet();
+				return (typeSystem, record) -> result;
+			}
+		};
+
+		DelegatingMappingFunctionWithNullCheck<Integer> function = new DelegatingMappingFunctionWithNullCheck<>(delegate);
+		assertThat(function.apply(mock(TypeSystem.class), mock(Record.class))).isEqualTo(0);
+		assertThat(function.scopedToResult().apply(mock(TypeSystem.class), mock(Record.class))).isEqualTo(1);
+		assertThat(function.scopedToResult().apply(mock(TypeSystem.class), mock(Record.class))).isEqualTo(2);
+	}
+
+	@Test
+	void shouldNotScopeStatelessDelegates() {
+		DelegatingMappingFunctionWithNullCheck<String> function = new DelegatingMappingFunctionWithNullCheck<>(
+			(typeSystem, record) -> "Tada.");
+		assertThat(function.scopedToResult()).isSameAs(function);
+	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Michael J. Simons
+ */
+class IngestSummaryTest {
+
+	@Test
+	void shouldAggregateBatches() {
+
+		IngestSummary summary = IngestSummary.EMPTY
+			.withBatch(1_000, Duration.ofMillis(100).toNanos())
+			.withBatch(1_000, Duration.ofMillis(300).toNanos())
+			.withBatch(500, Duration.ofMillis(50).toNanos())
+			.withElapsedTime(Duration.ofSeconds(1).toNanos());
+
+		assertThat(summary.getNumberOfEntities()).isEqualTo(2_500L);
+		assertThat(summary.getNumberOfBatches()).isEqualTo(3L);
+		assertThat(summary.getElapsedTime()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(summary.getAverageBatchLatency()).isEqualTo(Duration.ofMillis(150));
+		assertThat(summary.getMaxBatchLatency()).isEqualTo(Duration.ofMillis(300));
+		assertThat(summary.getThroughput()).isEqualTo(2_500.0);
+	}
+
+	@Test
+	void emptySummaryShouldNotDivideByZero() {
+
+		assertThat(IngestSummary.EMPTY.getAverageBatchLatency()).isEqualTo(Duration.ZERO);
+		assertThat(IngestSummary.EMPTY.getThroughput()).isEqualTo(0.0);
+	}
+}
@@ -31,8 +31,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.assertj.core.matcher.AssertionMatcher;
@@ -45,13 +47,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
 
 /**
  * @author Michael J. Simons
@@ -300,6 +309,40 @@ class Neo4jClientTest {
 			verify(session).close();
 		}
 
+		@Test
+		void streaming() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.hasNext()).thenReturn(true, true, false);
+			when(result.next()).thenReturn(record1, record2);
+			when(record1.get("name")).thenReturn(Values.value("michael"));
+			when(record2.get("name")).thenReturn(Values.value("gerrit"));
+
+			Neo4jClient client = Neo4jClient.create(driver);
+
+			BikeOwnerReader mappingFunction = new BikeOwnerReader();
+			try (Stream<BikeOwner> bikeOwners = client
+				.query("MATCH (o:User) RETURN o")
+				.fetchAs(BikeOwner.class).mappedBy(mappingFunction)
+				.stream(10)) {
+
+				verify(session, never()).close();
+				assertThat(bikeOwners).extracting(BikeOwner::getName).containsExactly("michael", "gerrit");
+			}
+
+			verify(driver).session(configArgumentCaptor.capture());
+			assertThat(configArgumentCaptor.getValue().fetchSize()).contains(10L);
+
+			verify(session).run(eq("MATCH (o:User) RETURN o"), argThat(new MapAssertionMatcher(Collections.emptyMap())));
+			verify(result, times(3)).hasNext();
+			verify(result, times(2)).next();
+			verify(record1).get("name");
+			verify(record2).get("name");
+			verify(session).close();
+		}
+
 		@Test
 		void writing() {
 
@@ -389,6 +432,190 @@ class Neo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	void preparedStatementsShouldBeExecutedWithValidatedParameters() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+
+		Node bike = Cypher.node("Bike").named("b");
+		PreparedStatement preparedStatement = PreparedStatement.of(Cypher.match(bike)
+			.where(bike.property("name").isEqualTo(Cypher.parameter("name")))
+			.detachDelete(bike)
+			.build());
+
+		Neo4jClient client = Neo4jClient.create(driver);
+		client
+			.query(preparedStatement)
+			.bind("fixie").to("name")
+			.run();
+
+		verifyDatabaseSelection(null);
+
+		Map<String, Object> expectedParameters = new HashMap<>();
+		expectedParameters.put("name", "fixie");
+
+		verify(session).run(eq("MATCH (b:`Bike`) WHERE b.name = $name DETACH DELETE b"),
+			argThat(new MapAssertionMatcher(expectedParameters)));
+		verify(result).consume();
+		verify(session).close();
+	}
+
+	@Test
+	void preparedStatementsShouldRejectMissingParameters() {
+
+		prepareMocks();
+
+		Node bike = Cypher.node("Bike").named("b");
+		PreparedStatement preparedStatement = PreparedStatement.of(Cypher.match(bike)
+			.where(bike.property("name").isEqualTo(Cypher.parameter("name")))
+			.returning(bike)
+			.build());
+
+		Neo4jClient client = Neo4jClient.create(driver);
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> client.query(preparedStatement).fetch().all())
+			.withMessage("No value bound to the declared parameter(s) [name].");
+
+		verifyDatabaseSelection(null);
+		verify(session).close();
+	}
+
+	@Test
+	void batchesShouldBePipelinedInOneTransaction(@Mock AsyncSession asyncSession,
+		@Mock AsyncTransaction asyncTransaction, @Mock ResultCursor resultCursor) {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.asyncSession(any(SessionConfig.class))).thenReturn(asyncSession);
+		when(asyncSession.beginTransactionAsync()).thenReturn(CompletableFuture.completedFuture(asyncTransaction));
+		when(asyncTransaction.runAsync(anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(resultCursor));
+		when(resultCursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(resultSummary));
+		when(asyncTransaction.commitAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		when(asyncSession.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		List<ResultSummary> summaries = client.batch()
+			.add("CREATE (b:Bike {name: $name})", Collections.singletonMap("name", "fixie"))
+			.add("CREATE (b:Bike {name: $name})", Collections.singletonMap("name", "mtb"))
+			.add("MATCH (b:Bike) SET b.checked = true")
+			.run();
+
+		assertThat(summaries).containsExactly(resultSummary, resultSummary, resultSummary);
+
+		verify(driver).asyncSession(configArgumentCaptor.capture());
+		assertThat(configArgumentCaptor.getValue().database()).isEmpty();
+
+		verify(asyncTransaction).runAsync(eq("CREATE (b:Bike {name: $name})"),
+			argThat(new MapAssertionMatcher(Collections.singletonMap("name", "fixie"))));
+		verify(asyncTransaction).runAsync(eq("CREATE (b:Bike {name: $name})"),
+			argThat(new MapAssertionMatcher(Collections.singletonMap("name", "mtb"))));
+		verify(asyncTransaction).runAsync(eq("MATCH (b:Bike) SET b.checked = true"),
+			argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(resultCursor, times(3)).consumeAsync();
+		verify(asyncTransaction).commitAsync();
+		verify(asyncSession).closeAsync();
+		verifyNoMoreInteractions(asyncSession, asyncTransaction, resultCursor);
+	}
+
+	@Test
+	void preparedStatementsShouldBeSupportedByClientsNotImplementingThem() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+
+		Node bike = Cypher.node("Bike").named("b");
+		PreparedStatement preparedStatement = PreparedStatement.of(Cypher.match(bike)
+			.where(bike.property("name").isEqualTo(Cypher.parameter("name")))
+			.detachDelete(bike)
+			.build());
+
+		Neo4jClient client = withDefaultMethodsOnly(Neo4jClient.create(driver));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> client.query(preparedStatement).bind("fixie").to("brand").run())
+			.withMessage("Statement does not declare the parameter(s) [brand]. Declared parameters are [name].");
+
+		client
+			.query(preparedStatement)
+			.bind("fixie").to("name")
+			.run();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq("MATCH (b:`Bike`) WHERE b.name = $name DETACH DELETE b"),
+			argThat(new MapAssertionMatcher(Collections.singletonMap("name", "fixie"))));
+		verify(result).consume();
+		verify(session).close();
+	}
+
+	@Test
+	void batchesShouldRunOneAfterAnotherWithClientsNotImplementingThem() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.consume()).thenReturn(resultSummary);
+
+		Neo4jClient client = withDefaultMethodsOnly(Neo4jClient.create(driver));
+
+		List<ResultSummary> summaries = client.batch()
+			.add("CREATE (b:Bike {name: $name})", Collections.singletonMap("name", "fixie"))
+			.add("MATCH (b:Bike) SET b.checked = true")
+			.run();
+
+		assertThat(summaries).containsExactly(resultSummary, resultSummary);
+
+		verify(driver, times(2)).session(any(SessionConfig.class));
+		verify(session).run(eq("CREATE (b:Bike {name: $name})"),
+			argThat(new MapAssertionMatcher(Collections.singletonMap("name", "fixie"))));
+		verify(session).run(eq("MATCH (b:Bike) SET b.checked = true"),
+			argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(result, times(2)).consume();
+		verify(session, times(2)).close();
+	}
+
+	@Test
+	void streamsShouldBeSupportedByFetchSpecsNotImplementingThem() {
+
+		Neo4jClient.RecordFetchSpec<String> fetchSpec = mock(Neo4jClient.RecordFetchSpec.class, CALLS_REAL_METHODS);
+		doReturn(Arrays.asList("a", "b")).when(fetchSpec).all();
+
+		try (Stream<String> records = fetchSpec.stream()) {
+			assertThat(records).containsExactly("a", "b");
+		}
+		try (Stream<String> records = fetchSpec.stream(1L)) {
+			assertThat(records).containsExactly("a", "b");
+		}
+	}
+
+	/**
+	 * @param delegate The client to delegate to
+	 * @return A client that only implements the abstract methods, so that all default methods are used
+	 */
+	static Neo4jClient withDefaultMethodsOnly(Neo4jClient delegate) {
+
+		return new Neo4jClient() {
+			@Override
+			public RunnableSpec query(String cypher) {
+				return delegate.query(cypher);
+			}
+
+			@Override
+			public RunnableSpec query(Supplier<String> cypherSupplier) {
+				return delegate.query(cypherSupplier);
+			}
+
+			@Override
+			public <T> OngoingDelegation<T> delegateTo(Function<QueryRunner, Optional<T>> callback) {
+				return delegate.delegateTo(callback);
+			}
+		};
+	}
+
 	static class BikeOwner {
 
 		private final String name;
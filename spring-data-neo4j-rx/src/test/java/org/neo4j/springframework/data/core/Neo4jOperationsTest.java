@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Makes sure the default methods of {@link Neo4jOperations} work for implementations only providing the abstract ones.
+ *
+ * @author Michael J. Simons
+ */
+class Neo4jOperationsTest {
+
+	private final Neo4jOperations operations = mock(Neo4jOperations.class, CALLS_REAL_METHODS);
+
+	@Test
+	void ingestShouldSaveBatchesWithOperationsNotImplementingIt() {
+
+		List<Integer> sizesOfSavedBatches = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<?> batch = invocation.getArgument(0);
+			sizesOfSavedBatches.add(batch.size());
+			return batch;
+		}).when(operations).saveAll(any());
+
+		IngestSummary summary = operations.ingest(IntStream.range(0, 2_500).boxed());
+
+		assertThat(sizesOfSavedBatches).containsExactly(1_000, 1_000, 500);
+		assertThat(summary.getNumberOfEntities()).isEqualTo(2_500L);
+		assertThat(summary.getNumberOfBatches()).isEqualTo(3L);
+	}
+
+	@Test
+	void deletingInBatchesShouldNotBeSupportedByOperationsNotImplementingIt() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> operations.deleteAllInBatches(Object.class, 10))
+			.withMessageEndingWith("does not support deleting in batches.");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> operations.deleteAllByIdInBatches(Arrays.asList(1L, 2L), Object.class, 10))
+			.withMessageEndingWith("does not support deleting in batches.");
+	}
+
+	@Test
+	void existsByIdShouldLoadEntitiesWithOperationsNotImplementingIt() {
+
+		doReturn(Optional.of("an entity")).when(operations).findById(1L, String.class);
+		doReturn(Optional.empty()).when(operations).findById(2L, String.class);
+
+		assertThat(operations.existsById(1L, String.class)).isTrue();
+		assertThat(operations.existsById(2L, String.class)).isFalse();
+	}
+
+	@Test
+	void resultStreamsShouldBeSupportedByQueriesNotImplementingThem() {
+
+		Neo4jOperations.ExecutableQuery<String> query = mock(Neo4jOperations.ExecutableQuery.class, CALLS_REAL_METHODS);
+		doReturn(Arrays.asList("a", "b")).when(query).getResults();
+
+		try (Stream<String> results = query.getResultStream()) {
+			assertThat(results).containsExactly("a", "b");
+		}
+	}
+}
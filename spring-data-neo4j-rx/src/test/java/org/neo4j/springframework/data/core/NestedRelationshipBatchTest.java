@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.neo4j.springframework.data.core.schema.CypherGenerator.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.schema.Relationship;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+
+/**
+ * @author Michael J. Simons
+ */
+class NestedRelationshipBatchTest {
+
+	private Neo4jMappingContext mappingContext;
+
+	private Neo4jPersistentEntity<?> parentEntity;
+
+	private Association<Neo4jPersistentProperty> association;
+
+	@BeforeEach
+	void setupMappingContext() {
+
+		mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(ParentNode.class, ChildNode.class)));
+		mappingContext.setRelationshipChangeTracking(true);
+		mappingContext.initialize();
+
+		parentEntity = mappingContext.getPersistentEntity(ParentNode.class);
+		List<Association<Neo4jPersistentProperty>> associations = new ArrayList<>();
+		parentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) associations::add);
+		association = associations.get(0);
+	}
+
+	@Test
+	void idsOfParentsShouldBeConverted() {
+
+		ParentNode parent = new ParentNode();
+		parent.children = Collections.singletonList(new ChildNode());
+
+		NestedRelationshipBatch batch = NestedRelationshipBatch
+			.of(mappingContext, parentEntity, association, Collections.singletonList(parent));
+		assertThat(batch.getIdsOfExistingParents()).containsExactly(Values.value(parent.id.toString()));
+
+		batch.setInternalIdsOfRelatedNodes(Collections.singletonList(23L));
+		List<RelationshipStatementHolder> statements = batch.createRelationshipStatements();
+		assertThat(statements).hasSize(1);
+		assertThat(getRelationships(statements.get(0))).containsExactly(
+			relationship(Values.value(parent.id.toString()), 23L));
+	}
+
+	@Test
+	void idsOfRemovedRelationshipsShouldBeConverted() {
+
+		ChildNode removedChild = new ChildNode();
+		ParentNode parent = new ParentNode();
+		parent.children = Collections.singletonList(removedChild);
+		mappingContext.getRelationshipChangeTracker().snapshot(parentEntity, parent);
+		parent.children = Collections.singletonList(new ChildNode());
+
+		NestedRelationshipBatch batch = NestedRelationshipBatch
+			.of(mappingContext, parentEntity, association, Collections.singletonList(parent));
+		assertThat(batch.getIdsOfExistingParents()).isEmpty();
+
+		List<RelationshipStatementHolder> deleteStatements = batch.createRelationshipDeleteStatements();
+		assertThat(deleteStatements).hasSize(1);
+		assertThat(getRelationships(deleteStatements.get(0))).containsExactly(
+			relationship(Values.value(parent.id.toString()), Values.value(removedChild.id.toString())));
+
+		batch.setInternalIdsOfRelatedNodes(Collections.singletonList(42L));
+		List<RelationshipStatementHolder> statements = batch.createRelationshipStatements();
+		assertThat(statements).hasSize(1);
+		assertThat(getRelationships(statements.get(0))).containsExactly(
+			relationship(Values.value(parent.id.toString()), 42L));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> getRelationships(RelationshipStatementHolder statementHolder) {
+		return (List<Map<String, Object>>) statementHolder.getParameters().get(RELATIONSHIPS_PARAMETER_NAME);
+	}
+
+	private static Map<String, Object> relationship(Object fromId, Object toId) {
+
+		Map<String, Object> relationship = new HashMap<>();
+		relationship.put(FROM_ID_PARAMETER_NAME, fromId);
+		relationship.put(TO_ID_PARAMETER_NAME, toId);
+		return relationship;
+	}
+
+	@Node
+	static class ParentNode {
+
+		@Id
+		UUID id = UUID.randomUUID();
+
+		@Relationship("HAS")
+		List<ChildNode> children;
+	}
+
+	@Node
+	static class ChildNode {
+
+		@Id
+		UUID id = UUID.randomUUID();
+	}
+}
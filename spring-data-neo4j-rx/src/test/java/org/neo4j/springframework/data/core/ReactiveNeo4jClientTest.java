@@ -32,6 +32,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +47,7 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.reactive.RxQueryRunner;
 import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.reactive.RxTransaction;
@@ -55,6 +58,9 @@ import org.neo4j.springframework.data.core.Neo4jClientTest.BikeOwner;
 import org.neo4j.springframework.data.core.Neo4jClientTest.BikeOwnerBinder;
 import org.neo4j.springframework.data.core.Neo4jClientTest.BikeOwnerReader;
 import org.neo4j.springframework.data.core.Neo4jClientTest.MapAssertionMatcher;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.renderer.PreparedStatement;
 
 /**
  * @author Michael J. Simons
@@ -449,6 +455,118 @@ class ReactiveNeo4jClientTest {
 		verify(session).close();
 	}
 
+	@Test
+	void singleStatementsShouldRunAsAutoCommitQueries() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(session.close()).thenReturn(Mono.empty());
+		when(result.records()).thenReturn(Flux.just(record1, record2));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver, true);
+
+		StepVerifier.create(client.query("MATCH (n) RETURN n").fetch().all())
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq("MATCH (n) RETURN n"), argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(result).records();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	void sharedSessionsShouldBeUsedByAllStatementsOfAChain() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(session.close()).thenReturn(Mono.empty());
+		when(result.records()).thenReturn(Flux.just(record1), Flux.just(record2));
+
+		ReactiveNeo4jClient client = ReactiveNeo4jClient.create(driver);
+
+		Flux<Map<String, Object>> chain = client.withSharedSession(null, client
+			.query("MATCH (n:Bike) RETURN n").fetch().one()
+			.concatWith(client.query("MATCH (n:User) RETURN n").fetch().one()));
+
+		StepVerifier.create(chain)
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq("MATCH (n:Bike) RETURN n"), argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(session).run(eq("MATCH (n:User) RETURN n"), argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(result, times(2)).records();
+		verify(record1).asMap();
+		verify(record2).asMap();
+		verify(session).close();
+	}
+
+	@Test
+	void preparedStatementsShouldBeSupportedByClientsNotImplementingThem() {
+
+		when(driver.defaultTypeSystem()).thenReturn(typeSystem);
+		when(driver.rxSession(any(SessionConfig.class))).thenReturn(session);
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(session.close()).thenReturn(Mono.empty());
+		when(result.records()).thenReturn(Flux.just(record1));
+
+		Node bike = Cypher.node("Bike").named("b");
+		PreparedStatement preparedStatement = PreparedStatement.of(Cypher.match(bike)
+			.where(bike.property("name").isEqualTo(Cypher.parameter("name")))
+			.returning(bike)
+			.build());
+
+		ReactiveNeo4jClient client = withDefaultMethodsOnly(ReactiveNeo4jClient.create(driver, true));
+
+		Flux<Map<String, Object>> bikesWithoutName = client.query(preparedStatement).fetch().all();
+		StepVerifier.create(bikesWithoutName)
+			.expectErrorMessage("No value bound to the declared parameter(s) [name].")
+			.verify();
+
+		StepVerifier.create(client.query(preparedStatement).bind("fixie").to("name").fetch().all())
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq("MATCH (b:`Bike`) WHERE b.name = $name RETURN b"),
+			argThat(new MapAssertionMatcher(Collections.singletonMap("name", "fixie"))));
+		verify(result).records();
+		verify(record1).asMap();
+		verify(session).close();
+	}
+
+	/**
+	 * @param delegate The client to delegate to
+	 * @return A client that only implements the abstract methods, so that all default methods are used
+	 */
+	static ReactiveNeo4jClient withDefaultMethodsOnly(ReactiveNeo4jClient delegate) {
+
+		return new ReactiveNeo4jClient() {
+			@Override
+			public RunnableSpec query(String cypher) {
+				return delegate.query(cypher);
+			}
+
+			@Override
+			public RunnableSpec query(Supplier<String> cypherSupplier) {
+				return delegate.query(cypherSupplier);
+			}
+
+			@Override
+			public <T> OngoingDelegation<T> delegateTo(Function<RxQueryRunner, Mono<T>> callback) {
+				return delegate.delegateTo(callback);
+			}
+		};
+	}
+
 	void verifyDatabaseSelection(String targetDatabase) {
 
 		verify(driver).rxSession(configArgumentCaptor.capture());
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Makes sure the default methods of {@link ReactiveNeo4jOperations} work for implementations only providing the
+ * abstract ones.
+ *
+ * @author Michael J. Simons
+ */
+class ReactiveNeo4jOperationsTest {
+
+	private final ReactiveNeo4jOperations operations = mock(ReactiveNeo4jOperations.class, CALLS_REAL_METHODS);
+
+	@Test
+	void ingestShouldSaveBatchesWithOperationsNotImplementingIt() {
+
+		List<Integer> sizesOfSavedBatches = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<?> batch = invocation.getArgument(0);
+			sizesOfSavedBatches.add(batch.size());
+			return Flux.fromIterable(batch);
+		}).when(operations).saveAll(any());
+
+		operations.ingest(Flux.range(0, 2_500))
+			.as(StepVerifier::create)
+			.assertNext(summary -> {
+				assertThat(summary.getNumberOfEntities()).isEqualTo(2_500L);
+				assertThat(summary.getNumberOfBatches()).isEqualTo(3L);
+			})
+			.verifyComplete();
+
+		assertThat(sizesOfSavedBatches).containsExactly(1_000, 1_000, 500);
+	}
+
+	@Test
+	void deletingInBatchesShouldNotBeSupportedByOperationsNotImplementingIt() {
+
+		operations.deleteAllInBatches(Object.class, 10)
+			.as(StepVerifier::create)
+			.verifyError(UnsupportedOperationException.class);
+		operations.deleteAllByIdInBatches(Arrays.asList(1L, 2L), Object.class, 10)
+			.as(StepVerifier::create)
+			.verifyError(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void existsByIdShouldLoadEntitiesWithOperationsNotImplementingIt() {
+
+		doReturn(Mono.just("an entity")).when(operations).findById(1L, String.class);
+		doReturn(Mono.empty()).when(operations).findById(2L, String.class);
+
+		operations.existsById(1L, String.class)
+			.as(StepVerifier::create)
+			.expectNext(true)
+			.verifyComplete();
+		operations.existsById(2L, String.class)
+			.as(StepVerifier::create)
+			.expectNext(false)
+			.verifyComplete();
+	}
+}
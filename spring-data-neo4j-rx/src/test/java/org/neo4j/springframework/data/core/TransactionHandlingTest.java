@@ -82,7 +82,7 @@ class TransactionHandlingTest {
 		private Transaction transaction;
 
 		@Nested
-		class AutoCloseableQueryRunnerHandlerTest {
+		class AutoCloseableQueryRunnerTest {
 
 			@Test
 			void shouldCallCloseOnSession() {
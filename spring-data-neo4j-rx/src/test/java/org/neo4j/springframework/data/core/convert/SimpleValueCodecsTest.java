@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * @author Michael J. Simons
+ */
+class SimpleValueCodecsTest {
+
+	private final SimpleValueCodecs codecs = SimpleValueCodecs.of(new Neo4jConversions());
+
+	@Test
+	void shouldReadPrimitiveArrays() {
+
+		Value value = Values.value(new int[] { 1, 2, 3 });
+
+		assertThat(codecs.getCodecFor(int[].class).read(value)).containsExactly(1, 2, 3);
+		assertThat(codecs.getCodecFor(long[].class).read(value)).containsExactly(1L, 2L, 3L);
+		assertThat(codecs.getCodecFor(short[].class).read(value)).containsExactly((short) 1, (short) 2, (short) 3);
+		assertThat(codecs.getCodecFor(double[].class).read(Values.value(new double[] { 1.0, 2.5 })))
+			.containsExactly(1.0, 2.5);
+		assertThat(codecs.getCodecFor(boolean[].class).read(Values.value(new boolean[] { true, false })))
+			.containsExactly(true, false);
+		assertThat(codecs.getCodecFor(char[].class).read(Values.value("a", "b")))
+			.containsExactly('a', 'b');
+	}
+
+	@Test
+	void shouldReadAndWriteLikeTheConversionService() {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+		new Neo4jConversions().registerConvertersIn(conversionService);
+
+		float[] floats = { 1.5f, 2.5f };
+		Value writtenByCodec = codecs.getCodecFor(float[].class).write(floats);
+		assertThat(writtenByCodec).isEqualTo(conversionService.convert(floats, Value.class));
+		assertThat(codecs.getCodecFor(float[].class).read(writtenByCodec)).containsExactly(1.5f, 2.5f);
+
+		UUID uuid = UUID.randomUUID();
+		assertThat(codecs.getCodecFor(UUID.class).write(uuid)).isEqualTo(conversionService.convert(uuid, Value.class));
+		assertThat(codecs.getCodecFor(short.class).write((short) 42)).isEqualTo(Values.value(42L));
+	}
+
+	@Test
+	void shouldFailLikeTheConversionService() {
+
+		assertThatExceptionOfType(ConversionFailedException.class)
+			.isThrownBy(() -> codecs.getCodecFor(short[].class).read(Values.value(new long[] { 1L, Long.MAX_VALUE })));
+	}
+
+	@Test
+	void shouldNotProvideCodecsForTypesWithUserConverters() {
+
+		SimpleValueCodecs customizedCodecs = SimpleValueCodecs
+			.of(new Neo4jConversions(Collections.singletonList(new StringToValueConverter())));
+
+		assertThat(customizedCodecs.getCodecFor(String.class)).isNull();
+		assertThat(customizedCodecs.getCodecFor(long.class)).isNotNull();
+		assertThat(codecs.getCodecFor(String.class)).isNotNull();
+	}
+
+	@Test
+	void shouldNotProvideCodecsForOtherTypes() {
+
+		assertThat(codecs.getCodecFor(Object.class)).isNull();
+	}
+
+	private static class StringToValueConverter implements Converter<String, Value> {
+
+		@Override
+		public Value convert(String source) {
+			return Values.value(source.toUpperCase());
+		}
+	}
+}
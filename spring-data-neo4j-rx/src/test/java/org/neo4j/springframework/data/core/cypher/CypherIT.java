@@ -861,6 +861,38 @@ class CypherIT {
 
 		}
 
+		@Test
+		void chainingCompoundConditionsWithDifferentOperators() {
+
+			Condition nameOrAge = userNode.property("name").isEqualTo(literalOf("Test"))
+				.or(userNode.property("age").isEqualTo(literalOf(21)));
+			Condition idOrName = userNode.property("id").gt(literalOf(1))
+				.or(userNode.property("name").isEqualTo(literalOf("foobar")));
+
+			Statement statement = Cypher.match(userNode)
+				.where(nameOrAge.and(idOrName))
+				.returning(userNode)
+				.build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WHERE ((u.name = 'Test' OR u.age = 21) AND (u.id > 1 OR u.name = 'foobar')) RETURN u");
+
+			Condition nameAndAge = userNode.property("name").isEqualTo(literalOf("Test"))
+				.and(userNode.property("age").isEqualTo(literalOf(21)));
+			Condition idAndName = userNode.property("id").gt(literalOf(1))
+				.and(userNode.property("name").isEqualTo(literalOf("foobar")));
+
+			statement = Cypher.match(userNode)
+				.where(nameAndAge.or(idAndName))
+				.returning(userNode)
+				.build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WHERE ((u.name = 'Test' AND u.age = 21) OR (u.id > 1 AND u.name = 'foobar')) RETURN u");
+		}
+
 		@Test
 		void negatedConditions() {
 			Statement statement = Cypher.match(userNode)
@@ -977,6 +1009,20 @@ class CypherIT {
 					"MERGE (u:`User`) SET u.p = 'Hallo, Welt'");
 		}
 
+		@Test
+		void shouldRenderMutatingSet() {
+			Statement statement;
+			statement = Cypher.match(userNode)
+				.where(userNode.internalId().isEqualTo(parameter("id")))
+				.set(userNode.mutate(parameter("properties")))
+				.returning(userNode.internalId())
+				.build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WHERE id(u) = $id SET u += $properties RETURN id(u)");
+		}
+
 		@Test
 		void shouldRenderSetAfterCreateAndWith() {
 			Statement statement;
@@ -1459,6 +1505,16 @@ class CypherIT {
 				.isEqualTo(
 					"MATCH (u:`User`) WITH u DETACH DELETE u");
 
+			statement = Cypher.match(userNode)
+				.with(userNode)
+				.limit(parameter("batchSize"))
+				.detachDelete(userNode)
+				.build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WITH u LIMIT $batchSize DETACH DELETE u");
+
 			statement = Cypher.match(userNode)
 				.where(userNode.property("a").isNotNull()).and(userNode.property("b").isNull())
 				.delete(userNode)
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.Statement;
+
+/**
+ * @author Michael J. Simons
+ */
+class CypherRendererTest {
+
+	private static Statement findByName(String label, Object name) {
+
+		Node node = Cypher.node(label).named("n");
+		return Cypher.match(node)
+			.where(node.property("name").isEqualTo(Cypher.literalOf(name)))
+			.returning(node)
+			.build();
+	}
+
+	@Test
+	void structurallyEqualStatementsShouldHaveEqualFingerprints() {
+
+		assertThat(StatementFingerprint.of(findByName("Person", "Alice")))
+			.isEqualTo(StatementFingerprint.of(findByName("Person", "Alice")))
+			.isNotEqualTo(StatementFingerprint.of(findByName("Person", "Bob")))
+			.isNotEqualTo(StatementFingerprint.of(findByName("Movie", "Alice")));
+	}
+
+	@Test
+	void fingerprintsShouldReflectNodeIdentity() {
+
+		Node sameNode = Cypher.node("Bike").named("b");
+		Statement reusedNode = Cypher.match(sameNode).returning(sameNode).build();
+		Statement distinctNodes = Cypher.match(Cypher.node("Bike").named("b"))
+			.returning(Cypher.node("Bike").named("b")).build();
+
+		assertThat(StatementFingerprint.of(reusedNode)).isNotEqualTo(StatementFingerprint.of(distinctNodes));
+		assertThat(CypherRenderer.INSTANCE.render(reusedNode)).isEqualTo("MATCH (b:`Bike`) RETURN b");
+		assertThat(CypherRenderer.INSTANCE.render(distinctNodes)).isEqualTo("MATCH (b:`Bike`) RETURN (b:`Bike`)");
+	}
+
+	@Test
+	void shouldRenderStructurallyEqualStatementsOnlyOnce() {
+
+		StatementCacheStatistics before = CypherRenderer.INSTANCE.getCacheStatistics();
+
+		String first = CypherRenderer.INSTANCE.render(findByName("CacheTest", "Alice"));
+		String second = CypherRenderer.INSTANCE.render(findByName("CacheTest", "Alice"));
+
+		StatementCacheStatistics after = CypherRenderer.INSTANCE.getCacheStatistics();
+
+		assertThat(first).isEqualTo(second).isEqualTo("MATCH (n:`CacheTest`) WHERE n.name = 'Alice' RETURN n");
+		assertThat(after.getMissCount() - before.getMissCount()).isGreaterThanOrEqualTo(1L);
+		assertThat(after.getHitCount() - before.getHitCount()).isGreaterThanOrEqualTo(1L);
+	}
+
+	@Test
+	void shouldLiftLiteralsIntoParameters() {
+
+		RenderedStatement alice = CypherRenderer.INSTANCE.renderWithLiteralsAsParameters(findByName("Person", "Alice"));
+		RenderedStatement bob = CypherRenderer.INSTANCE.renderWithLiteralsAsParameters(findByName("Person", "Bob"));
+
+		assertThat(alice.getCypher())
+			.isEqualTo(bob.getCypher())
+			.isEqualTo("MATCH (n:`Person`) WHERE n.name = $__literal0__ RETURN n");
+		assertThat(alice.getParameters()).containsOnly(entry("__literal0__", "Alice"));
+		assertThat(bob.getParameters()).containsOnly(entry("__literal0__", "Bob"));
+	}
+
+	@Test
+	void shouldLiftSkipAndLimit() {
+
+		Node node = Cypher.node("Person").named("n");
+		Statement statement = Cypher.match(node).returning(node).skip(10).limit(20).build();
+
+		RenderedStatement renderedStatement = CypherRenderer.INSTANCE.renderWithLiteralsAsParameters(statement);
+		assertThat(renderedStatement.getCypher())
+			.isEqualTo("MATCH (n:`Person`) RETURN n SKIP $__literal0__ LIMIT $__literal1__");
+		assertThat(renderedStatement.getParameters())
+			.containsOnly(entry("__literal0__", 10), entry("__literal1__", 20));
+	}
+
+	@Test
+	void shouldRenderNumbersNotSupportedByTheDriverInline() {
+
+		RenderedStatement bigDecimal = CypherRenderer.INSTANCE
+			.renderWithLiteralsAsParameters(findByName("Person", new BigDecimal("4711.0815")));
+		assertThat(bigDecimal.getCypher()).isEqualTo("MATCH (n:`Person`) WHERE n.name = 4711.0815 RETURN n");
+		assertThat(bigDecimal.getParameters()).isEmpty();
+
+		RenderedStatement bigInteger = CypherRenderer.INSTANCE
+			.renderWithLiteralsAsParameters(findByName("Person", BigInteger.TEN));
+		assertThat(bigInteger.getCypher()).isEqualTo("MATCH (n:`Person`) WHERE n.name = 10 RETURN n");
+		assertThat(bigInteger.getParameters()).isEmpty();
+
+		RenderedStatement atomicLong = CypherRenderer.INSTANCE
+			.renderWithLiteralsAsParameters(findByName("Person", new AtomicLong(23L)));
+		assertThat(atomicLong.getCypher()).isEqualTo("MATCH (n:`Person`) WHERE n.name = 23 RETURN n");
+		assertThat(atomicLong.getParameters()).isEmpty();
+
+		RenderedStatement aLong = CypherRenderer.INSTANCE
+			.renderWithLiteralsAsParameters(findByName("Person", 23L));
+		assertThat(aLong.getCypher()).isEqualTo("MATCH (n:`Person`) WHERE n.name = $__literal0__ RETURN n");
+		assertThat(aLong.getParameters()).containsOnly(entry("__literal0__", 23L));
+	}
+
+	@Test
+	void additionalParametersShouldTakePrecedenceOverLiftedLiterals() {
+
+		RenderedStatement renderedStatement = CypherRenderer.INSTANCE
+			.renderWithLiteralsAsParameters(findByName("Person", "Alice"));
+
+		Map<String, Object> additionalParameters = new HashMap<>();
+		additionalParameters.put("__literal0__", "Bob");
+		additionalParameters.put("foo", "bar");
+		assertThat(renderedStatement.getParametersMergedWith(additionalParameters))
+			.containsOnly(entry("__literal0__", "Bob"), entry("foo", "bar"));
+		assertThat(renderedStatement.getParametersMergedWith(Collections.emptyMap()))
+			.containsOnly(entry("__literal0__", "Alice"));
+		assertThat(renderedStatement.getParameters()).containsOnly(entry("__literal0__", "Alice"));
+	}
+
+	@Test
+	void cacheShouldEvictLeastFrequentlyUsedEntries() {
+
+		StatementCache<String> cache = new StatementCache<>(2);
+		cache.computeIfAbsent("a", k -> k);
+		cache.computeIfAbsent("a", k -> k);
+		cache.computeIfAbsent("a", k -> k);
+		cache.computeIfAbsent("b", k -> k);
+		cache.computeIfAbsent("c", k -> k);
+
+		StatementCacheStatistics statistics = cache.getStatistics();
+		assertThat(statistics.getSize()).isEqualTo(2);
+		assertThat(statistics.getEvictionCount()).isEqualTo(1L);
+		assertThat(statistics.getHitCount()).isEqualTo(2L);
+		assertThat(statistics.getMissCount()).isEqualTo(3L);
+
+		cache.computeIfAbsent("a", k -> "recomputed");
+		assertThat(cache.getStatistics().getHitCount()).isEqualTo(3L);
+	}
+}
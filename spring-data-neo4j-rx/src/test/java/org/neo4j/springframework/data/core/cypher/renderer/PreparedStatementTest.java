@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.cypher.renderer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+
+/**
+ * @author Michael J. Simons
+ */
+class PreparedStatementTest {
+
+	private final Node node = Cypher.node("Person").named("n");
+
+	private final PreparedStatement preparedStatement = PreparedStatement.of(Cypher.match(node)
+		.where(node.property("name").isEqualTo(Cypher.parameter("name"))
+			.and(node.property("born").gt(Cypher.parameter("born"))))
+		.returning(node)
+		.limit(10)
+		.build());
+
+	@Test
+	void shouldProvideCypherAndDeclaredParameters() {
+
+		assertThat(preparedStatement.getCypher())
+			.isEqualTo("MATCH (n:`Person`) WHERE (n.name = $name AND n.born > $born) RETURN n LIMIT $__literal0__");
+		assertThat(preparedStatement.getParameterNames()).containsExactly("name", "born");
+	}
+
+	@Test
+	void shouldBindValuesAndLiftedLiterals() {
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("name", "Alice");
+		values.put("born", 1970);
+
+		assertThat(preparedStatement.bind(values))
+			.containsOnly(entry("name", "Alice"), entry("born", 1970), entry("__literal0__", 10));
+	}
+
+	@Test
+	void shouldRejectMissingParameters() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> preparedStatement.bind(Collections.singletonMap("name", "Alice")))
+			.withMessage("No value bound to the declared parameter(s) [born].");
+	}
+
+	@Test
+	void shouldRejectUnknownParameters() {
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("name", "Alice");
+		values.put("born", 1970);
+		values.put("died", 2020);
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> preparedStatement.bind(values))
+			.withMessage("Statement does not declare the parameter(s) [died]. Declared parameters are [name, born].");
+	}
+}
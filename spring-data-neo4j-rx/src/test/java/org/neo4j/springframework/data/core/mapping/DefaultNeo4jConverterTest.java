@@ -22,7 +22,11 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -31,6 +35,9 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.value.Uncoercible;
 import org.neo4j.springframework.data.core.ReactiveNeo4jClient;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContextTest.BikeNode;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContextTest.UserNode;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.dao.TypeMismatchDataAccessException;
@@ -80,4 +87,36 @@ class DefaultNeo4jConverterTest {
 				.withRootCauseInstanceOf(ConverterNotFoundException.class);
 		}
 	}
+
+	@Nested
+	class Writes {
+
+		@Test
+		void shouldWriteEntitiesIntoParameters() {
+
+			Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+			mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(UserNode.class, BikeNode.class)));
+			mappingContext.initialize();
+
+			UserNode userNode = new UserNode();
+			userNode.name = "Michael";
+			userNode.first_name = "Michael J.";
+
+			Map<String, Object> parameters = mappingContext.getRequiredBinderFunctionFor(UserNode.class).apply(userNode);
+
+			assertThat(parameters).containsEntry(NodeDescription.NAME_OF_ID_PARAM, 0L);
+			assertThat((Map<String, Object>) parameters.get(NodeDescription.NAME_OF_PROPERTIES_PARAM))
+				.containsOnly(entry("name", Values.value("Michael")), entry("firstName", Values.value("Michael J.")));
+		}
+
+		@Test
+		void shouldWriteCollections() {
+
+			Value value = defaultNeo4jConverter.writeValueFromProperty(Arrays.asList("a", null, 1L, 'c'),
+				ClassTypeInformation.LIST);
+
+			assertThat(value.asList(Function.identity()))
+				.containsExactly(Values.value("a"), Values.NULL, Values.value(1L), Values.value("c"));
+		}
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.PropertyPlan;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContextTest.BikeNode;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContextTest.TripNode;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContextTest.UserNode;
+
+/**
+ * @author Michael J. Simons
+ */
+class EntityReadPlanTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	EntityReadPlanTest() {
+		mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class, TripNode.class)));
+		mappingContext.initialize();
+	}
+
+	@Test
+	void shouldResolveGraphNamesAndTypesOfProperties() {
+
+		EntityReadPlan<?> readPlan = EntityReadPlan
+			.compile(mappingContext.getPersistentEntity(UserNode.class), new NodeDescriptionStore());
+
+		assertThat(readPlan.getPrimaryLabel()).isEqualTo("User");
+		assertThat(readPlan.requiresPropertyPopulation()).isTrue();
+		assertThat(readPlan.getProperties())
+			.extracting(PropertyPlan::getGraphPropertyName)
+			.containsExactlyInAnyOrder("id", "name", "firstName");
+		assertThat(readPlan.getProperties())
+			.filteredOn(PropertyPlan::isInternalIdProperty)
+			.extracting(PropertyPlan::getRawType)
+			.containsExactly(long.class);
+	}
+
+	@Test
+	void shouldResolveRelationships() {
+
+		EntityReadPlan<?> readPlan = EntityReadPlan
+			.compile(mappingContext.getPersistentEntity(BikeNode.class), new NodeDescriptionStore());
+
+		assertThat(readPlan.getAssociations())
+			.extracting(associationPlan -> associationPlan.getProperty().getName())
+			.containsExactlyInAnyOrder("owner", "renter", "dynamicRelationships");
+		assertThat(readPlan.getAssociations())
+			.filteredOn(associationPlan -> associationPlan.getProperty().getName().equals("renter"))
+			.hasSize(1)
+			.allSatisfy(associationPlan -> {
+				assertThat(associationPlan.getTargetLabel()).isEqualTo("User");
+				assertThat(associationPlan.isCollectionLike()).isTrue();
+				assertThat(associationPlan.isSet()).isFalse();
+				assertThat(associationPlan.getRelationshipPropertiesEntity()).isNull();
+			});
+		assertThat(readPlan.getProperties())
+			.filteredOn(propertyPlan -> propertyPlan.getProperty().getName().equals("someValues"))
+			.extracting(PropertyPlan::getComponentType)
+			.containsExactly(String.class);
+	}
+}
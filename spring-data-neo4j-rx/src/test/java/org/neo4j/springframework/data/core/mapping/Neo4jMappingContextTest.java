@@ -22,11 +22,18 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.EntityStatements;
 import org.neo4j.springframework.data.core.schema.GeneratedValue;
 import org.neo4j.springframework.data.core.schema.GraphPropertyDescription;
 import org.neo4j.springframework.data.core.schema.Id;
@@ -99,6 +106,210 @@ public class Neo4jMappingContextTest {
 		assertThat(bikeNodeEntity.getPersistentProperty("funnyDynamicProperties").isAssociation()).isFalse();
 	}
 
+	@Test
+	void shouldProvideStatementsOncePerEntity() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class, TripNode.class)));
+		schema.initialize();
+
+		Neo4jPersistentEntity<?> userNodeEntity = schema.getPersistentEntity(UserNode.class);
+		EntityStatements statements = schema.getStatementsFor(userNodeEntity);
+
+		assertThat(schema.getStatementsFor(userNodeEntity)).isSameAs(statements);
+		assertThat(statements.getFindById())
+			.startsWith("MATCH (n:`User`) WHERE id(n) = $id ")
+			.isSameAs(statements.getFindById());
+		assertThat(statements.getDeleteAllById()).contains("IN $ids").endsWith("DETACH DELETE n");
+	}
+
+	@Test
+	void shouldProvideStatementsSavingAggregatesInBatches() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class, TripNode.class)));
+		schema.initialize();
+
+		Neo4jPersistentEntity<?> userNodeEntity = schema.getPersistentEntity(UserNode.class);
+		EntityStatements userStatements = schema.getStatementsFor(userNodeEntity);
+		assertThat(userStatements.getSaveAllReturningInternalIds())
+			.startsWith("UNWIND $__entities__ AS entity CREATE (n:`User`)")
+			.endsWith("RETURN id(n) AS __internalNeo4jId__");
+		assertThat(userStatements.getUpdateAll())
+			.startsWith("UNWIND $__entities__ AS entity WITH entity MATCH (n:`User`) WHERE id(n) = entity.__id__")
+			.endsWith("RETURN id(n) AS __internalNeo4jId__");
+
+		Neo4jPersistentEntity<?> bikeNodeEntity = schema.getPersistentEntity(BikeNode.class);
+		assertThat(schema.getStatementsFor(bikeNodeEntity).getSaveAllReturningInternalIds())
+			.startsWith("UNWIND $__entities__ AS entity MERGE (n:`BikeNode`")
+			.endsWith("RETURN id(n) AS __internalNeo4jId__");
+
+		RelationshipDescription owns = userNodeEntity.getRelationships().stream()
+			.filter(r -> "OWNS".equals(r.getType())).findFirst().get();
+		Renderer renderer = Renderer.getDefaultRenderer();
+		assertThat(renderer.render(CypherGenerator.INSTANCE.createRelationshipsCreationQuery(userNodeEntity, owns, null)))
+			.startsWith("UNWIND $relationships AS relationship WITH relationship "
+				+ "MATCH (startNode) WHERE id(startNode) = relationship.fromId "
+				+ "MATCH (endNode) WHERE id(endNode) = relationship.toId MERGE ")
+			.contains("`OWNS`");
+		assertThat(renderer.render(CypherGenerator.INSTANCE.createRelationshipsRemoveQuery(userNodeEntity, owns, "BikeNode")))
+			.startsWith("UNWIND $fromIds AS fromId WITH fromId MATCH ")
+			.contains("WHERE id(startNode) = fromId DELETE rel");
+	}
+
+	@Test
+	void shouldProvideStatementsForNodesKnownToBeNewOrExisting() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+
+		EntityStatements userStatements = schema.getStatementsFor(schema.getPersistentEntity(UserNode.class));
+		assertThat(userStatements.getCreate())
+			.isEqualTo("CREATE (n:`User`) SET n = $__properties__ RETURN id(n)");
+		assertThat(userStatements.getUpdate())
+			.isEqualTo("MATCH (n:`User`) WHERE id(n) = $__id__ SET n = $__properties__ RETURN id(n)");
+
+		EntityStatements bikeStatements = schema.getStatementsFor(schema.getPersistentEntity(BikeNode.class));
+		assertThat(bikeStatements.getCreateAll())
+			.isEqualTo("UNWIND $__entities__ AS entity CREATE (n:`BikeNode`) SET n = entity.__properties__ "
+				+ "RETURN id(n) AS __internalNeo4jId__");
+		assertThat(bikeStatements.getUpdate())
+			.isEqualTo("MATCH (n:`BikeNode`) WHERE n.id = $__id__ SET n = $__properties__ RETURN id(n)");
+	}
+
+	@Test
+	void countStatementsShouldNotContainTheMappingProjection() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+
+		assertThat(schema.getStatementsFor(schema.getPersistentEntity(UserNode.class)).getCount())
+			.isEqualTo("MATCH (n:`User`) RETURN count(n)");
+
+		Statement countWithCondition = CypherGenerator.INSTANCE.prepareCountOf(
+			schema.getPersistentEntity(UserNode.class), Cypher.property("n", "name").isEqualTo(Cypher.parameter("name")));
+		assertThat(Renderer.getDefaultRenderer().render(countWithCondition))
+			.isEqualTo("MATCH (n:`User`) WHERE n.name = $name RETURN count(n)");
+	}
+
+	@Test
+	void shouldProvideStatementsCheckingExistenceWithoutLoadingNodes() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+
+		assertThat(schema.getStatementsFor(schema.getPersistentEntity(UserNode.class)).getExistsById())
+			.isEqualTo("MATCH (n:`User`) WHERE id(n) = $id WITH n LIMIT 1 RETURN count(n) > 0");
+		assertThat(schema.getStatementsFor(schema.getPersistentEntity(BikeNode.class)).getExistsById())
+			.isEqualTo("MATCH (n:`BikeNode`) WHERE n.id = $id WITH n LIMIT 1 RETURN count(n) > 0");
+	}
+
+	@Test
+	void shouldProvideStatementsForDeletingInBatches() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+
+		EntityStatements userStatements = schema.getStatementsFor(schema.getPersistentEntity(UserNode.class));
+		String deleteAllInBatches = userStatements.getDeleteAllInBatches();
+		assertThat(deleteAllInBatches).isEqualTo("MATCH (n:`User`) WITH n LIMIT $batchSize DETACH DELETE n");
+		assertThat(userStatements.getDeleteAllInBatches()).isSameAs(deleteAllInBatches);
+	}
+
+	@Test
+	void shouldTrackRelationshipsOnlyIfEnabled() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+		assertThat(schema.getRelationshipChangeTracker()).isNull();
+
+		schema.setRelationshipChangeTracking(true);
+		RelationshipChangeTracker tracker = schema.getRelationshipChangeTracker();
+		assertThat(tracker).isNotNull();
+
+		Neo4jPersistentEntity<?> userNodeEntity = schema.getPersistentEntity(UserNode.class);
+		RelationshipDescription owns = userNodeEntity.getRelationships().stream()
+			.filter(r -> "OWNS".equals(r.getType())).findFirst().get();
+
+		BikeNode bike1 = new BikeNode();
+		bike1.id = "b1";
+		BikeNode bike2 = new BikeNode();
+		bike2.id = "b2";
+		UserNode user = new UserNode();
+		user.id = 4711L;
+		user.bikes = Arrays.asList(bike1, bike2);
+
+		tracker.snapshot(userNodeEntity, user);
+		user.bikes = Arrays.asList(bike2, new BikeNode());
+
+		assertThat(tracker.getLoadedRelationships(user, owns)).containsExactlyInAnyOrder(
+			new RelationshipChangeTracker.TrackedRelationship("OWNS", "b1"),
+			new RelationshipChangeTracker.TrackedRelationship("OWNS", "b2"));
+		assertThat(tracker.getLoadedRelationships(new UserNode(), owns)).isNull();
+		assertThat(tracker.describe(owns, null, new BikeNode())).isNull();
+
+		Neo4jPersistentEntity<?> bikeNodeEntity = schema.getPersistentEntity(BikeNode.class);
+		RelationshipDescription dynamicRelationships = bikeNodeEntity.getRelationships().stream()
+			.filter(RelationshipDescription::isDynamic).findFirst().get();
+		bike1.dynamicRelationships = Collections.singletonMap("RIDES", user);
+		tracker.snapshot(bikeNodeEntity, bike1);
+		assertThat(tracker.getLoadedRelationships(bike1, dynamicRelationships))
+			.containsExactly(new RelationshipChangeTracker.TrackedRelationship("RIDES", 4711L));
+
+		assertThat(Renderer.getDefaultRenderer()
+			.render(CypherGenerator.INSTANCE.createRelationshipsDeleteQuery(userNodeEntity, owns, null, bikeNodeEntity)))
+			.startsWith("UNWIND $relationships AS relationship WITH relationship MATCH (startNode)-[rel:`OWNS`]->(endNode:`BikeNode`)")
+			.contains("id(startNode) = relationship.fromId")
+			.contains("endNode.id = relationship.toId")
+			.endsWith("DELETE rel");
+
+		schema.setRelationshipChangeTracking(false);
+		assertThat(schema.getRelationshipChangeTracker()).isNull();
+	}
+
+	@Test
+	void shouldTrackChangedProperties() {
+
+		Neo4jMappingContext schema = new Neo4jMappingContext();
+		schema.setInitialEntitySet(new HashSet<>(Arrays.asList(BikeNode.class, UserNode.class)));
+		schema.initialize();
+		assertThat(schema.getPropertyChangeTracker()).isNull();
+
+		schema.setPropertyChangeTracking(true);
+		PropertyChangeTracker tracker = schema.getPropertyChangeTracker();
+		assertThat(tracker).isNotNull();
+
+		UserNode user = new UserNode();
+		user.name = "Michael";
+		user.first_name = "Michael";
+
+		Map<String, Object> parameters = schema.getRequiredBinderFunctionFor(UserNode.class).apply(user);
+		Map<String, Object> properties = (Map<String, Object>) parameters.get(NodeDescription.NAME_OF_PROPERTIES_PARAM);
+		assertThat(tracker.getChangedProperties(user, properties)).isNull();
+
+		tracker.snapshot(user, properties);
+		assertThat(tracker.getChangedProperties(user, properties)).isEmpty();
+
+		user.name = "Gerrit";
+		user.first_name = null;
+		parameters = schema.getRequiredBinderFunctionFor(UserNode.class).apply(user);
+		properties = (Map<String, Object>) parameters.get(NodeDescription.NAME_OF_PROPERTIES_PARAM);
+		assertThat(tracker.getChangedProperties(user, properties))
+			.containsOnly(entry("name", Values.value("Gerrit")), entry("firstName", Values.NULL));
+
+		tracker.forget(user);
+		assertThat(tracker.getChangedProperties(user, properties)).isNull();
+
+		Neo4jPersistentEntity<?> userNodeEntity = schema.getPersistentEntity(UserNode.class);
+		assertThat(schema.getStatementsFor(userNodeEntity).getUpdateChangedProperties())
+			.isEqualTo("MATCH (n:`User`) WHERE id(n) = $__id__ SET n += $__properties__ RETURN id(n)");
+	}
+
 	@Test
 	void shouldPreventIllegalIdAnnotations() {
 
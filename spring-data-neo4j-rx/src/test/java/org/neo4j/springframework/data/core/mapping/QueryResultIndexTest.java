@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.MapValue;
+import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.internal.value.RelationshipValue;
+import org.neo4j.driver.types.Node;
+
+/**
+ * @author Michael J. Simons
+ */
+class QueryResultIndexTest {
+
+	private static Node node(long id, String label) {
+		return new InternalNode(id, Collections.singletonList(label), Collections.emptyMap());
+	}
+
+	@Test
+	void shouldIndexNodesAndRelationshipsOfAResult() {
+
+		Node user = node(1L, "User");
+		Node bike1 = node(2L, "Bike");
+		Node bike2 = node(3L, "Bike");
+
+		Map<String, Value> result = new HashMap<>();
+		result.put("u", new NodeValue(user));
+		result.put("bikes", new ListValue(new NodeValue(bike1), new NodeValue(bike2), new NodeValue(bike1)));
+		result.put("owns", new ListValue(
+			new RelationshipValue(new InternalRelationship(10L, 1L, 2L, "OWNS")),
+			new RelationshipValue(new InternalRelationship(11L, 1L, 3L, "OWNS")),
+			new RelationshipValue(new InternalRelationship(12L, 1L, 2L, "OWNS"))));
+		result.put("name", Values.value("a name"));
+
+		QueryResultIndex index = QueryResultIndex.of(new MapValue(result), InternalTypeSystem.TYPE_SYSTEM);
+
+		assertThat(index.getNodes("Bike")).containsExactly(bike1, bike2);
+		assertThat(index.getNodes("User")).isEmpty();
+		assertThat(index.hasRelationships("OWNS")).isTrue();
+		assertThat(index.hasRelationships("RENTS")).isFalse();
+		assertThat(index.getRelationship("OWNS", 2L).id()).isEqualTo(10L);
+		assertThat(index.getRelationship("OWNS", 3L).id()).isEqualTo(11L);
+		assertThat(index.getRelationship("OWNS", 1L)).isNull();
+		assertThat(index.getRelationship("RENTS", 2L)).isNull();
+	}
+
+	@Test
+	void shouldIgnoreMixedLists() {
+
+		Map<String, Value> result = new HashMap<>();
+		result.put("mixed", new ListValue(new NodeValue(node(1L, "Bike")), Values.value(Arrays.asList(1, 2))));
+
+		QueryResultIndex index = QueryResultIndex.of(new MapValue(result), InternalTypeSystem.TYPE_SYSTEM);
+
+		assertThat(index.getNodes("Bike")).isEmpty();
+	}
+}
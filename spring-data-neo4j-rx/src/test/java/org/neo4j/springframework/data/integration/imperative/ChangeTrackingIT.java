@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.imperative.DynamicRelationshipsIT.PersonWithRelativesRepository;
+import org.neo4j.springframework.data.integration.shared.Hobby;
+import org.neo4j.springframework.data.integration.shared.LikesHobbyRelationship;
+import org.neo4j.springframework.data.integration.shared.Person;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelationship;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelationshipWithProperties;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelatives;
+import org.neo4j.springframework.data.integration.shared.Pet;
+import org.neo4j.springframework.data.repository.config.EnableNeo4jRepositories;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Make sure that entities loaded with relationship and property change tracking enabled are saved correctly.
+ *
+ * @author Michael J. Simons
+ */
+@Neo4jIntegrationTest
+class ChangeTrackingIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	@Autowired private RelationshipRepository relationshipRepository;
+	@Autowired private PersonWithRelationshipWithPropertiesRepository relationshipWithPropertiesRepository;
+	@Autowired private PersonWithRelativesRepository personWithRelativesRepository;
+	@Autowired private Driver driver;
+	@Autowired private PlatformTransactionManager transactionManager;
+
+	private long idOfPersonWithRelationship;
+	private long idOfPersonWithRelationshipWithProperties;
+	private long idOfPersonWithRelatives;
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session(); Transaction transaction = session.beginTransaction()) {
+			transaction.run("MATCH (n) DETACH DELETE n");
+			idOfPersonWithRelationship = transaction.run(""
+				+ "CREATE (n:PersonWithRelationship {name: 'Freddie'})-[:Has]->(:Hobby {name: 'Music'}), "
+				+ "(n)-[:Has]->(p1:Pet {name: 'Jerry'}), (n)-[:Has]->(:Pet {name: 'Tom'}), "
+				+ "(p1)-[:Has]->(:Hobby {name: 'sleeping'}), "
+				+ "(n)<-[:Has]-(:Club {name: 'ClownsClub'}) "
+				+ "RETURN id(n)").single().get(0).asLong();
+			idOfPersonWithRelationshipWithProperties = transaction.run(""
+				+ "CREATE (n:PersonWithRelationshipWithProperties {name: 'Freddie'})"
+				+ "-[:LIKES {since: 1995, active: true}]->(:Hobby {name: 'Football'}) "
+				+ "RETURN id(n)").single().get(0).asLong();
+			idOfPersonWithRelatives = transaction.run(""
+				+ "CREATE (n:PersonWithRelatives {name: 'A'})-[:HAS_WIFE]->(:Person {firstName: 'B'}), "
+				+ "(n)-[:HAS_DAUGHTER]->(:Person {firstName: 'C'}) "
+				+ "RETURN id(n)").single().get(0).asLong();
+			transaction.commit();
+		}
+	}
+
+	@Test
+	void savingUnchangedTrackedEntitiesShouldNotChangeTheGraph() {
+
+		List<Long> idsOfRelationships = getIdsOfRelationships();
+
+		relationshipRepository.save(relationshipRepository.findById(idOfPersonWithRelationship).get());
+		assertThat(getIdsOfRelationships()).isEqualTo(idsOfRelationships);
+
+		relationshipRepository.saveAll(relationshipRepository.findAll());
+		assertThat(getIdsOfRelationships()).isEqualTo(idsOfRelationships);
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n)").single().get(0).asLong()).isEqualTo(11L);
+		}
+	}
+
+	@Test
+	void changesOfTrackedEntitiesShouldBeSaved() {
+
+		PersonWithRelationship person = relationshipRepository.findById(idOfPersonWithRelationship).get();
+		person.setName("Farrokh");
+		person.getPets().removeIf(pet -> "Tom".equals(pet.getName()));
+		person.getPets().add(new Pet("Garfield"));
+		person.setClub(null);
+		relationshipRepository.save(person);
+
+		try (Session session = driver.session()) {
+
+			Record record = session.run("MATCH (n:PersonWithRelationship) WHERE id(n) = $id "
+				+ "RETURN n.name AS name, "
+				+ "[(n)-[:Has]->(h:Hobby) | h.name] AS hobbies, "
+				+ "[(n)-[:Has]->(p:Pet) | p.name] AS pets, "
+				+ "[(n)-[:Has]->(:Pet)-[:Has]->(h:Hobby) | h.name] AS hobbiesOfPets, "
+				+ "[(n)<-[:Has]-(c:Club) | c.name] AS clubs", Values.parameters("id", idOfPersonWithRelationship))
+				.single();
+			assertThat(record.get("name").asString()).isEqualTo("Farrokh");
+			assertThat(record.get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(record.get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Jerry", "Garfield");
+			assertThat(record.get("hobbiesOfPets").asList(Value::asString)).containsExactly("sleeping");
+			assertThat(record.get("clubs").asList(Value::asString)).isEmpty();
+
+			assertThat(session.run("MATCH (p:Pet) RETURN count(p)").single().get(0).asLong()).isEqualTo(3L);
+			assertThat(session.run("MATCH (c:Club) RETURN count(c)").single().get(0).asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void changesOfTrackedEntitiesShouldBeSavedAgainAfterARollback() {
+
+		PersonWithRelationship person = relationshipRepository.findById(idOfPersonWithRelationship).get();
+		person.getPets().removeIf(pet -> "Tom".equals(pet.getName()));
+		person.getPets().add(new Pet("Garfield"));
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+			relationshipRepository.save(person);
+			tx.setRollbackOnly();
+		});
+		relationshipRepository.save(person);
+
+		try (Session session = driver.session()) {
+
+			Record record = session.run("MATCH (n:PersonWithRelationship) WHERE id(n) = $id "
+				+ "RETURN [(n)-[:Has]->(p:Pet) | p.name] AS pets", Values.parameters("id", idOfPersonWithRelationship))
+				.single();
+			assertThat(record.get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Jerry", "Garfield");
+
+			assertThat(session.run("MATCH (p:Pet) RETURN count(p)").single().get(0).asLong()).isEqualTo(3L);
+		}
+	}
+
+	@Test
+	void onlyChangedPropertiesShouldBeWrittenOnEverySave() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) WHERE id(n) = $id SET n.notMapped = true",
+				Values.parameters("id", idOfPersonWithRelationship)).consume();
+		}
+
+		PersonWithRelationship person = relationshipRepository.findById(idOfPersonWithRelationship).get();
+		person.setName("Farrokh");
+		relationshipRepository.save(person);
+		person.setName("Freddie Mercury");
+		relationshipRepository.save(person);
+
+		assertNotMappedPropertyIsKept("Freddie Mercury");
+	}
+
+	@Test
+	void changedRelationshipPropertiesOfTrackedEntitiesShouldBeSaved() {
+
+		PersonWithRelationshipWithProperties person = relationshipWithPropertiesRepository
+			.findById(idOfPersonWithRelationshipWithProperties).get();
+		Hobby football = person.getHobbies().keySet().iterator().next();
+
+		Map<Hobby, LikesHobbyRelationship> hobbies = new HashMap<>();
+		hobbies.put(football, new LikesHobbyRelationship(2020));
+		person.setHobbies(hobbies);
+		relationshipWithPropertiesRepository.save(person);
+
+		try (Session session = driver.session()) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelationshipWithProperties)-[l:LIKES]->(h:Hobby) "
+				+ "RETURN h.name AS name, l.since AS since").list();
+			assertThat(records).extracting(r -> r.get("name").asString(), r -> r.get("since").asInt())
+				.containsExactly(tuple("Football", 2020));
+		}
+	}
+
+	@Test
+	void dynamicRelationshipsOfTrackedEntitiesShouldBeSaved() {
+
+		PersonWithRelatives person = personWithRelativesRepository.findById(idOfPersonWithRelatives).get();
+		Map<String, Person> relatives = person.getRelatives();
+		relatives.remove("HAS_WIFE");
+		Person son = new Person();
+		ReflectionTestUtils.setField(son, "firstName", "D");
+		relatives.put("HAS_SON", son);
+		personWithRelativesRepository.save(person);
+
+		try (Session session = driver.session()) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelatives)-[r]->(p:Person) "
+				+ "RETURN type(r) AS type, p.firstName AS firstName ORDER BY type").list();
+			assertThat(records).extracting(r -> r.get("type").asString(), r -> r.get("firstName").asString())
+				.containsExactly(tuple("HAS_DAUGHTER", "C"), tuple("HAS_SON", "D"));
+
+			assertThat(session.run("MATCH (p:Person) RETURN count(p)").single().get(0).asLong()).isEqualTo(3L);
+		}
+	}
+
+	private void assertNotMappedPropertyIsKept(String expectedName) {
+
+		try (Session session = driver.session()) {
+			Record record = session.run("MATCH (n) WHERE id(n) = $id RETURN n.name AS name, n.notMapped AS notMapped",
+				Values.parameters("id", idOfPersonWithRelationship)).single();
+			assertThat(record.get("name").asString()).isEqualTo(expectedName);
+			assertThat(record.get("notMapped").asBoolean()).isTrue();
+		}
+	}
+
+	private List<Long> getIdsOfRelationships() {
+
+		try (Session session = driver.session()) {
+			return session.run("MATCH ()-[r]->() WITH id(r) AS id ORDER BY id RETURN collect(id)")
+				.single().get(0).asList(Value::asLong);
+		}
+	}
+
+	@Configuration
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	@EnableTransactionManagement
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		@Override
+		public Neo4jMappingContext neo4jMappingContext(Neo4jConversions neo4JConversions) throws ClassNotFoundException {
+
+			Neo4jMappingContext mappingContext = super.neo4jMappingContext(neo4JConversions);
+			mappingContext.setRelationshipChangeTracking(true);
+			mappingContext.setPropertyChangeTracking(true);
+			return mappingContext;
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithRelationship.class.getPackage().getName());
+		}
+	}
+}
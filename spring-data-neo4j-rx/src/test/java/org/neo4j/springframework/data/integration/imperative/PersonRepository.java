@@ -110,6 +110,12 @@ public interface PersonRepository extends Neo4jRepository<PersonWithAllConstruct
 
 	Long countAllByNameOrName(String aName, String anotherName);
 
+	boolean existsByName(String name);
+
+	long deleteByName(String name);
+
+	List<PersonWithAllConstructor> deleteAllBySameValue(String sameValue);
+
 	Optional<PersonWithAllConstructor> findOneByNameAndFirstNameAllIgnoreCase(String name, String firstName);
 
 	PersonWithAllConstructor findOneByName(String name);
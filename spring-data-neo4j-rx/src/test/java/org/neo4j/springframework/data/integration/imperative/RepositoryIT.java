@@ -27,12 +27,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
@@ -52,6 +54,8 @@ import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.IngestSummary;
+import org.neo4j.springframework.data.core.Neo4jTemplate;
 import org.neo4j.springframework.data.integration.shared.*;
 import org.neo4j.springframework.data.repository.config.EnableNeo4jRepositories;
 import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
@@ -71,7 +75,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Metrics;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Michael J. Simons
@@ -107,6 +115,8 @@ class RepositoryIT {
 	@Autowired private BidirectionalStartRepository bidirectionalStartRepository;
 	@Autowired private BidirectionalEndRepository bidirectionalEndRepository;
 	@Autowired private SimilarThingRepository similarThingRepository;
+	@Autowired private Neo4jTemplate neo4jTemplate;
+	@Autowired private PlatformTransactionManager transactionManager;
 	@Autowired private Driver driver;
 	private Long id1;
 	private Long id2;
@@ -691,6 +701,11 @@ class RepositoryIT {
 		assertThat(exists).isTrue();
 	}
 
+	@Test
+	void existsByIdNoMatch() {
+		assertThat(repository.existsById(-4711L)).isFalse();
+	}
+
 	@Test
 	void saveSingleEntity() {
 
@@ -961,6 +976,164 @@ class RepositoryIT {
 		}
 	}
 
+	@Test
+	void savedAggregatesShouldBeLoadedUnchanged() {
+
+		PersonWithRelationship person = newPersonWithRelationships("Freddie");
+		Long id = relationshipRepository.save(person).getId();
+
+		PersonWithRelationship loadedPerson = relationshipRepository.findById(id).get();
+		assertThat(loadedPerson.getName()).isEqualTo("Freddie");
+		assertThat(loadedPerson.getHobbies()).isEqualTo(person.getHobbies());
+		assertThat(loadedPerson.getClub().getId()).isEqualTo(person.getClub().getId());
+		assertThat(loadedPerson.getClub().getName()).isEqualTo("ClownsClub");
+		assertThat(loadedPerson.getPets()).containsExactlyInAnyOrderElementsOf(person.getPets());
+
+		Pet jerry = loadedPerson.getPets().get(loadedPerson.getPets().indexOf(person.getPets().get(0)));
+		assertThat(jerry.getHobbies()).containsExactlyElementsOf(person.getPets().get(0).getHobbies());
+	}
+
+	@Test
+	void saveAllShouldSaveAggregatesSharingRelatedNodes() {
+
+		PersonWithRelationship freddie = newPersonWithRelationships("Freddie");
+		PersonWithRelationship brian = new PersonWithRelationship();
+		brian.setName("Brian");
+		brian.setHobbies(freddie.getHobbies());
+		brian.setPets(Arrays.asList(new Pet("Garfield"), freddie.getPets().get(1)));
+
+		relationshipRepository.saveAll(Arrays.asList(freddie, brian));
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelationship) "
+				+ "RETURN n.name AS name, "
+				+ "[(n)-[:Has]->(h:Hobby) | h.name] AS hobbies, "
+				+ "[(n)-[:Has]->(p:Pet) | p.name] AS pets "
+				+ "ORDER BY name").list();
+			assertThat(records).extracting(r -> r.get("name").asString()).containsExactly("Brian", "Freddie");
+			assertThat(records.get(0).get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(records.get(0).get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Garfield", "Tom");
+			assertThat(records.get(1).get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(records.get(1).get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Jerry", "Tom");
+
+			assertThat(session.run("MATCH (h:Hobby {name: 'Music'}) RETURN count(h)").single().get(0).asLong())
+				.isEqualTo(1L);
+			assertThat(session.run("MATCH (p:Pet {name: 'Tom'}) RETURN count(p)").single().get(0).asLong())
+				.isEqualTo(1L);
+			assertThat(session.run("MATCH (:Pet {name: 'Jerry'})-[:Has]->(h:Hobby) RETURN h.name").single().get(0)
+				.asString()).isEqualTo("sleeping");
+		}
+	}
+
+	@Test
+	void resavingLoadedAggregatesShouldNotChangeTheGraph() {
+
+		Long id = relationshipRepository.save(newPersonWithRelationships("Freddie")).getId();
+		List<Long> numberOfNodesAndRelationships = countNodesAndRelationships();
+
+		relationshipRepository.save(relationshipRepository.findById(id).get());
+		assertThat(countNodesAndRelationships()).isEqualTo(numberOfNodesAndRelationships);
+
+		relationshipRepository.saveAll(relationshipRepository.findAll());
+		assertThat(countNodesAndRelationships()).isEqualTo(numberOfNodesAndRelationships);
+	}
+
+	@Test
+	void removedRelationshipsShouldBeDeletedWithoutDeletingTheRelatedNodes() {
+
+		Long id = relationshipRepository.save(newPersonWithRelationships("Freddie")).getId();
+
+		PersonWithRelationship loadedPerson = relationshipRepository.findById(id).get();
+		loadedPerson.getPets().removeIf(pet -> "Tom".equals(pet.getName()));
+		loadedPerson.setClub(null);
+		relationshipRepository.save(loadedPerson);
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			Record record = session.run("MATCH (n:PersonWithRelationship) WHERE id(n) = $id "
+				+ "RETURN [(n)-[:Has]->(h:Hobby) | h.name] AS hobbies, "
+				+ "[(n)-[:Has]->(p:Pet) | p.name] AS pets, "
+				+ "[(n)-[:Has]->(:Pet)-[:Has]->(h:Hobby) | h.name] AS hobbiesOfPets, "
+				+ "[(n)<-[:Has]-(c:Club) | c.name] AS clubs", Values.parameters("id", id)).single();
+			assertThat(record.get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(record.get("pets").asList(Value::asString)).containsExactly("Jerry");
+			assertThat(record.get("hobbiesOfPets").asList(Value::asString)).containsExactly("sleeping");
+			assertThat(record.get("clubs").asList(Value::asString)).isEmpty();
+
+			assertThat(session.run("MATCH (p:Pet) RETURN count(p)").single().get(0).asLong()).isEqualTo(2L);
+			assertThat(session.run("MATCH (c:Club) RETURN count(c)").single().get(0).asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void relationshipsWithPropertiesShouldBeUpdatedAndRemoved() {
+
+		Hobby music = new Hobby();
+		music.setName("Music");
+		Hobby football = new Hobby();
+		football.setName("Football");
+		Map<Hobby, LikesHobbyRelationship> hobbies = new HashMap<>();
+		hobbies.put(music, new LikesHobbyRelationship(1995));
+		hobbies.put(football, new LikesHobbyRelationship(2000));
+		PersonWithRelationshipWithProperties person = new PersonWithRelationshipWithProperties("Freddie");
+		person.setHobbies(hobbies);
+		relationshipWithPropertiesRepository.save(person);
+
+		long id;
+		try (Session session = driver.session(getSessionConfig())) {
+			id = session.run("MATCH (n:PersonWithRelationshipWithProperties) RETURN id(n)").single().get(0).asLong();
+		}
+
+		PersonWithRelationshipWithProperties loadedPerson = relationshipWithPropertiesRepository.findById(id).get();
+		assertThat(loadedPerson.getHobbies()).containsOnly(
+			MapEntry.entry(music, new LikesHobbyRelationship(1995)),
+			MapEntry.entry(football, new LikesHobbyRelationship(2000)));
+
+		Map<Hobby, LikesHobbyRelationship> changedHobbies = new HashMap<>();
+		changedHobbies.put(music, new LikesHobbyRelationship(2020));
+		loadedPerson.setHobbies(changedHobbies);
+		relationshipWithPropertiesRepository.save(loadedPerson);
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelationshipWithProperties)-[l:LIKES]->(h:Hobby) "
+				+ "RETURN h.name AS name, l.since AS since").list();
+			assertThat(records).extracting(r -> r.get("name").asString(), r -> r.get("since").asInt())
+				.containsExactly(tuple("Music", 2020));
+
+			assertThat(session.run("MATCH (h:Hobby) RETURN count(h)").single().get(0).asLong()).isEqualTo(2L);
+		}
+	}
+
+	private static PersonWithRelationship newPersonWithRelationships(String name) {
+
+		PersonWithRelationship person = new PersonWithRelationship();
+		person.setName(name);
+		Hobby hobby = new Hobby();
+		hobby.setName("Music");
+		person.setHobbies(hobby);
+		Club club = new Club();
+		club.setName("ClownsClub");
+		person.setClub(club);
+		Pet pet1 = new Pet("Jerry");
+		Pet pet2 = new Pet("Tom");
+		Hobby petHobby = new Hobby();
+		petHobby.setName("sleeping");
+		pet1.setHobbies(singleton(petHobby));
+		person.setPets(new ArrayList<>(Arrays.asList(pet1, pet2)));
+		return person;
+	}
+
+	private List<Long> countNodesAndRelationships() {
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Record record = session.run("MATCH (n) OPTIONAL MATCH (n)-[r]->() "
+				+ "RETURN count(DISTINCT n) AS nodes, count(r) AS relationships").single();
+			return Arrays.asList(record.get("nodes").asLong(), record.get("relationships").asLong());
+		}
+	}
+
 	@Test
 	void saveAll() {
 
@@ -994,6 +1167,110 @@ class RepositoryIT {
 		}
 	}
 
+	@Test
+	void saveAllShouldReturnIdsInOrderOfInputAcrossBatches() {
+
+		neo4jTemplate.setBatchSize(2);
+		try {
+			List<PersonWithAllConstructor> people = Arrays.asList(
+				newPerson("New 1"), repository.findById(id1).get(), newPerson("New 2"),
+				repository.findById(id2).get(), newPerson("New 3"));
+
+			List<PersonWithAllConstructor> savedPeople = neo4jTemplate.saveAll(people);
+			assertThat(savedPeople).extracting(PersonWithAllConstructor::getName)
+				.containsExactly("New 1", TEST_PERSON1_NAME, "New 2", TEST_PERSON2_NAME, "New 3");
+			assertThat(savedPeople.get(1).getId()).isEqualTo(id1);
+			assertThat(savedPeople.get(3).getId()).isEqualTo(id2);
+
+			try (Session session = driver.session(getSessionConfig())) {
+				List<String> storedNames = session.run(
+					"UNWIND $ids AS id MATCH (n:PersonWithAllConstructor) WHERE id(n) = id RETURN n.name AS name",
+					Values.parameters("ids", savedPeople.stream().map(PersonWithAllConstructor::getId).collect(toList()))
+				).list(r -> r.get("name").asString());
+				assertThat(storedNames)
+					.containsExactly("New 1", TEST_PERSON1_NAME, "New 2", TEST_PERSON2_NAME, "New 3");
+			}
+		} finally {
+			neo4jTemplate.setBatchSize(Neo4jTemplate.DEFAULT_BATCH_SIZE);
+		}
+	}
+
+	@Test
+	void saveAllShouldRecreateDeletedNodes() {
+
+		PersonWithAllConstructor deletedPerson = repository.findById(id1).get();
+		try (Session session = driver.session(getSessionConfig())) {
+			session.run("MATCH (n) WHERE id(n) = $id DETACH DELETE n", Values.parameters("id", id1)).consume();
+		}
+
+		List<PersonWithAllConstructor> savedPeople = neo4jTemplate
+			.saveAll(Arrays.asList(deletedPerson, repository.findById(id2).get()));
+
+		assertThat(savedPeople.get(0).getId()).isNotNull().isNotEqualTo(id1);
+		assertThat(savedPeople.get(1).getId()).isEqualTo(id2);
+		assertThat(repository.findById(savedPeople.get(0).getId()))
+			.hasValueSatisfying(p -> assertThat(p.getName()).isEqualTo(TEST_PERSON1_NAME));
+		assertThat(repository.count()).isEqualTo(2);
+	}
+
+	@Test
+	void ingestShouldRunEachBatchInATransactionOfItsOwn() {
+
+		AtomicInteger commits = new AtomicInteger();
+		neo4jTemplate.setBatchSize(2);
+		neo4jTemplate.setTransactionManager(new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return transactionManager.getTransaction(definition);
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+				commits.incrementAndGet();
+				transactionManager.commit(status);
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+				transactionManager.rollback(status);
+			}
+		});
+		try {
+			IngestSummary summary = neo4jTemplate.ingest(IntStream.rangeClosed(1, 5).mapToObj(i -> newPerson("New " + i)));
+
+			assertThat(summary.getNumberOfEntities()).isEqualTo(5L);
+			assertThat(summary.getNumberOfBatches()).isEqualTo(3L);
+			assertThat(commits).hasValue(3);
+			assertThat(repository.count()).isEqualTo(7L);
+		} finally {
+			neo4jTemplate.setBatchSize(Neo4jTemplate.DEFAULT_BATCH_SIZE);
+			neo4jTemplate.setTransactionManager(transactionManager);
+		}
+	}
+
+	@Test
+	void ingestShouldCommitBatchesIndependentlyOfOngoingTransactions() {
+
+		neo4jTemplate.setBatchSize(2);
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+				repository.save(newPerson("Rolled back"));
+				neo4jTemplate.ingest(IntStream.rangeClosed(1, 5).mapToObj(i -> newPerson("New " + i)));
+				tx.setRollbackOnly();
+			});
+
+			assertThat(repository.count()).isEqualTo(7L);
+			assertThat(repository.existsByName("Rolled back")).isFalse();
+		} finally {
+			neo4jTemplate.setBatchSize(Neo4jTemplate.DEFAULT_BATCH_SIZE);
+		}
+	}
+
+	private static PersonWithAllConstructor newPerson(String name) {
+		return new PersonWithAllConstructor(null, name, null, TEST_PERSON_SAMEVALUE, false, null, null, null, emptyList(),
+			null, null);
+	}
+
 	@Test
 	void updateSingleEntity() {
 
@@ -1572,6 +1849,29 @@ class RepositoryIT {
 		assertThat(count).isEqualTo(2L);
 	}
 
+	@Test
+	void existsBySimpleProperty() {
+
+		assertThat(repository.existsByName(TEST_PERSON1_NAME)).isTrue();
+		assertThat(repository.existsByName("Nobody")).isFalse();
+	}
+
+	@Test
+	void deleteBySimplePropertyReturningCount() {
+
+		assertThat(repository.deleteByName(TEST_PERSON1_NAME)).isEqualTo(1L);
+		assertThat(repository.deleteByName(TEST_PERSON1_NAME)).isEqualTo(0L);
+		assertThat(repository.findAll()).containsExactly(person2);
+	}
+
+	@Test
+	void deleteBySimplePropertyReturningDeletedEntities() {
+
+		List<PersonWithAllConstructor> deletedPersons = repository.deleteAllBySameValue(TEST_PERSON_SAMEVALUE);
+		assertThat(deletedPersons).containsExactlyInAnyOrder(person1, person2);
+		assertThat(repository.count()).isEqualTo(0L);
+	}
+
 	@Test
 	void findBySimplePropertiesOred() {
 
@@ -25,6 +25,7 @@ import static org.neo4j.springframework.data.test.Neo4jExtension.*;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +34,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.Values;
 import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
@@ -140,6 +142,73 @@ class ReactiveDynamicRelationshipsIT extends DynamicRelationshipsITBase {
 		}
 	}
 
+	@Test
+	public void shouldStoreUpdatedDynamicRelationships() {
+
+		personsWithRelatives.findById(idOfExistingPerson)
+			.map(personWithRelatives -> {
+				Map<String, Person> relatives = personWithRelatives.getRelatives();
+				relatives.remove("HAS_WIFE");
+				Person d = new Person();
+				ReflectionTestUtils.setField(d, "firstName", "D");
+				relatives.put("HAS_SON", d);
+				ReflectionTestUtils.setField(relatives.get("HAS_DAUGHTER"), "firstName", "C2");
+				return personWithRelatives;
+			})
+			.flatMap(personsWithRelatives::save)
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		try (Transaction transaction = driver.session().beginTransaction()) {
+			List<Record> records = transaction.run(""
+				+ "MATCH (t:PersonWithRelatives) - [r] -> (p:Person) WHERE id(t) = $id "
+				+ "RETURN type(r) AS type, p.firstName AS firstName ORDER BY type", Values.parameters("id", idOfExistingPerson))
+				.list();
+			assertThat(records).extracting(r -> r.get("type").asString(), r -> r.get("firstName").asString())
+				.containsExactly(tuple("HAS_DAUGHTER", "C2"), tuple("HAS_SON", "D"));
+
+			long numberOfPersons = transaction.run("MATCH (p:Person) RETURN count(p)").single().get(0).asLong();
+			assertThat(numberOfPersons).isEqualTo(3L);
+		}
+	}
+
+	@Test
+	public void shouldWriteDynamicRelationshipsOfManyPersons() {
+
+		Person sharedRelative = new Person();
+		ReflectionTestUtils.setField(sharedRelative, "firstName", "R1");
+		Person d = new Person();
+		ReflectionTestUtils.setField(d, "firstName", "R2");
+
+		PersonWithRelatives personWithRelatives1 = new PersonWithRelatives("Test1");
+		personWithRelatives1.getRelatives().put("HAS_SISTER", sharedRelative);
+		PersonWithRelatives personWithRelatives2 = new PersonWithRelatives("Test2");
+		personWithRelatives2.getRelatives().put("HAS_BROTHER", sharedRelative);
+		personWithRelatives2.getRelatives().put("HAS_SON", d);
+
+		personsWithRelatives.saveAll(Arrays.asList(personWithRelatives1, personWithRelatives2))
+			.as(StepVerifier::create)
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		try (Transaction transaction = driver.session().beginTransaction()) {
+			List<Record> records = transaction.run(""
+				+ "MATCH (t:PersonWithRelatives) - [r] -> (p:Person) WHERE t.name STARTS WITH 'Test' "
+				+ "RETURN t.name AS name, type(r) AS type, p.firstName AS firstName ORDER BY name, type").list();
+			assertThat(records).extracting(
+				r -> r.get("name").asString(), r -> r.get("type").asString(), r -> r.get("firstName").asString())
+				.containsExactly(
+					tuple("Test1", "HAS_SISTER", "R1"),
+					tuple("Test2", "HAS_BROTHER", "R1"),
+					tuple("Test2", "HAS_SON", "R2"));
+
+			long numberOfSharedRelatives = transaction.run("MATCH (p:Person {firstName: 'R1'}) RETURN count(p)")
+				.single().get(0).asLong();
+			assertThat(numberOfSharedRelatives).isEqualTo(1L);
+		}
+	}
+
 	public interface PersonWithRelativesRepository extends ReactiveNeo4jRepository<PersonWithRelatives, Long> {
 	}
 
@@ -51,6 +51,12 @@ public interface ReactivePersonRepository extends ReactiveNeo4jRepository<Person
 
 	Mono<Long> countAllByNameOrName(String aName, String anotherName);
 
+	Mono<Boolean> existsByName(String name);
+
+	Mono<Long> deleteByName(String name);
+
+	Flux<PersonWithAllConstructor> deleteAllBySameValue(String sameValue);
+
 	Flux<PersonWithAllConstructor> findAllByNameOrName(String aName, String anotherName);
 
 	Flux<PersonWithAllConstructor> findAllBySameValue(String sameValue);
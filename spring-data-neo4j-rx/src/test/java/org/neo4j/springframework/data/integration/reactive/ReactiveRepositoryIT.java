@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.assertj.core.data.MapEntry;
@@ -54,6 +55,7 @@ import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
+import org.neo4j.springframework.data.core.ReactiveNeo4jTemplate;
 import org.neo4j.springframework.data.integration.shared.*;
 import org.neo4j.springframework.data.repository.config.EnableReactiveNeo4jRepositories;
 import org.neo4j.springframework.data.test.Neo4jExtension.*;
@@ -67,7 +69,9 @@ import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.ReactiveTransaction;
 import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -101,6 +105,7 @@ class ReactiveRepositoryIT {
 	@Autowired private BidirectionalStartRepository bidirectionalStartRepository;
 	@Autowired private BidirectionalEndRepository bidirectionalEndRepository;
 	@Autowired private ReactiveSimilarThingRepository similarThingRepository;
+	@Autowired private ReactiveNeo4jTemplate neo4jTemplate;
 	@Autowired private Driver driver;
 	@Autowired private ReactiveTransactionManager transactionManager;
 	private long id1;
@@ -871,6 +876,42 @@ class ReactiveRepositoryIT {
 			.as(StepVerifier::create).expectNext(2L).verifyComplete();
 	}
 
+	@Test
+	void existsBySimpleProperty() {
+
+		repository.existsByName(TEST_PERSON1_NAME)
+			.as(StepVerifier::create).expectNext(true).verifyComplete();
+		repository.existsByName("Nobody")
+			.as(StepVerifier::create).expectNext(false).verifyComplete();
+	}
+
+	@Test
+	void deleteBySimplePropertyReturningCount() {
+
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> repository.deleteByName(TEST_PERSON1_NAME))
+			.as(StepVerifier::create).expectNext(1L).verifyComplete();
+		repository.findAll()
+			.as(StepVerifier::create).expectNext(person2).verifyComplete();
+	}
+
+	@Test
+	void deleteBySimplePropertyReturningDeletedEntities() {
+
+		List<PersonWithAllConstructor> deletedPersons = new ArrayList<>();
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> repository.deleteAllBySameValue(TEST_PERSON_SAMEVALUE))
+			.as(StepVerifier::create)
+			.recordWith(() -> deletedPersons)
+			.expectNextCount(2L)
+			.verifyComplete();
+		assertThat(deletedPersons).containsExactlyInAnyOrder(person1, person2);
+		repository.count()
+			.as(StepVerifier::create).expectNext(0L).verifyComplete();
+	}
+
 	@Test
 	void findBySimpleProperty() {
 		List<PersonWithAllConstructor> personList = Arrays.asList(person1, person2);
@@ -1020,6 +1061,146 @@ class ReactiveRepositoryIT {
 			.verifyComplete();
 	}
 
+	@Test
+	void saveAllShouldReturnIdsInOrderOfInputAcrossBatches() {
+
+		neo4jTemplate.setBatchSize(2);
+		try {
+			Flux<PersonWithAllConstructor> people = Flux.concat(
+				Mono.fromSupplier(() -> newPerson("New 1")), repository.findById(id1),
+				Mono.fromSupplier(() -> newPerson("New 2")), repository.findById(id2),
+				Mono.fromSupplier(() -> newPerson("New 3")));
+
+			List<PersonWithAllConstructor> savedPeople = new ArrayList<>();
+			TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+			transactionalOperator
+				.execute(t -> people.collectList().flatMapMany(neo4jTemplate::saveAll))
+				.as(StepVerifier::create)
+				.recordWith(() -> savedPeople)
+				.expectNextCount(5L)
+				.verifyComplete();
+
+			assertThat(savedPeople).extracting(PersonWithAllConstructor::getName)
+				.containsExactly("New 1", TEST_PERSON1_NAME, "New 2", TEST_PERSON2_NAME, "New 3");
+			assertThat(savedPeople.get(1).getId()).isEqualTo(id1);
+			assertThat(savedPeople.get(3).getId()).isEqualTo(id2);
+
+			try (Session session = driver.session(getSessionConfig())) {
+				List<String> storedNames = session.run(
+					"UNWIND $ids AS id MATCH (n:PersonWithAllConstructor) WHERE id(n) = id RETURN n.name AS name",
+					parameters("ids", savedPeople.stream().map(PersonWithAllConstructor::getId).collect(toList()))
+				).list(r -> r.get("name").asString());
+				assertThat(storedNames)
+					.containsExactly("New 1", TEST_PERSON1_NAME, "New 2", TEST_PERSON2_NAME, "New 3");
+			}
+		} finally {
+			neo4jTemplate.setBatchSize(ReactiveNeo4jTemplate.DEFAULT_BATCH_SIZE);
+		}
+	}
+
+	@Test
+	void saveAllShouldRecreateDeletedNodes() {
+
+		Flux<PersonWithAllConstructor> people = repository.findById(id1)
+			.concatWith(repository.findById(id2))
+			.collectList()
+			.doOnNext(loadedPeople -> {
+				try (Session session = driver.session(getSessionConfig())) {
+					session.run("MATCH (n) WHERE id(n) = $id DETACH DELETE n", parameters("id", id1)).consume();
+				}
+			})
+			.flatMapMany(Flux::fromIterable);
+
+		List<PersonWithAllConstructor> savedPeople = new ArrayList<>();
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> people.collectList().flatMapMany(neo4jTemplate::saveAll))
+			.as(StepVerifier::create)
+			.recordWith(() -> savedPeople)
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		assertThat(savedPeople.get(0).getId()).isNotNull().isNotEqualTo(id1);
+		assertThat(savedPeople.get(1).getId()).isEqualTo(id2);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Record record = session.run(
+				"MATCH (n:PersonWithAllConstructor) RETURN count(n) AS cnt, collect(id(n)) AS ids").single();
+			assertThat(record.get("cnt").asLong()).isEqualTo(2L);
+			assertThat(record.get("ids").asList(Value::asLong)).contains(savedPeople.get(0).getId());
+		}
+	}
+
+	@Test
+	void ingestShouldRunEachBatchInATransactionOfItsOwn() {
+
+		AtomicInteger commits = new AtomicInteger();
+		neo4jTemplate.setBatchSize(2);
+		neo4jTemplate.setTransactionManager(new ReactiveTransactionManager() {
+			@Override
+			public Mono<ReactiveTransaction> getReactiveTransaction(TransactionDefinition definition) {
+				return transactionManager.getReactiveTransaction(definition);
+			}
+
+			@Override
+			public Mono<Void> commit(ReactiveTransaction transaction) {
+				return transactionManager.commit(transaction).doOnSuccess(v -> commits.incrementAndGet());
+			}
+
+			@Override
+			public Mono<Void> rollback(ReactiveTransaction transaction) {
+				return transactionManager.rollback(transaction);
+			}
+		});
+		try {
+			neo4jTemplate.ingest(Flux.range(1, 5).map(i -> newPerson("New " + i)), 2)
+				.as(StepVerifier::create)
+				.assertNext(summary -> {
+					assertThat(summary.getNumberOfEntities()).isEqualTo(5L);
+					assertThat(summary.getNumberOfBatches()).isEqualTo(3L);
+				})
+				.verifyComplete();
+
+			assertThat(commits).hasValue(3);
+			repository.count()
+				.as(StepVerifier::create)
+				.expectNext(7L)
+				.verifyComplete();
+		} finally {
+			neo4jTemplate.setBatchSize(ReactiveNeo4jTemplate.DEFAULT_BATCH_SIZE);
+			neo4jTemplate.setTransactionManager(transactionManager);
+		}
+	}
+
+	@Test
+	void ingestShouldSaveBatchesOneAfterAnotherInOngoingTransactions() {
+
+		neo4jTemplate.setBatchSize(2);
+		try {
+			TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+			transactionalOperator
+				.execute(tx -> {
+					tx.setRollbackOnly();
+					return neo4jTemplate.ingest(Flux.range(1, 5).map(i -> newPerson("New " + i)), 4);
+				})
+				.as(StepVerifier::create)
+				.assertNext(summary -> assertThat(summary.getNumberOfEntities()).isEqualTo(5L))
+				.verifyComplete();
+
+			repository.count()
+				.as(StepVerifier::create)
+				.expectNext(2L)
+				.verifyComplete();
+		} finally {
+			neo4jTemplate.setBatchSize(ReactiveNeo4jTemplate.DEFAULT_BATCH_SIZE);
+		}
+	}
+
+	private static PersonWithAllConstructor newPerson(String name) {
+		return new PersonWithAllConstructor(null, name, null, TEST_PERSON_SAMEVALUE, false, null, null, null, emptyList(),
+			null, null);
+	}
+
 	@Test
 	void saveAllIterable() {
 
@@ -1292,6 +1473,219 @@ class ReactiveRepositoryIT {
 		}
 	}
 
+	@Test
+	void savedAggregatesShouldBeLoadedUnchanged() {
+
+		PersonWithRelationship person = newPersonWithRelationships("Freddie");
+
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> relationshipRepository.save(person))
+			.flatMap(savedPerson -> relationshipRepository.findById(savedPerson.getId()))
+			.as(StepVerifier::create)
+			.assertNext(loadedPerson -> {
+				assertThat(loadedPerson.getName()).isEqualTo("Freddie");
+				assertThat(loadedPerson.getHobbies()).isEqualTo(person.getHobbies());
+				assertThat(loadedPerson.getClub().getId()).isEqualTo(person.getClub().getId());
+				assertThat(loadedPerson.getClub().getName()).isEqualTo("ClownsClub");
+				assertThat(loadedPerson.getPets()).containsExactlyInAnyOrderElementsOf(person.getPets());
+
+				Pet jerry = loadedPerson.getPets().get(loadedPerson.getPets().indexOf(person.getPets().get(0)));
+				assertThat(jerry.getHobbies()).containsExactlyElementsOf(person.getPets().get(0).getHobbies());
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	void saveAllShouldSaveAggregatesSharingRelatedNodes() {
+
+		PersonWithRelationship freddie = newPersonWithRelationships("Freddie");
+		PersonWithRelationship brian = new PersonWithRelationship();
+		brian.setName("Brian");
+		brian.setHobbies(freddie.getHobbies());
+		brian.setPets(Arrays.asList(new Pet("Garfield"), freddie.getPets().get(1)));
+
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> relationshipRepository.saveAll(Arrays.asList(freddie, brian)))
+			.as(StepVerifier::create)
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelationship) "
+				+ "RETURN n.name AS name, "
+				+ "[(n)-[:Has]->(h:Hobby) | h.name] AS hobbies, "
+				+ "[(n)-[:Has]->(p:Pet) | p.name] AS pets "
+				+ "ORDER BY name").list();
+			assertThat(records).extracting(r -> r.get("name").asString()).containsExactly("Brian", "Freddie");
+			assertThat(records.get(0).get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(records.get(0).get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Garfield", "Tom");
+			assertThat(records.get(1).get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(records.get(1).get("pets").asList(Value::asString)).containsExactlyInAnyOrder("Jerry", "Tom");
+
+			assertThat(session.run("MATCH (h:Hobby {name: 'Music'}) RETURN count(h)").single().get(0).asLong())
+				.isEqualTo(1L);
+			assertThat(session.run("MATCH (p:Pet {name: 'Tom'}) RETURN count(p)").single().get(0).asLong())
+				.isEqualTo(1L);
+			assertThat(session.run("MATCH (:Pet {name: 'Jerry'})-[:Has]->(h:Hobby) RETURN h.name").single().get(0)
+				.asString()).isEqualTo("sleeping");
+		}
+	}
+
+	@Test
+	void resavingLoadedAggregatesShouldNotChangeTheGraph() {
+
+		List<Long> ids = new ArrayList<>();
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> relationshipRepository.save(newPersonWithRelationships("Freddie"))
+				.map(PersonWithRelationship::getId))
+			.as(StepVerifier::create)
+			.recordWith(() -> ids)
+			.expectNextCount(1L)
+			.verifyComplete();
+		List<Long> numberOfNodesAndRelationships = countNodesAndRelationships();
+
+		transactionalOperator
+			.execute(t -> relationshipRepository.findById(ids.get(0)).flatMap(relationshipRepository::save))
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+		assertThat(countNodesAndRelationships()).isEqualTo(numberOfNodesAndRelationships);
+
+		transactionalOperator
+			.execute(t -> relationshipRepository.saveAll(relationshipRepository.findAll()))
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+		assertThat(countNodesAndRelationships()).isEqualTo(numberOfNodesAndRelationships);
+	}
+
+	@Test
+	void removedRelationshipsShouldBeDeletedWithoutDeletingTheRelatedNodes() {
+
+		List<Long> ids = new ArrayList<>();
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> relationshipRepository.save(newPersonWithRelationships("Freddie"))
+				.map(PersonWithRelationship::getId))
+			.as(StepVerifier::create)
+			.recordWith(() -> ids)
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		transactionalOperator
+			.execute(t -> relationshipRepository.findById(ids.get(0))
+				.map(loadedPerson -> {
+					loadedPerson.getPets().removeIf(pet -> "Tom".equals(pet.getName()));
+					loadedPerson.setClub(null);
+					return loadedPerson;
+				})
+				.flatMap(relationshipRepository::save))
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			Record record = session.run("MATCH (n:PersonWithRelationship) WHERE id(n) = $id "
+				+ "RETURN [(n)-[:Has]->(h:Hobby) | h.name] AS hobbies, "
+				+ "[(n)-[:Has]->(p:Pet) | p.name] AS pets, "
+				+ "[(n)-[:Has]->(:Pet)-[:Has]->(h:Hobby) | h.name] AS hobbiesOfPets, "
+				+ "[(n)<-[:Has]-(c:Club) | c.name] AS clubs", Values.parameters("id", ids.get(0))).single();
+			assertThat(record.get("hobbies").asList(Value::asString)).containsExactly("Music");
+			assertThat(record.get("pets").asList(Value::asString)).containsExactly("Jerry");
+			assertThat(record.get("hobbiesOfPets").asList(Value::asString)).containsExactly("sleeping");
+			assertThat(record.get("clubs").asList(Value::asString)).isEmpty();
+
+			assertThat(session.run("MATCH (p:Pet) RETURN count(p)").single().get(0).asLong()).isEqualTo(2L);
+			assertThat(session.run("MATCH (c:Club) RETURN count(c)").single().get(0).asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void relationshipsWithPropertiesShouldBeUpdatedAndRemoved() {
+
+		Hobby music = new Hobby();
+		music.setName("Music");
+		Hobby football = new Hobby();
+		football.setName("Football");
+		Map<Hobby, LikesHobbyRelationship> hobbies = new HashMap<>();
+		hobbies.put(music, new LikesHobbyRelationship(1995));
+		hobbies.put(football, new LikesHobbyRelationship(2000));
+		PersonWithRelationshipWithProperties person = new PersonWithRelationshipWithProperties("Freddie");
+		person.setHobbies(hobbies);
+
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		transactionalOperator
+			.execute(t -> relationshipWithPropertiesRepository.save(person))
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		long id;
+		try (Session session = driver.session(getSessionConfig())) {
+			id = session.run("MATCH (n:PersonWithRelationshipWithProperties) RETURN id(n)").single().get(0).asLong();
+		}
+
+		transactionalOperator
+			.execute(t -> relationshipWithPropertiesRepository.findById(id)
+				.map(loadedPerson -> {
+					assertThat(loadedPerson.getHobbies()).containsOnly(
+						MapEntry.entry(music, new LikesHobbyRelationship(1995)),
+						MapEntry.entry(football, new LikesHobbyRelationship(2000)));
+
+					Map<Hobby, LikesHobbyRelationship> changedHobbies = new HashMap<>();
+					changedHobbies.put(music, new LikesHobbyRelationship(2020));
+					loadedPerson.setHobbies(changedHobbies);
+					return loadedPerson;
+				})
+				.flatMap(relationshipWithPropertiesRepository::save))
+			.as(StepVerifier::create)
+			.expectNextCount(1L)
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+
+			List<Record> records = session.run("MATCH (n:PersonWithRelationshipWithProperties)-[l:LIKES]->(h:Hobby) "
+				+ "RETURN h.name AS name, l.since AS since").list();
+			assertThat(records).extracting(r -> r.get("name").asString(), r -> r.get("since").asInt())
+				.containsExactly(tuple("Music", 2020));
+
+			assertThat(session.run("MATCH (h:Hobby) RETURN count(h)").single().get(0).asLong()).isEqualTo(2L);
+		}
+	}
+
+	private static PersonWithRelationship newPersonWithRelationships(String name) {
+
+		PersonWithRelationship person = new PersonWithRelationship();
+		person.setName(name);
+		Hobby hobby = new Hobby();
+		hobby.setName("Music");
+		person.setHobbies(hobby);
+		Club club = new Club();
+		club.setName("ClownsClub");
+		person.setClub(club);
+		Pet pet1 = new Pet("Jerry");
+		Pet pet2 = new Pet("Tom");
+		Hobby petHobby = new Hobby();
+		petHobby.setName("sleeping");
+		pet1.setHobbies(singleton(petHobby));
+		person.setPets(new ArrayList<>(Arrays.asList(pet1, pet2)));
+		return person;
+	}
+
+	private List<Long> countNodesAndRelationships() {
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Record record = session.run("MATCH (n) OPTIONAL MATCH (n)-[r]->() "
+				+ "RETURN count(DISTINCT n) AS nodes, count(r) AS relationships").single();
+			return Arrays.asList(record.get("nodes").asLong(), record.get("relationships").asLong());
+		}
+	}
+
 	@Test
 	void updateSingleEntity() {
 
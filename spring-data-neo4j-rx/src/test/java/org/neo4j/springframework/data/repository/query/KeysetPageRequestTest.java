@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * @author Michael J. Simons
+ */
+class KeysetPageRequestTest {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Neo4jPersistentEntity<?> entity;
+
+	KeysetPageRequestTest() {
+
+		this.mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(TestEntity.class));
+		mappingContext.initialize();
+		this.entity = mappingContext.getRequiredPersistentEntity(TestEntity.class);
+	}
+
+	private String renderPage(KeysetPageRequest pageRequest) {
+
+		Node node = Cypher.node("TestEntity").named("n");
+		Statement statement = Cypher.match(node)
+			.where(CypherAdapterUtils.createKeysetCondition(entity, pageRequest))
+			.returning(node)
+			.orderBy(CypherAdapterUtils.toKeysetSortItems(entity, pageRequest.getSort()))
+			.limit(pageRequest.getPageSize())
+			.build();
+		return Renderer.getDefaultRenderer().render(statement);
+	}
+
+	@Test
+	void firstPageShouldNotHaveAConditionButATotalOrder() {
+
+		KeysetPageRequest firstPage = KeysetPageRequest.of(10, Sort.by("name"));
+
+		assertThat(firstPage.hasKeys()).isFalse();
+		assertThat(CypherAdapterUtils.createKeysetParameters(firstPage)).isEmpty();
+		assertThat(renderPage(firstPage))
+			.isEqualTo("MATCH (n:`TestEntity`) RETURN n ORDER BY n.name ASC, id(n) ASC LIMIT 10");
+	}
+
+	@Test
+	void followingPagesShouldStartAfterTheKeys() {
+
+		KeysetPageRequest nextPage = KeysetPageRequest.of(10, Sort.by(Sort.Order.desc("name"))).after(4711L, "Ford");
+
+		assertThat(nextPage.hasKeys()).isTrue();
+		assertThat(nextPage.getPageNumber()).isEqualTo(1);
+		assertThat(CypherAdapterUtils.createKeysetParameters(nextPage))
+			.containsOnly(entry("__keyset0__", "Ford"), entry("__keyset1__", 4711L));
+		assertThat(renderPage(nextPage))
+			.contains("n.name < $__keyset0__")
+			.contains("n.name = $__keyset0__ AND id(n) > $__keyset1__")
+			.doesNotContain("SKIP")
+			.endsWith("ORDER BY n.name DESC, id(n) ASC LIMIT 10");
+	}
+
+	@Test
+	void shouldRequireAValueForEachSortProperty() {
+
+		KeysetPageRequest firstPage = KeysetPageRequest.of(10, Sort.by("name"));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> firstPage.after(4711L))
+			.withMessage("Expected 1 values for the sort properties, got 0.");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(firstPage::next);
+		assertThat(firstPage.after(4711L, "Ford").first()).isEqualTo(firstPage);
+	}
+
+	@Test
+	void keysetConditionShouldNotBeMergedIntoDerivedOrConditions() {
+
+		Method method = ReflectionUtils.findMethod(TestRepository.class, "findAllByNameOrNameStartingWith",
+			String.class, String.class, Pageable.class);
+		Neo4jQueryMethod queryMethod = new Neo4jQueryMethod(method,
+			new DefaultRepositoryMetadata(TestRepository.class), new SpelAwareProxyProjectionFactory());
+		KeysetPageRequest nextPage = KeysetPageRequest.of(10, Sort.by("name")).after(4711L, "Ford");
+
+		CypherQueryCreator queryCreator = new CypherQueryCreator(mappingContext, TestEntity.class,
+			Neo4jQueryType.DEFAULT, new PartTree(method.getName(), TestEntity.class),
+			new ParametersParameterAccessor(queryMethod.getParameters(), new Object[] { "Ford", "Pre", nextPage }),
+			Collections.emptyList(), Function.identity(), true, false);
+		QueryAndParameters queryAndParameters = queryCreator.createQuery();
+
+		assertThat(queryAndParameters.getQuery())
+			.containsPattern("WHERE \\(\\(n\\.name = \\$\\w+ OR n\\.name STARTS WITH \\$\\w+\\) AND "
+				+ "\\(n\\.name > \\$__keyset0__ OR \\(n\\.name = \\$__keyset0__ AND id\\(n\\) > \\$__keyset1__\\)\\)\\)")
+			.contains("ORDER BY n.name ASC, id(n) ASC LIMIT");
+		assertThat(queryAndParameters.getParameters())
+			.containsEntry("__keyset0__", Values.value("Ford"))
+			.containsEntry("__keyset1__", Values.value(4711L));
+	}
+
+	@Test
+	void keysShouldBeWrittenLikeTheSortProperties() {
+
+		KeysetPageRequest nextPage = KeysetPageRequest.of(10, Sort.by("name", "status"))
+			.after(4711L, "Ford", Status.ACTIVE);
+
+		assertThat(CypherAdapterUtils.createKeysetParameters(entity, nextPage, mappingContext.getConverter()))
+			.containsOnly(
+				entry("__keyset0__", Values.value("Ford")),
+				entry("__keyset1__", Values.value("ACTIVE")),
+				entry("__keyset2__", Values.value(4711L)));
+	}
+
+	enum Status {
+		ACTIVE, INACTIVE
+	}
+
+	static class TestEntity {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private String name;
+
+		private Status status;
+	}
+
+	interface TestRepository extends Repository<TestEntity, Long> {
+
+		Slice<TestEntity> findAllByNameOrNameStartingWith(String name, String prefix, Pageable pageable);
+	}
+}
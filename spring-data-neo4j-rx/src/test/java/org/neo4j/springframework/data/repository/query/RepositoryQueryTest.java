@@ -112,6 +112,36 @@ final class RepositoryQueryTest {
 			assertThat(neo4jQueryMethod.isCollectionLikeQuery()).isTrue();
 		}
 
+		@Test
+		void existsQueriesShouldBeComputedOnTheServer() {
+
+			assertThat(Neo4jQuerySupport.getTypeOfValueComputedOnServer(Neo4jQueryType.EXISTS,
+				neo4jQueryMethod("existsByName", String.class))).isEqualTo(Boolean.class);
+		}
+
+		@Test
+		void deleteQueriesDeclaringNumbersOrNothingShouldBeComputedOnTheServer() {
+
+			assertThat(Neo4jQuerySupport.getTypeOfValueComputedOnServer(Neo4jQueryType.DELETE,
+				neo4jQueryMethod("deleteByName", String.class))).isEqualTo(Long.class);
+			assertThat(Neo4jQuerySupport.getTypeOfValueComputedOnServer(Neo4jQueryType.DELETE,
+				neo4jQueryMethod("removeByName", String.class))).isEqualTo(Long.class);
+		}
+
+		@Test
+		void deleteQueriesDeclaringEntitiesShouldNotBeComputedOnTheServer() {
+
+			assertThat(Neo4jQuerySupport.getTypeOfValueComputedOnServer(Neo4jQueryType.DELETE,
+				neo4jQueryMethod("deleteAllByName", String.class))).isNull();
+		}
+
+		@Test
+		void otherQueriesShouldNotBeComputedOnTheServer() {
+
+			assertThat(Neo4jQuerySupport.getTypeOfValueComputedOnServer(Neo4jQueryType.DEFAULT,
+				neo4jQueryMethod("findAllByANamedQuery"))).isNull();
+		}
+
 		@Test
 		void shouldFailOnMonoOfPageAsReturnType() {
 			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
@@ -323,6 +353,14 @@ final class RepositoryQueryTest {
 		Mono<Page<TestEntity>> findAllByName(String name, Pageable pageable);
 
 		Mono<Slice<TestEntity>> findAllByNameStartingWith(String name, Pageable pageable);
+
+		boolean existsByName(String name);
+
+		long deleteByName(String name);
+
+		void removeByName(String name);
+
+		List<TestEntity> deleteAllByName(String name);
 	}
 
 	private RepositoryQueryTest() {